@@ -0,0 +1,93 @@
+package com.plataforma.benchmarks.audit;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.plataforma.audit_trail.AuditEvent;
+import com.plataforma.audit_trail.AuditTrail;
+import com.plataforma.audit_trail.AuditTrailAutoConfiguration;
+import com.plataforma.audit_trail.AuditTrailProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Custo que a auditoria acrescenta a cada escrita, medido na thread da requisição.
+ *
+ * <ul>
+ *     <li>OFF: auditoria desativada (linha de base);</li>
+ *     <li>ASYNC: {@link AuditTrail#record}, enfileirando para gravação em lote (configuração atual);</li>
+ *     <li>SYNC: um {@code insert} no MongoDB por evento, a alternativa descartada.</li>
+ * </ul>
+ * Precisa de um MongoDB acessível em {@code -Dbenchmark.mongo.uri} (padrão {@code mongodb://localhost:27017},
+ * o mesmo exposto pelo docker-compose). Os eventos vão para o banco {@code audit_benchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AuditTrailOverheadBenchmark {
+
+    private static final Map<String, String> DETAILS = Map.of("module", "mod-oficina");
+
+    @Param({"OFF", "ASYNC", "SYNC"})
+    public String mode;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private AuditTrail auditTrail;
+
+    @Setup
+    public void setUp() {
+        mongoClient = MongoClients.create(System.getProperty("benchmark.mongo.uri", "mongodb://localhost:27017"));
+        mongoTemplate = new MongoTemplate(mongoClient, "audit_benchmark");
+        mongoTemplate.dropCollection("audit_events");
+
+        AuditTrailProperties properties = new AuditTrailProperties();
+        properties.setEnabled(!mode.equals("OFF"));
+        auditTrail = new AuditTrailAutoConfiguration().auditTrail(mongoTemplate, properties, "benchmarks");
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        auditTrail.destroy();
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public void recordWrite() {
+        String resourceId = Long.toString(counter.incrementAndGet());
+        if (mode.equals("SYNC")) {
+            mongoTemplate.insert(AuditEvent.builder()
+                    .service("benchmarks")
+                    .action("TENANT_MODULE_ADDED")
+                    .resourceType("tenant")
+                    .resourceId(resourceId)
+                    .details(DETAILS)
+                    .occurredAt(Instant.now())
+                    .build(), "audit_events");
+        } else {
+            auditTrail.record("TENANT_MODULE_ADDED", "tenant", resourceId, DETAILS);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.plataforma.benchmarks.auth;
+
+import com.plataforma.authservice.domain.model.User;
+import com.plataforma.authservice.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminhos do login no auth-service que não dependem do MongoDB: emissão do JWT
+ * ({@link JwtService#generateToken}) e conversão dos papéis do usuário ({@link User#getAuthorities()}).
+ * O hash da senha, ordens de grandeza mais caro, fica no {@link PasswordEncoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtService = new JwtService();
+        Field secret = JwtService.class.getDeclaredField("SECRET_KEY");
+        secret.setAccessible(true);
+        secret.set(jwtService, "benchmark-secret-com-pelo-menos-256-bits-para-hs256");
+
+        user = new User();
+        user.setId("66f1c0a2e4b0a1b2c3d4e5f6");
+        user.setEmail("admin@admin.com");
+        user.setRoles(Set.of("ROLE_ADMIN", "ROLE_USER"));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+}
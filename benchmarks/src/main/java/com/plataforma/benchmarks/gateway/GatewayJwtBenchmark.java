@@ -0,0 +1,67 @@
+package com.plataforma.benchmarks.gateway;
+
+import com.plataforma.gateway.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da validação do JWT no Gateway, executada em toda requisição autenticada.
+ *
+ * {@link #authenticate()} repete o que o {@code AuthenticationManager} do Gateway faz por requisição:
+ * {@code extractUsername} seguido de {@code isTokenValid}, ou seja, dois parses com verificação da assinatura.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayJwtBenchmark {
+
+    static final String SECRET = "benchmark-secret-com-pelo-menos-256-bits-para-hs256";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtService = new JwtService();
+        Field secret = JwtService.class.getDeclaredField("SECRET_KEY");
+        secret.setAccessible(true);
+        secret.set(jwtService, SECRET);
+
+        token = Jwts.builder()
+                .setSubject("admin@admin.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(10)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean authenticate() {
+        String username = jwtService.extractUsername(token);
+        return username != null && jwtService.isTokenValid(token);
+    }
+}
@@ -0,0 +1,124 @@
+package com.plataforma.benchmarks.load;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mede quanto da carga de leitura sai do primário com a política de leitura por operação
+ * ({@code plataforma.mongo.read-preference}).
+ *
+ * Lê os contadores de operações ({@code serverStatus.opcounters}) de cada membro do replica set
+ * antes e depois de gerar carga HTTP em um endpoint e reporta a fatia atendida por cada membro.
+ * O replica set local de três membros está em {@code benchmarks/replica-set/docker-compose.yml}.
+ *
+ * Uso:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.plataforma.benchmarks.load.ReadPreferenceOffloadBenchmark \
+ *     localhost:27021,localhost:27022,localhost:27023 http://localhost:8081/api/v1/tenants [concorrencia=32] [segundos=30]
+ * </pre>
+ * O serviço deve ser o único cliente do replica set durante a medição.
+ */
+public final class ReadPreferenceOffloadBenchmark {
+
+    private ReadPreferenceOffloadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Uso: ReadPreferenceOffloadBenchmark <membros host:porta,...> <url> [concorrencia] [segundos]");
+            System.exit(1);
+        }
+        List<String> members = List.of(args[0].split(","));
+        URI uri = URI.create(args[1]);
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+
+        Map<String, MongoClient> clients = new LinkedHashMap<>();
+        for (String member : members) {
+            // Conexão direta: o serverStatus precisa vir de cada membro, e não do que o driver escolher
+            clients.put(member, MongoClients.create("mongodb://" + member + "/?directConnection=true"));
+        }
+        try {
+            Map<String, Long> before = new LinkedHashMap<>();
+            clients.forEach((member, client) -> before.put(member, readOperations(client)));
+
+            long requests = generateLoad(uri, concurrency, duration);
+
+            long total = 0;
+            Map<String, Long> served = new LinkedHashMap<>();
+            for (Map.Entry<String, MongoClient> entry : clients.entrySet()) {
+                long delta = readOperations(entry.getValue()) - before.get(entry.getKey());
+                served.put(entry.getKey(), delta);
+                total += delta;
+            }
+
+            System.out.printf("%d requisições em %s a %s%n", requests, duration, uri);
+            for (Map.Entry<String, Long> entry : served.entrySet()) {
+                boolean primary = isPrimary(clients.get(entry.getKey()));
+                System.out.printf("%-24s %-10s %10d leituras  %5.1f%%%n", entry.getKey(),
+                        primary ? "PRIMARIO" : "secundario", entry.getValue(),
+                        total == 0 ? 0 : entry.getValue() * 100.0 / total);
+            }
+        } finally {
+            clients.values().forEach(MongoClient::close);
+        }
+    }
+
+    private static long generateLoad(URI uri, int concurrency, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong requests = new AtomicLong();
+
+        List<Runnable> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() < 400) {
+                            requests.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        // Erros não entram na contagem; o foco é a distribuição das leituras
+                    }
+                }
+            });
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            workers.forEach(executor::execute);
+        }
+        return requests.get();
+    }
+
+    private static long readOperations(MongoClient client) {
+        Document counters = client.getDatabase("admin").runCommand(new Document("serverStatus", 1))
+                .get("opcounters", Document.class);
+        return ((Number) counters.get("query")).longValue() + ((Number) counters.get("getmore")).longValue();
+    }
+
+    private static boolean isPrimary(MongoClient client) {
+        return client.getDatabase("admin").runCommand(new Document("hello", 1)).getBoolean("isWritablePrimary", false);
+    }
+}
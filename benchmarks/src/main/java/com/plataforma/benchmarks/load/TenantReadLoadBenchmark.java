@@ -0,0 +1,142 @@
+package com.plataforma.benchmarks.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara, lado a lado, duas instâncias do tenant-service sob a mesma carga de leitura:
+ * normalmente uma com o profile padrão (Spring MVC) e outra com o profile {@code reactive} (WebFlux).
+ *
+ * Não é um benchmark JMH: gera carga HTTP real com N clientes concorrentes por um tempo fixo
+ * e reporta vazão e latências (p50/p95/p99) de cada instância.
+ *
+ * Uso:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.plataforma.benchmarks.load.TenantReadLoadBenchmark \
+ *     http://localhost:8081 http://localhost:8082 [concorrencia=64] [segundos=30] [caminho=/api/v1/tenants]
+ * </pre>
+ * As instâncias devem apontar para o mesmo MongoDB e ser acessadas diretamente, sem o Gateway.
+ */
+public final class TenantReadLoadBenchmark {
+
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    private TenantReadLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Uso: TenantReadLoadBenchmark <urlBlocking> <urlReactive> [concorrencia] [segundos] [caminho]");
+            System.exit(1);
+        }
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+        String path = args.length > 4 ? args[4] : "/api/v1/tenants";
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        for (String baseUrl : List.of(args[0], args[1])) {
+            URI uri = URI.create(baseUrl + path);
+            run(client, uri, concurrency, WARMUP);
+            Result result = run(client, uri, concurrency, duration);
+            System.out.printf("%-40s %s%n", uri, result);
+        }
+    }
+
+    private static Result run(HttpClient client, URI uri, int concurrency, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    LatencyBuffer latencies = new LatencyBuffer();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return latencies.toArray();
+                }));
+            }
+        }
+
+        long[] all = workers.stream().map(TenantReadLoadBenchmark::join).flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        return new Result(all.length / (double) duration.toSeconds(), percentile(all, 50), percentile(all, 95),
+                percentile(all, 99), errors.get());
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(double throughput, double p50, double p95, double p99, long errors) {
+
+        @Override
+        public String toString() {
+            return String.format("%10.1f req/s   p50=%7.2f ms   p95=%7.2f ms   p99=%7.2f ms   erros=%d",
+                    throughput, p50, p95, p99, errors);
+        }
+    }
+
+    /**
+     * Lista de latências sem boxing, para que o próprio cliente não gere lixo durante a medição.
+     */
+    private static final class LatencyBuffer {
+
+        private long[] values = new long[4096];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
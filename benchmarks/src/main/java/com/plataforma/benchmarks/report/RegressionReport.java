@@ -0,0 +1,128 @@
+package com.plataforma.benchmarks.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dois resultados JMH em JSON ({@code -rf json}) e aponta regressões acima de um limite.
+ *
+ * Cada benchmark é identificado pelo nome mais os parâmetros ({@code @Param}). Em modo de vazão
+ * ({@code thrpt}) maior é melhor; nos demais (tempo médio, amostragem, single shot) menor é melhor.
+ * Uma variação só é regressão se passar do limite percentual <b>e</b> da soma dos erros das duas medições,
+ * para que ruído não quebre o build.
+ *
+ * Uso:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.plataforma.benchmarks.report.RegressionReport \
+ *     base.json atual.json [limite%=10]
+ * </pre>
+ * Sai com código 1 se houver alguma regressão.
+ */
+public final class RegressionReport {
+
+    private RegressionReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: RegressionReport <base.json> <atual.json> [limite%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Row> rows = compare(read(objectMapper, Path.of(args[0])), read(objectMapper, Path.of(args[1])), threshold);
+
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Base", "Atual", "Variação");
+        rows.forEach(row -> System.out.println(row.format()));
+        long regressions = rows.stream().filter(Row::regression).count();
+        System.out.printf("%n%d regressão(ões) acima de %.1f%%.%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Uma linha por benchmark: primeiro os do resultado atual (novos inclusive), depois os removidos.
+     */
+    static List<Row> compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        List<Row> rows = new ArrayList<>(current.size());
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                rows.add(new Row(entry.getKey(), null, now, Double.NaN, false));
+                continue;
+            }
+            // Variação positiva significa piora, qualquer que seja o modo
+            double change = (now.score - before.score) / before.score * 100.0 * (now.higherIsBetter() ? -1 : 1);
+            boolean beyondNoise = Math.abs(now.score - before.score) > now.error + before.error;
+            rows.add(new Row(entry.getKey(), before, now, change, change > threshold && beyondNoise));
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> rows.add(new Row(key, baseline.get(key), null, Double.NaN, false)));
+        return rows;
+    }
+
+    static Map<String, Score> read(ObjectMapper objectMapper, Path file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode run : objectMapper.readTree(file.toFile())) {
+            JsonNode metric = run.get("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(key(run), new Score(run.get("mode").asText(), metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.get("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static String key(JsonNode run) {
+        String name = run.get("benchmark").asText().replace("com.plataforma.benchmarks.", "");
+        JsonNode params = run.get("params");
+        if (params == null) {
+            return name;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        fields.forEachRemaining(field -> values.put(field.getKey(), field.getValue().asText()));
+        return name + values;
+    }
+
+    record Score(String mode, double score, double error, String unit) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        String format() {
+            return String.format("%.3f %s", score, unit);
+        }
+    }
+
+    /**
+     * @param before {@code null} se o benchmark é novo.
+     * @param now    {@code null} se o benchmark foi removido.
+     * @param change variação percentual (positiva é piora), ou {@code NaN} se um dos lados não existe.
+     */
+    record Row(String benchmark, Score before, Score now, double change, boolean regression) {
+
+        String format() {
+            if (before == null) {
+                return String.format("%-90s %14s %14s %9s", benchmark, "-", now.format(), "novo");
+            }
+            if (now == null) {
+                return String.format("%-90s %14s %14s %9s", benchmark, before.format(), "-", "removido");
+            }
+            return String.format("%-90s %14s %14s %+8.1f%%%s", benchmark, before.format(), now.format(), change,
+                    regression ? "  REGRESSÃO" : "");
+        }
+    }
+}
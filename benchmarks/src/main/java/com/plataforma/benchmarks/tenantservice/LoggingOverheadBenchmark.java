@@ -0,0 +1,173 @@
+package com.plataforma.benchmarks.tenantservice;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.filter.ThresholdFilter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.plataforma.tenant_service.config.logging.DebugDiscardingAsyncAppender;
+import com.plataforma.tenant_service.config.logging.LevelBelowFilter;
+import com.plataforma.tenant_service.config.logging.TraceSampledDebugTurboFilter;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Custo de logging por requisição no tenant-service.
+ *
+ * Cada chamada de {@link #request()} emite as mesmas linhas que o TenantController e o
+ * TenantServiceImpl emitem em uma criação de tenant (3 INFO + 2 DEBUG), com traceId/spanId no MDC,
+ * e compara três pipelines:
+ * <ul>
+ *     <li>SYNC: configuração anterior, encoder JSON escrevendo direto na thread da requisição;</li>
+ *     <li>ASYNC: filas assíncronas do logback-spring.xml, sem amostragem;</li>
+ *     <li>ASYNC_SAMPLED: filas assíncronas mais a amostragem de DEBUG por traceId (configuração atual).</li>
+ * </ul>
+ * Rode com {@code -prof gc} para ver também a alocação por requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingOverheadBenchmark {
+
+    private static final String TENANT_ID = "66f1c0a2e4b0a1b2c3d4e5f6";
+    private static final String TENANT_NAME = "Oficina do Zé";
+
+    @Param({"SYNC", "ASYNC", "ASYNC_SAMPLED"})
+    public String pipeline;
+
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".json");
+
+        // Usa o contexto ligado ao SLF4J para que o MDC seja o mesmo usado pelos eventos
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.addIncludeMdcKeyName("traceId");
+        encoder.addIncludeMdcKeyName("spanId");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE_JSON");
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        Logger plataforma = context.getLogger("com.plataforma");
+        plataforma.setLevel(Level.DEBUG);
+        plataforma.setAdditive(false);
+
+        if (pipeline.equals("SYNC")) {
+            plataforma.addAppender(file);
+        } else {
+            plataforma.addAppender(asyncInfo(file));
+            plataforma.addAppender(asyncWarn(file));
+        }
+        if (pipeline.equals("ASYNC_SAMPLED")) {
+            TraceSampledDebugTurboFilter sampler = new TraceSampledDebugTurboFilter();
+            sampler.setContext(context);
+            sampler.start();
+            context.addTurboFilter(sampler);
+        }
+
+        controllerLog = context.getLogger("com.plataforma.tenant_service.adapter.in.web.TenantController");
+        serviceLog = context.getLogger("com.plataforma.tenant_service.domain.service.TenantServiceImpl");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void request() {
+        long requestId = requestCounter.incrementAndGet();
+        MDC.put("traceId", Long.toHexString(requestId * 0x9E3779B97F4A7C15L));
+        MDC.put("spanId", Long.toHexString(requestId));
+        try {
+            controllerLog.info("Recebida requisição para criar um novo tenant com nome: {}", TENANT_NAME);
+            serviceLog.debug("Executando lógica de negócio para criar tenant: {}", TENANT_NAME);
+            serviceLog.debug("Tenant pré-processado, pronto para salvar. Chamando a porta de persistência.");
+            serviceLog.info("Tenant '{}' (ID: {}) persistido com sucesso no banco de dados.", TENANT_NAME, TENANT_ID);
+            controllerLog.info("Requisição para criar tenant finalizada. Tenant ID: {}", TENANT_ID);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    // Mesmas configurações do ASYNC_INFO em logback-spring.xml
+    private Appender<ILoggingEvent> asyncInfo(Appender<ILoggingEvent> target) {
+        LevelBelowFilter filter = new LevelBelowFilter();
+        filter.setLevel("WARN");
+        filter.start();
+
+        AsyncAppender async = new DebugDiscardingAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC_INFO");
+        async.addFilter(filter);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1638);
+        async.setNeverBlock(true);
+        async.setMaxFlushTime(1000);
+        async.addAppender(target);
+        async.start();
+        return async;
+    }
+
+    // Mesmas configurações do ASYNC_WARN em logback-spring.xml
+    private Appender<ILoggingEvent> asyncWarn(Appender<ILoggingEvent> target) {
+        ThresholdFilter filter = new ThresholdFilter();
+        filter.setLevel("WARN");
+        filter.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC_WARN");
+        async.addFilter(filter);
+        async.setQueueSize(1024);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(false);
+        async.setMaxFlushTime(1000);
+        async.addAppender(target);
+        async.start();
+        return async;
+    }
+}
@@ -0,0 +1,116 @@
+package com.plataforma.benchmarks.tenantservice;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.plataforma.tenant_service.adapter.in.web.TenantJsonCache;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escrita da listagem de Tenants ({@code GET /api/v1/tenants}) no corpo da resposta: serialização pelo
+ * Jackson a cada requisição (como o conversor do Spring MVC fazia) vs. fragmentos em cache do
+ * {@link TenantJsonCache}.
+ *
+ * Com {@code changedPercent} maior que zero, essa fração dos Tenants muda de versão a cada operação e
+ * precisa ser serializada de novo. Rode com {@code -prof gc} para comparar a alocação por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantJsonCacheBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param({"0", "1"})
+    public int changedPercent;
+
+    private final OutputStream response = OutputStream.nullOutputStream();
+
+    private ObjectWriter writer;
+    private TenantJsonCache cache;
+    private List<Tenant> tenants;
+    private int nextChanged;
+
+    @Setup
+    public void setUp() {
+        JsonMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Tenant.class));
+        cache = new TenantJsonCache(objectMapper, size * 2);
+
+        LocalDateTime now = LocalDateTime.now();
+        tenants = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tenants.add(Tenant.builder()
+                    .id(String.format("66f1c0a2e4b0a1b2%08x", i))
+                    .name("Oficina " + i)
+                    .status(Tenant.TenantStatus.ACTIVE)
+                    .subscribedModules(Set.of("mod-oficina", "mod-financeiro"))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(1L)
+                    .build());
+        }
+
+        byte[] cached = cache.array(tenants).toByteArray();
+        byte[] jackson;
+        try {
+            jackson = writer.writeValueAsBytes(tenants);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        if (!Arrays.equals(cached, jackson)) {
+            throw new IllegalStateException("O JSON montado pelo cache difere do gerado pelo Jackson.");
+        }
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        touchChanged();
+        writer.writeValue(response, tenants);
+    }
+
+    @Benchmark
+    public void preSerialized() throws IOException {
+        touchChanged();
+        cache.array(tenants).writeTo(response);
+    }
+
+    /**
+     * Simula escritas entre duas leituras: os próximos {@code changedPercent}% dos Tenants ganham uma nova versão.
+     */
+    private void touchChanged() {
+        int changed = size * changedPercent / 100;
+        for (int i = 0; i < changed; i++) {
+            Tenant tenant = tenants.get(nextChanged);
+            tenant.setVersion(tenant.getVersion() + 1);
+            nextChanged = (nextChanged + 1) % size;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.plataforma.benchmarks.tenantservice;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.plataforma.tenant_service.adapter.in.web.dto.CreateTenantRequest;
+import com.plataforma.tenant_service.adapter.in.web.mapper.TenantMapper;
+import com.plataforma.tenant_service.adapter.in.web.mapper.TenantMapperImpl;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões do tenant-service na borda HTTP: o mapeamento do DTO de criação ({@link TenantMapper#toTenant})
+ * e a serialização JSON da listagem de Tenants ({@code GET /api/v1/tenants}) para tamanhos variados.
+ *
+ * O {@link JsonMapper} segue a configuração padrão do Spring Boot (módulos registrados, datas em ISO-8601).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantMappingBenchmark {
+
+    private final TenantMapper mapper = new TenantMapperImpl();
+    private final CreateTenantRequest request = new CreateTenantRequest("Oficina do Zé", Set.of("mod-oficina", "mod-financeiro"));
+
+    @Benchmark
+    public Tenant toTenant() {
+        return mapper.toTenant(request);
+    }
+
+    @Benchmark
+    public byte[] serializeList(TenantList list) throws IOException {
+        return list.writer.writeValueAsBytes(list.tenants);
+    }
+
+    /**
+     * Listagem serializada, parametrizada pela quantidade de Tenants (só afeta {@link #serializeList}).
+     */
+    @State(Scope.Benchmark)
+    public static class TenantList {
+
+        @Param({"10", "100", "1000"})
+        public int size;
+
+        private ObjectWriter writer;
+        private List<Tenant> tenants;
+
+        @Setup
+        public void setUp() {
+            JsonMapper objectMapper = JsonMapper.builder()
+                    .findAndAddModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Tenant.class));
+
+            LocalDateTime now = LocalDateTime.now();
+            tenants = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                tenants.add(Tenant.builder()
+                        .id(String.format("66f1c0a2e4b0a1b2%08x", i))
+                        .name("Oficina " + i)
+                        .status(Tenant.TenantStatus.ACTIVE)
+                        .subscribedModules(Set.of("mod-oficina", "mod-financeiro"))
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .version((long) i)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.plataforma.benchmarks.tenantservice;
+
+import com.plataforma.tenant_service.domain.model.TenantSearchHit;
+import com.plataforma.tenant_service.domain.service.TenantNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência das buscas do {@link TenantNameIndex} e memória ocupada pelo índice.
+ *
+ * A memória é medida no setup, pela diferença do heap usado antes e depois da carga (após GC),
+ * e impressa na saída do JMH como "Memória do índice". Rode com {@code -jvmArgs -Xmx4g} para 1M de tenants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TenantNameIndexBenchmark {
+
+    private static final String[] SEGMENTS = {"Oficina", "Clínica", "Consultório", "Auto Center", "Mecânica", "Padaria",
+            "Farmácia", "Estúdio", "Escritório", "Pet Shop", "Academia", "Restaurante"};
+    private static final String[] NAMES = {"do Zé", "São João", "Boa Vista", "Santa Luzia", "Central", "Primavera",
+            "Bela Vista", "Nova Era", "Dois Irmãos", "Paraíso", "Aliança", "Horizonte", "Progresso", "Esperança"};
+
+    @Param({"100000", "1000000"})
+    public int tenants;
+
+    private TenantNameIndex index;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        index = new TenantNameIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < tenants; i++) {
+            String name = SEGMENTS[random.nextInt(SEGMENTS.length)] + " " + NAMES[random.nextInt(NAMES.length)] + " " + i;
+            index.put(Integer.toHexString(i), name);
+        }
+        long bytes = usedHeap() - before;
+        System.out.printf("%nMemória do índice: %.1f MB para %d tenants (%.0f bytes por tenant)%n",
+                bytes / 1024.0 / 1024.0, tenants, bytes / (double) tenants);
+    }
+
+    @Benchmark
+    public List<TenantSearchHit> prefixFullName() {
+        return index.search("oficina do z", 20);
+    }
+
+    @Benchmark
+    public List<TenantSearchHit> prefixWord() {
+        return index.search("luzia 12", 20);
+    }
+
+    @Benchmark
+    public List<TenantSearchHit> fuzzyTypo() {
+        // Sem correspondência de prefixo: só a busca por trigramas responde
+        return index.search("consltorio esperanca 4217", 20);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
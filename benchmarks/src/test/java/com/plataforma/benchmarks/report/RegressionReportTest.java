@@ -0,0 +1,121 @@
+package com.plataforma.benchmarks.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plataforma.benchmarks.report.RegressionReport.Row;
+import com.plataforma.benchmarks.report.RegressionReport.Score;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RegressionReportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void leONomeSemOPacoteComOsParametros() throws IOException {
+        Path file = directory.resolve("result.json");
+        Files.writeString(file, """
+                [
+                  {
+                    "benchmark": "com.plataforma.benchmarks.auth.PasswordEncoderBenchmark.encode",
+                    "mode": "avgt",
+                    "params": { "strength": "10", "parallel": "true" },
+                    "primaryMetric": { "score": 52.5, "scoreError": 1.25, "scoreUnit": "ms/op" }
+                  },
+                  {
+                    "benchmark": "com.plataforma.benchmarks.gateway.GatewayJwtBenchmark.validate",
+                    "mode": "thrpt",
+                    "primaryMetric": { "score": 1000.0, "scoreError": "NaN", "scoreUnit": "ops/ms" }
+                  }
+                ]
+                """);
+
+        Map<String, Score> scores = RegressionReport.read(new ObjectMapper(), file);
+
+        assertThat(scores).containsOnlyKeys(
+                "auth.PasswordEncoderBenchmark.encode{strength=10, parallel=true}",
+                "gateway.GatewayJwtBenchmark.validate");
+        assertThat(scores.get("auth.PasswordEncoderBenchmark.encode{strength=10, parallel=true}"))
+                .isEqualTo(new Score("avgt", 52.5, 1.25, "ms/op"));
+        // Execuções com uma única iteração não têm margem de erro
+        assertThat(scores.get("gateway.GatewayJwtBenchmark.validate").error()).isZero();
+    }
+
+    @Test
+    void quedaDeVazaoAlemDoLimiteEhRegressao() {
+        Row row = single(new Score("thrpt", 1000, 10, "ops/ms"), new Score("thrpt", 800, 10, "ops/ms"));
+
+        assertThat(row.change()).isCloseTo(20.0, within(1e-9));
+        assertThat(row.regression()).isTrue();
+    }
+
+    @Test
+    void aumentoDoTempoMedioAlemDoLimiteEhRegressao() {
+        Row row = single(new Score("avgt", 10, 0.1, "ms/op"), new Score("avgt", 12, 0.1, "ms/op"));
+
+        assertThat(row.change()).isCloseTo(20.0, within(1e-9));
+        assertThat(row.regression()).isTrue();
+    }
+
+    @Test
+    void melhoraTemVariacaoNegativaENaoEhRegressao() {
+        Row faster = single(new Score("avgt", 10, 0.1, "ms/op"), new Score("avgt", 8, 0.1, "ms/op"));
+        Row moreThroughput = single(new Score("thrpt", 1000, 10, "ops/ms"), new Score("thrpt", 1200, 10, "ops/ms"));
+
+        assertThat(faster.change()).isCloseTo(-20.0, within(1e-9));
+        assertThat(faster.regression()).isFalse();
+        assertThat(moreThroughput.change()).isCloseTo(-20.0, within(1e-9));
+        assertThat(moreThroughput.regression()).isFalse();
+    }
+
+    @Test
+    void variacaoDentroDaMargemDeErroNaoEhRegressao() {
+        // 20% de piora, mas a diferença (2) não passa da soma dos erros (1,5 + 1,5)
+        Row row = single(new Score("avgt", 10, 1.5, "ms/op"), new Score("avgt", 12, 1.5, "ms/op"));
+
+        assertThat(row.regression()).isFalse();
+    }
+
+    @Test
+    void variacaoAbaixoDoLimiteNaoEhRegressao() {
+        Row row = single(new Score("avgt", 10, 0.01, "ms/op"), new Score("avgt", 10.5, 0.01, "ms/op"));
+
+        assertThat(row.change()).isCloseTo(5.0, within(1e-9));
+        assertThat(row.regression()).isFalse();
+    }
+
+    @Test
+    void listaBenchmarksNovosERemovidosSemRegressao() {
+        Score score = new Score("avgt", 10, 0.1, "ms/op");
+
+        List<Row> rows = RegressionReport.compare(Map.of("antigo", score), Map.of("novo", score), 10.0);
+
+        assertThat(rows).extracting(Row::benchmark).containsExactly("novo", "antigo");
+        assertThat(rows).noneMatch(Row::regression);
+        assertThat(rows.get(0).format()).contains("novo").doesNotContain("REGRESSÃO");
+        assertThat(rows.get(1).format()).contains("removido");
+    }
+
+    @Test
+    void linhaDaRegressaoEhMarcada() {
+        Score before = new Score("avgt", 10, 0.1, "ms/op");
+        Score now = new Score("avgt", 12, 0.1, "ms/op");
+
+        assertThat(single(before, now).format()).contains(before.format(), now.format(), "REGRESSÃO");
+    }
+
+    private static Row single(Score before, Score now) {
+        List<Row> rows = RegressionReport.compare(Map.of("b", before), Map.of("b", now), 10.0);
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+}
@@ -0,0 +1,38 @@
+package com.plataforma.audit_trail;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Registro de auditoria de uma alteração feita por um serviço da plataforma.
+ * A coleção é definida por {@code plataforma.audit.collection} (padrão {@code audit_events}).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEvent {
+
+    @Id
+    private String id;
+
+    private String service; // Serviço que gerou o evento, ex: "tenant-service"
+
+    private String action; // Operação executada, ex: "TENANT_CREATED"
+
+    private String resourceType; // Tipo do recurso alterado, ex: "tenant"
+
+    private String resourceId; // ID do recurso alterado
+
+    private String traceId; // Liga o evento aos logs da requisição (Micrometer Tracing)
+
+    private Map<String, String> details; // Dados adicionais da operação
+
+    private Instant occurredAt;
+}
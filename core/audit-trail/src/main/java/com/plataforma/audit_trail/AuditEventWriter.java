@@ -0,0 +1,200 @@
+package com.plataforma.audit_trail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mongodb.MongoServerException;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava os lotes de auditoria no MongoDB com um único {@code insertMany} por lote.
+ *
+ * Se o banco falhar e houver arquivo de contingência, o lote é anexado a ele em NDJSON e reenviado
+ * na próxima gravação bem-sucedida, ou na próxima tentativa periódica ({@link #retrySpillFile}).
+ * A entrega é "pelo menos uma vez": uma falha no meio do reenvio pode duplicar parte dos eventos.
+ * Usado apenas pela thread de gravação do {@link AuditTrail}.
+ */
+class AuditEventWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    // Códigos do MongoDB para um índice que já existe com as mesmas chaves e outras opções (ex: outro TTL)
+    private static final int INDEX_OPTIONS_CONFLICT = 85;
+    private static final int INDEX_KEY_SPECS_CONFLICT = 86;
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditTrailProperties properties;
+    private final Path spillFile;
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private boolean indexReady;
+
+    AuditEventWriter(MongoTemplate mongoTemplate, AuditTrailProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        String file = properties.getSpillFile();
+        this.spillFile = file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    void write(List<AuditEvent> batch) {
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            if (spillFile == null) {
+                log.error("Falha ao gravar {} eventos de auditoria no MongoDB. Os eventos foram descartados.", batch.size(), e);
+                return;
+            }
+            log.warn("Falha ao gravar {} eventos de auditoria no MongoDB. Gravando no arquivo de contingência {}.",
+                    batch.size(), spillFile, e);
+            spill(batch);
+            return;
+        }
+        replaySpillFile();
+    }
+
+    /**
+     * Reenvia o arquivo de contingência, se houver e se o MongoDB responder. Chamado periodicamente pela
+     * thread de gravação: sem isso, o arquivo só seria reenviado depois do próximo evento auditado.
+     */
+    void retrySpillFile() {
+        if (spillFile == null || !Files.exists(spillFile)) {
+            return;
+        }
+        try {
+            // Um ping barato antes de mover e reler o arquivo inteiro
+            mongoTemplate.executeCommand(new Document("ping", 1));
+        } catch (RuntimeException e) {
+            log.debug("MongoDB ainda indisponível. O arquivo de contingência de auditoria será reenviado depois.");
+            return;
+        }
+        replaySpillFile();
+    }
+
+    private void insert(List<AuditEvent> batch) {
+        if (!indexReady) {
+            // Criado na primeira gravação, e não na inicialização, para não depender do MongoDB no startup
+            ensureTtlIndex();
+            indexReady = true;
+        }
+        mongoTemplate.insert(batch, properties.getCollection());
+    }
+
+    private void ensureTtlIndex() {
+        try {
+            mongoTemplate.indexOps(properties.getCollection()).ensureIndex(new Index()
+                    .on("occurredAt", Sort.Direction.ASC)
+                    .expire(properties.getRetention()));
+        } catch (RuntimeException e) {
+            if (!isIndexConflict(e)) {
+                throw e;
+            }
+            // O índice já existe com outra retenção (plataforma.audit.retention foi alterada): ajusta o TTL no lugar
+            updateRetention();
+        }
+    }
+
+    private void updateRetention() {
+        try {
+            mongoTemplate.getDb().runCommand(new Document("collMod", properties.getCollection())
+                    .append("index", new Document("keyPattern", new Document("occurredAt", 1))
+                            .append("expireAfterSeconds", properties.getRetention().toSeconds())));
+            log.info("Retenção do índice TTL da auditoria alterada para {}.", properties.getRetention());
+        } catch (RuntimeException e) {
+            // A auditoria continua sendo gravada, com a retenção anterior
+            log.error("Não foi possível alterar a retenção do índice TTL da auditoria para {}. A retenção anterior continua valendo.",
+                    properties.getRetention(), e);
+        }
+    }
+
+    private static boolean isIndexConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoServerException serverException
+                    && (serverException.getCode() == INDEX_OPTIONS_CONFLICT || serverException.getCode() == INDEX_KEY_SPECS_CONFLICT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void spill(List<AuditEvent> batch) {
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (AuditEvent event : batch) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.error("Falha ao gravar {} eventos de auditoria no arquivo de contingência. Os eventos foram descartados.",
+                    batch.size(), e);
+        }
+    }
+
+    private void replaySpillFile() {
+        if (spillFile == null || !Files.exists(spillFile)) {
+            return;
+        }
+        // Renomeado antes da leitura para que novas falhas durante o reenvio gravem em um arquivo novo
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        try {
+            Files.move(spillFile, replayFile, StandardCopyOption.REPLACE_EXISTING);
+            int replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+                String line;
+                do {
+                    line = reader.readLine();
+                    if (line != null && !line.isBlank()) {
+                        batch.add(objectMapper.readValue(line, AuditEvent.class));
+                    }
+                    if (batch.size() == properties.getBatchSize() || (line == null && !batch.isEmpty())) {
+                        if (!tryInsert(batch)) {
+                            // O banco voltou a falhar: devolve o lote e o restante do arquivo à contingência
+                            spill(batch);
+                            appendToSpillFile(reader);
+                            log.warn("Reenvio do arquivo de contingência interrompido após {} eventos. O restante será reenviado depois.", replayed);
+                            break;
+                        }
+                        replayed += batch.size();
+                        batch.clear();
+                    }
+                } while (line != null);
+            }
+            Files.delete(replayFile);
+            if (replayed > 0) {
+                log.info("{} eventos de auditoria reenviados do arquivo de contingência.", replayed);
+            }
+        } catch (IOException e) {
+            log.error("Falha ao reenviar o arquivo de contingência de auditoria {}.", replayFile, e);
+        }
+    }
+
+    private boolean tryInsert(List<AuditEvent> batch) {
+        try {
+            insert(batch);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void appendToSpillFile(BufferedReader remaining) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            remaining.transferTo(writer);
+        }
+    }
+}
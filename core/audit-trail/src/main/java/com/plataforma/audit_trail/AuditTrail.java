@@ -0,0 +1,154 @@
+package com.plataforma.audit_trail;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ponto de entrada da trilha de auditoria.
+ *
+ * {@link #record} apenas enfileira o evento (fila sem lock, limitada por um contador atômico) e retorna;
+ * a requisição nunca espera pelo MongoDB. Uma única thread grava a fila em lotes, quando o lote
+ * enche ou a cada {@code flush-interval}. Com a fila cheia, o evento é descartado e contado.
+ * A mesma thread tenta reenviar o arquivo de contingência a cada {@code spill-retry-interval}.
+ * Com {@code plataforma.audit.enabled=false}, {@link #record} não faz nada.
+ */
+public class AuditTrail implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditTrail.class);
+
+    private final boolean enabled;
+    private final String service;
+    private final AuditEventWriter writer;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long spillRetryIntervalNanos;
+
+    private final Queue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    AuditTrail(String service, AuditEventWriter writer, AuditTrailProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.service = service;
+        this.writer = writer;
+        this.queueCapacity = properties.getQueueCapacity();
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.spillRetryIntervalNanos = properties.getSpillRetryInterval().toNanos();
+        this.flusher = Thread.ofPlatform().name("audit-flusher").daemon(true).unstarted(this::runFlusher);
+        if (enabled) {
+            flusher.start();
+        }
+    }
+
+    /**
+     * Registra uma alteração para auditoria, sem bloquear a thread chamadora.
+     *
+     * @param action       operação executada, ex: "TENANT_CREATED"
+     * @param resourceType tipo do recurso, ex: "tenant"
+     * @param resourceId   ID do recurso alterado
+     * @param details      dados adicionais (pode ser vazio)
+     */
+    public void record(String action, String resourceType, String resourceId, Map<String, String> details) {
+        if (!enabled) {
+            return;
+        }
+        int size = queued.incrementAndGet();
+        if (size > queueCapacity) {
+            queued.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.offer(AuditEvent.builder()
+                .service(service)
+                .action(action)
+                .resourceType(resourceType)
+                .resourceId(resourceId)
+                .traceId(MDC.get("traceId"))
+                .details(details)
+                .occurredAt(Instant.now())
+                .build());
+        if (size == batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void runFlusher() {
+        long nextSpillRetry = System.nanoTime() + spillRetryIntervalNanos;
+        while (running) {
+            if (queued.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            flush();
+            if (System.nanoTime() - nextSpillRetry >= 0) {
+                retrySpillFile();
+                nextSpillRetry = System.nanoTime() + spillRetryIntervalNanos;
+            }
+        }
+        // Encerramento: grava o que ainda estiver na fila
+        flush();
+    }
+
+    private void flush() {
+        long droppedSinceLastFlush = dropped.getAndSet(0);
+        if (droppedSinceLastFlush > 0) {
+            log.warn("Fila de auditoria cheia: {} eventos descartados.", droppedSinceLastFlush);
+        }
+
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        AuditEvent event;
+        while ((event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(event);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void retrySpillFile() {
+        try {
+            writer.retrySpillFile();
+        } catch (RuntimeException e) {
+            log.error("Erro inesperado ao reenviar o arquivo de contingência de auditoria.", e);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            writer.write(batch);
+        } catch (RuntimeException e) {
+            log.error("Erro inesperado ao gravar {} eventos de auditoria.", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.plataforma.audit_trail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Configuração automática da trilha de auditoria. Ativa por padrão; com
+ * {@code plataforma.audit.enabled=false} o bean continua existindo, mas não grava nada.
+ */
+@AutoConfiguration(after = MongoDataAutoConfiguration.class)
+@EnableConfigurationProperties(AuditTrailProperties.class)
+public class AuditTrailAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuditTrail auditTrail(MongoTemplate mongoTemplate, AuditTrailProperties properties,
+                                 @Value("${spring.application.name:application}") String service) {
+        return new AuditTrail(service, new AuditEventWriter(mongoTemplate, properties), properties);
+    }
+}
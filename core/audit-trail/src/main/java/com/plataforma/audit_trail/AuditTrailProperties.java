@@ -0,0 +1,52 @@
+package com.plataforma.audit_trail;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração da trilha de auditoria ({@code plataforma.audit.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "plataforma.audit")
+public class AuditTrailProperties {
+
+    private boolean enabled = true;
+
+    private String collection = "audit_events";
+
+    /**
+     * Eventos mantidos em memória aguardando gravação. Acima disso, novos eventos são descartados
+     * (e contados) em vez de atrasar a requisição.
+     */
+    private int queueCapacity = 65_536;
+
+    /**
+     * Quantidade de eventos que dispara uma gravação imediata.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Intervalo máximo entre gravações quando o lote não enche.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Tempo de retenção dos eventos (índice TTL em {@code occurredAt}).
+     */
+    private Duration retention = Duration.ofDays(90);
+
+    /**
+     * Arquivo local (NDJSON, somente anexação) onde os lotes são gravados quando o MongoDB está
+     * indisponível. São reenviados ao banco assim que uma gravação volta a funcionar.
+     * Vazio desativa a contingência, e os lotes que falharem são descartados.
+     */
+    private String spillFile;
+
+    /**
+     * Intervalo entre as tentativas de reenvio do arquivo de contingência feitas pela thread de gravação,
+     * mesmo sem novos eventos para gravar.
+     */
+    private Duration spillRetryInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,125 @@
+package com.plataforma.audit_trail;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditEventWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final List<String> inserted = new ArrayList<>();
+    private final AuditTrailProperties properties = new AuditTrailProperties();
+    private Path spillFile;
+    private boolean mongoDown;
+
+    @BeforeEach
+    void setUp() {
+        spillFile = dir.resolve("audit-spill.ndjson");
+        properties.setSpillFile(spillFile.toString());
+        properties.setBatchSize(2);
+        when(mongoTemplate.indexOps(anyString())).thenReturn(mock(IndexOperations.class));
+        doAnswer(invocation -> {
+            if (mongoDown) {
+                throw new DataAccessResourceFailureException("MongoDB indisponível");
+            }
+            List<AuditEvent> batch = invocation.getArgument(0);
+            batch.forEach(event -> inserted.add(event.getResourceId()));
+            return batch;
+        }).when(mongoTemplate).insert(anyList(), eq("audit_events"));
+    }
+
+    @Test
+    void comOBancoForaGravaOLoteNoArquivoDeContingencia() throws Exception {
+        AuditEventWriter writer = new AuditEventWriter(mongoTemplate, properties);
+        mongoDown = true;
+
+        writer.write(events("t1", "t2", "t3"));
+
+        assertThat(inserted).isEmpty();
+        assertThat(Files.readAllLines(spillFile)).hasSize(3);
+    }
+
+    @Test
+    void reenviaOArquivoNaProximaGravacaoBemSucedida() {
+        AuditEventWriter writer = new AuditEventWriter(mongoTemplate, properties);
+        mongoDown = true;
+        writer.write(events("t1", "t2", "t3"));
+        mongoDown = false;
+
+        writer.write(events("t4"));
+
+        assertThat(inserted).containsExactly("t4", "t1", "t2", "t3");
+        assertThat(spillFile).doesNotExist();
+    }
+
+    @Test
+    void reenviaOArquivoSemNovosEventosQuandoOBancoVolta() {
+        AuditEventWriter writer = new AuditEventWriter(mongoTemplate, properties);
+        mongoDown = true;
+        writer.write(events("t1", "t2", "t3"));
+        doThrow(new DataAccessResourceFailureException("MongoDB indisponível"))
+                .when(mongoTemplate).executeCommand(any(Document.class));
+
+        writer.retrySpillFile();
+        assertThat(spillFile).exists();
+
+        mongoDown = false;
+        doAnswer(invocation -> new Document("ok", 1)).when(mongoTemplate).executeCommand(any(Document.class));
+        writer.retrySpillFile();
+
+        assertThat(inserted).containsExactly("t1", "t2", "t3");
+        assertThat(spillFile).doesNotExist();
+        assertThat(dir.resolve("audit-spill.ndjson.replay")).doesNotExist();
+    }
+
+    @Test
+    void semArquivoDeContingenciaNaoConsultaOBanco() {
+        AuditEventWriter writer = new AuditEventWriter(mongoTemplate, properties);
+
+        writer.retrySpillFile();
+
+        verify(mongoTemplate, never()).executeCommand(any(Document.class));
+        assertThat(inserted).isEmpty();
+    }
+
+    private static List<AuditEvent> events(String... resourceIds) {
+        List<AuditEvent> events = new ArrayList<>();
+        for (String resourceId : resourceIds) {
+            events.add(AuditEvent.builder()
+                    .service("tenant-service")
+                    .action("TENANT_UPDATED")
+                    .resourceType("tenant")
+                    .resourceId(resourceId)
+                    .details(Map.of("plan", "PRO"))
+                    .occurredAt(Instant.parse("2024-05-01T10:00:00Z"))
+                    .build());
+        }
+        return events;
+    }
+}
@@ -0,0 +1,157 @@
+package com.plataforma.audit_trail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditTrailTest {
+
+    private final List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger spillRetries = new AtomicInteger();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AuditTrailProperties properties = new AuditTrailProperties();
+    private AuditTrail auditTrail;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        if (auditTrail != null) {
+            auditTrail.destroy();
+        }
+    }
+
+    @Test
+    void gravaQuandoOLoteEnche() {
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        auditTrail = new AuditTrail("tenant-service", new RecordingWriter(), properties);
+
+        record(3);
+
+        await(() -> batches.size() == 1);
+        assertThat(batches.get(0)).extracting(AuditEvent::getResourceId).containsExactly("t0", "t1", "t2");
+    }
+
+    @Test
+    void gravaOLoteIncompletoACadaIntervalo() {
+        properties.setBatchSize(100);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        auditTrail = new AuditTrail("tenant-service", new RecordingWriter(), properties);
+
+        record(2);
+
+        await(() -> batches.size() == 1);
+        assertThat(batches.get(0)).hasSize(2);
+    }
+
+    @Test
+    void comAFilaCheiaDescartaOsEventosExcedentes() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        properties.setBatchSize(2);
+        properties.setQueueCapacity(4);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        auditTrail = new AuditTrail("tenant-service", new RecordingWriter() {
+            @Override
+            void write(List<AuditEvent> batch) {
+                super.write(batch);
+                if (batches.size() == 1) {
+                    // Segura a thread de gravação no primeiro lote para a fila encher
+                    writing.countDown();
+                    awaitLatch(release);
+                }
+            }
+        }, properties);
+
+        record(2);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        record(6);
+        release.countDown();
+
+        // 2 do primeiro lote + 4 que couberam na fila; os outros 2 foram descartados
+        await(() -> writtenEvents() == 6);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+    }
+
+    @Test
+    void tentaReenviarAContingenciaMesmoSemNovosEventos() {
+        properties.setFlushInterval(Duration.ofMillis(20));
+        properties.setSpillRetryInterval(Duration.ofMillis(50));
+        auditTrail = new AuditTrail("tenant-service", new RecordingWriter(), properties);
+
+        await(() -> spillRetries.get() >= 2);
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void desativadaNaoGravaNada() throws InterruptedException {
+        properties.setEnabled(false);
+        properties.setBatchSize(1);
+        auditTrail = new AuditTrail("tenant-service", new RecordingWriter(), properties);
+
+        record(3);
+        Thread.sleep(100);
+
+        assertThat(batches).isEmpty();
+    }
+
+    private void record(int count) {
+        for (int i = 0; i < count; i++) {
+            auditTrail.record("TENANT_UPDATED", "tenant", "t" + recorded.getAndIncrement(), Map.of());
+        }
+    }
+
+    private int writtenEvents() {
+        return batches.stream().mapToInt(List::size).sum();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("tempo esgotado").isNegative();
+            sleep(10);
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class RecordingWriter extends AuditEventWriter {
+
+        RecordingWriter() {
+            super(null, properties);
+        }
+
+        @Override
+        void write(List<AuditEvent> batch) {
+            batches.add(List.copyOf(batch));
+        }
+
+        @Override
+        void retrySpillFile() {
+            spillRetries.incrementAndGet();
+        }
+    }
+}
@@ -1,37 +1,64 @@
 package com.plataforma.authservice.adapter.in.web;
 
+import com.plataforma.authservice.adapter.in.web.dto.AssignTenantRequest;
 import com.plataforma.authservice.adapter.in.web.dto.AuthRequest;
 import com.plataforma.authservice.adapter.in.web.dto.UserResponse;
+import com.plataforma.authservice.domain.port.in.AssignTenantUseCase;
 import com.plataforma.authservice.domain.port.in.GetAllUsersUseCase;
 import com.plataforma.authservice.domain.port.in.LoginUseCase;
 import com.plataforma.authservice.domain.port.in.RegisterUserCommand;
 import com.plataforma.authservice.domain.port.in.RegisterUserUseCase;
+import com.plataforma.authservice.domain.port.in.RegisterUsersCommand;
+import com.plataforma.authservice.domain.port.in.RegistrationResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String BATCH_RETRY_AFTER_SECONDS = "5";
+
     // AGORA O CONTROLLER DEPENDE APENAS DAS INTERFACES (PORTAS DE ENTRADA)
     private final RegisterUserUseCase registerUserUseCase;
     private final LoginUseCase loginUseCase;
     private final GetAllUsersUseCase getAllUsersUseCase;
+    private final AssignTenantUseCase assignTenantUseCase;
+    private final IdempotencyKeyHandler idempotencyKeyHandler;
 
     @PostMapping("/register")
-    public ResponseEntity<String> register(@RequestBody @Valid RegisterUserCommand command) {
+    public ResponseEntity<String> register(@RequestBody @Valid RegisterUserCommand command,
+                                           @RequestHeader(name = IdempotencyKeyHandler.HEADER, required = false) String idempotencyKey) {
+        // Os reenvios são comparados pelo corpo inteiro (e-mail e senha); só o HMAC dele é guardado
+        return idempotencyKeyHandler.execute(idempotencyKey, command, () -> {
+            try {
+                registerUserUseCase.register(command);
+                return ResponseEntity.status(HttpStatus.CREATED).body("Usuário criado com sucesso.");
+            } catch (IllegalStateException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            }
+        });
+    }
+
+    // Restrito a ROLE_ADMIN no Gateway
+    @PostMapping("/register/batch")
+    public ResponseEntity<List<RegistrationResult>> registerAll(@RequestBody @Valid RegisterUsersCommand command) {
         try {
-            registerUserUseCase.register(command);
-            return ResponseEntity.status(HttpStatus.CREATED).body("Usuário criado com sucesso.");
-        } catch (IllegalStateException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            return ResponseEntity.ok(registerUserUseCase.registerAll(command.users()));
+        } catch (RejectedExecutionException e) {
+            // Fila de hashing de senhas cheia: nenhum usuário do lote foi criado
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, BATCH_RETRY_AFTER_SECONDS)
+                    .build();
         }
     }
 
@@ -50,4 +77,13 @@ public class AuthController {
         List<UserResponse> users = getAllUsersUseCase.getAllUsers();
         return ResponseEntity.ok(users);
     }
+
+    // Restrito a ROLE_ADMIN no Gateway
+    @PutMapping("/users/{id}/tenant")
+    public ResponseEntity<Void> assignTenant(@PathVariable String id, @RequestBody @Valid AssignTenantRequest request) {
+        if (!assignTenantUseCase.assignTenant(id, request.tenantId())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.plataforma.authservice.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.plataforma.authservice.domain.model.IdempotencyRecord;
+import com.plataforma.authservice.domain.port.out.IdempotencyRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Requisições com o cabeçalho {@code Idempotency-Key}: a primeira com cada chave é processada e a sua
+ * resposta fica guardada; os reenvios recebem a mesma resposta sem processar de novo (no cadastro, sem
+ * recalcular o BCrypt). Um reenvio enquanto a primeira ainda está em andamento recebe {@code 409}, e a
+ * mesma chave com outro corpo recebe {@code 422}.
+ *
+ * O corpo é comparado por um HMAC-SHA256 com uma chave do servidor: o registro guardado não permite
+ * testar senhas candidatas contra ele, como permitiria um hash simples.
+ */
+@Component
+public class IdempotencyKeyHandler {
+
+    static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final IdempotencyRepositoryPort idempotencyRepositoryPort;
+    private final Duration lockTimeout;
+    private final SecretKeySpec fingerprintKey;
+    // Mapper próprio: a serialização do corpo não pode mudar com a configuração do Jackson da aplicação
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    public IdempotencyKeyHandler(IdempotencyRepositoryPort idempotencyRepositoryPort,
+                                 @Value("${plataforma.auth.idempotency.lock-timeout:30s}") Duration lockTimeout,
+                                 @Value("${plataforma.auth.idempotency.fingerprint-secret:${jwt.secret}}") String fingerprintSecret) {
+        this.idempotencyRepositoryPort = idempotencyRepositoryPort;
+        this.lockTimeout = lockTimeout;
+        this.fingerprintKey = new SecretKeySpec(fingerprintSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    /**
+     * @param key  valor do cabeçalho; sem ele, a requisição é processada normalmente.
+     * @param body o corpo inteiro da requisição (comparado pelo HMAC, nunca guardado).
+     */
+    public ResponseEntity<String> execute(String key, Object body, Supplier<ResponseEntity<String>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest()
+                    .body("Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+
+        String fingerprint = fingerprint(body);
+        if (!idempotencyRepositoryPort.reserve(key, fingerprint, lockTimeout)) {
+            return idempotencyRepositoryPort.findByKey(key)
+                    .map(record -> replay(record, fingerprint))
+                    .orElseGet(IdempotencyKeyHandler::inProgress);
+        }
+
+        ResponseEntity<String> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRepositoryPort.release(key);
+            throw e;
+        }
+        idempotencyRepositoryPort.complete(key, response.getStatusCode().value(), response.getBody());
+        return response;
+    }
+
+    private static ResponseEntity<String> replay(IdempotencyRecord record, String fingerprint) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            return ResponseEntity.unprocessableEntity()
+                    .body("Idempotency-Key já utilizada em uma requisição com outro conteúdo.");
+        }
+        if (!record.isCompleted()) {
+            return inProgress();
+        }
+        return ResponseEntity.status(record.getStatus()).header(REPLAYED_HEADER, "true").body(record.getBody());
+    }
+
+    private static ResponseEntity<String> inProgress() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Uma requisição com esta Idempotency-Key ainda está em processamento.");
+    }
+
+    String fingerprint(Object body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(fingerprintKey);
+            return HexFormat.of().formatHex(mac.doFinal(objectMapper.writeValueAsBytes(body)));
+        } catch (GeneralSecurityException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.plataforma.authservice.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record AssignTenantRequest(@NotBlank String tenantId) {
+}
@@ -2,5 +2,5 @@ package com.plataforma.authservice.adapter.in.web.dto;
 
 import java.util.Set;
 
-public record UserResponse(String id, String email, Set<String> roles) {
-}
\ No newline at end of file
+public record UserResponse(String id, String email, Set<String> roles, String tenantId) {
+}
@@ -0,0 +1,69 @@
+package com.plataforma.authservice.adapter.out.persistence;
+
+import com.plataforma.authservice.domain.model.IdempotencyRecord;
+import com.plataforma.authservice.domain.port.out.IdempotencyRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * ADAPTADOR DE SAÍDA
+ * Chaves de idempotência na coleção "idempotency_keys". A reserva é a própria inserção: a chave primária
+ * garante que só uma requisição a obtém, sem leitura prévia.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyPersistenceAdapter implements IdempotencyRepositoryPort {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration lockTimeout) {
+        Instant now = Instant.now();
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setKey(key);
+        record.setFingerprint(fingerprint);
+        record.setLockedUntil(now.plus(lockTimeout));
+        record.setCreatedAt(now);
+        try {
+            mongoTemplate.insert(record);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Assume a chave de uma requisição que parou sem responder (ex.: a instância caiu)
+            Query abandoned = Query.query(Criteria.where("_id").is(key)
+                    .and("fingerprint").is(fingerprint)
+                    .and("completed").is(false)
+                    .and("lockedUntil").lt(now));
+            return mongoTemplate.updateFirst(abandoned, Update.update("lockedUntil", now.plus(lockTimeout)),
+                    IdempotencyRecord.class).getModifiedCount() > 0;
+        }
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return Optional.ofNullable(mongoTemplate.findById(key, IdempotencyRecord.class));
+    }
+
+    @Override
+    public void complete(String key, int status, String body) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(key)), new Update()
+                .set("completed", true)
+                .set("status", status)
+                .set("body", body)
+                .unset("lockedUntil"), IdempotencyRecord.class);
+    }
+
+    @Override
+    public void release(String key) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(key).and("completed").is(false)),
+                IdempotencyRecord.class);
+    }
+}
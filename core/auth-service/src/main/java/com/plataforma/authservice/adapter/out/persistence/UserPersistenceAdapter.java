@@ -1,12 +1,24 @@
 package com.plataforma.authservice.adapter.out.persistence;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
 import com.plataforma.authservice.domain.model.User;
 import com.plataforma.authservice.domain.port.out.UserRepositoryPort;
+import com.plataforma.mongo_read_preference.ReadPreferencePolicy;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Este é o Adaptador de Saída.
@@ -17,7 +29,13 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserPersistenceAdapter implements UserRepositoryPort {
 
+    // Nomes das operações de leitura na política de leitura (plataforma.mongo.read-preference.operations)
+    static final String FIND_BY_EMAIL = "find-by-email";
+    static final String FIND_ALL = "find-all";
+
     private final UserMongoRepository userMongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ReadPreferencePolicy readPreferencePolicy;
 
     @Override
     public User save(User user) {
@@ -25,15 +43,55 @@ public class UserPersistenceAdapter implements UserRepositoryPort {
         return userMongoRepository.save(user);
     }
 
+    @Override
+    public User insert(User user) {
+        return mongoTemplate.insert(user);
+    }
+
+    @Override
+    public Set<Integer> insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        // O bulk não devolve os IDs gerados para as entidades; eles são atribuídos antes da inserção
+        users.forEach(user -> user.setId(new ObjectId().toHexString()));
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        bulk.insert(users);
+        try {
+            bulk.execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            Set<Integer> duplicates = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+                duplicates.add(error.getIndex());
+            }
+            return duplicates;
+        }
+    }
+
+    @Override
+    public boolean updateTenant(String userId, String tenantId) {
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(userId)),
+                Update.update("tenantId", tenantId), User.class).getMatchedCount() > 0;
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
-        // Deleta a chamada para o método que o Spring Data criou para nós
-        return userMongoRepository.findByEmail(email);
+        // Usado no login: precisa enxergar usuários recém-criados
+        Query query = query(FIND_BY_EMAIL).addCriteria(Criteria.where("email").is(email));
+        return Optional.ofNullable(mongoTemplate.findOne(query, User.class));
     }
 
     @Override
     public List<User> findAll() {
-        // Deleta a chamada para o método findAll padrão do MongoRepository
-        return userMongoRepository.findAll();
+        // Listagem administrativa: tolera dados um pouco atrasados
+        return mongoTemplate.find(query(FIND_ALL), User.class);
+    }
+
+    private Query query(String operation) {
+        return new Query().withReadPreference(readPreferencePolicy.forOperation(operation));
     }
 }
\ No newline at end of file
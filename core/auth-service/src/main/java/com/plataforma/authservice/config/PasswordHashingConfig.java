@@ -0,0 +1,32 @@
+package com.plataforma.authservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * Threads que calculam o BCrypt dos cadastros em lote. O BCrypt só usa CPU, então mais threads
+     * que núcleos não aumentam a vazão; lotes simultâneos aguardam na fila.
+     *
+     * A fila é limitada ({@code queue-capacity} senhas): quando está cheia, o lote é recusado com
+     * {@link java.util.concurrent.RejectedExecutionException} em vez de acumular trabalho sem limite.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(
+            @Value("${plataforma.auth.password-hashing.threads:0}") int threads,
+            @Value("${plataforma.auth.password-hashing.queue-capacity:2000}") int queueCapacity) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,35 @@
+package com.plataforma.authservice.domain.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Resposta de uma requisição enviada com o cabeçalho {@code Idempotency-Key}. A chave é a chave primária,
+ * então duas requisições com a mesma chave não são processadas ao mesmo tempo. Mantido por 24 horas.
+ */
+@Data
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    private String key;
+
+    // SHA-256 do conteúdo que identifica a requisição (o e-mail no cadastro), para recusar a mesma chave com outro conteúdo
+    private String fingerprint;
+
+    private boolean completed;
+
+    private Integer status;
+
+    private String body;
+
+    // Até quando a requisição em andamento tem a chave; depois disso, um reenvio pode assumi-la
+    private Instant lockedUntil;
+
+    @Indexed(expireAfter = "24h")
+    private Instant createdAt;
+}
@@ -26,6 +26,10 @@ public class User implements UserDetails {
 
     private Set<String> roles;
 
+    // Tenant do usuário, atribuído por um administrador. Vai no JWT (claim "tenantId") e é a única
+    // fonte do Tenant das requisições no Gateway; o cabeçalho X-Tenant-Id enviado pelo cliente é descartado
+    private String tenantId;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return this.roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
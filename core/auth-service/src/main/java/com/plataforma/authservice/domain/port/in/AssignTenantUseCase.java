@@ -0,0 +1,10 @@
+package com.plataforma.authservice.domain.port.in;
+
+public interface AssignTenantUseCase {
+    /**
+     * Vincula o usuário a um Tenant. Vale a partir do próximo login, quando o Tenant entra no JWT.
+     *
+     * @return {@code false} se o usuário não existe.
+     */
+    boolean assignTenant(String userId, String tenantId);
+}
@@ -1,5 +1,9 @@
 package com.plataforma.authservice.domain.port.in;
 
+import java.util.List;
+
 public interface RegisterUserUseCase {
     void register(RegisterUserCommand command);
-}
\ No newline at end of file
+
+    List<RegistrationResult> registerAll(List<RegisterUserCommand> commands);
+}
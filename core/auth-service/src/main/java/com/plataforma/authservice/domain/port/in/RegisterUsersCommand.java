@@ -0,0 +1,12 @@
+package com.plataforma.authservice.domain.port.in;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record RegisterUsersCommand(
+        @NotEmpty @Size(max = 1000, message = "No máximo 1000 usuários por lote") List<@Valid RegisterUserCommand> users
+) {
+}
@@ -0,0 +1,13 @@
+package com.plataforma.authservice.domain.port.in;
+
+/**
+ * Resultado do cadastro de um usuário em um lote, na mesma posição do usuário no lote.
+ */
+public record RegistrationResult(String email, Status status) {
+
+    public enum Status {
+        CREATED,
+        // Já existe um usuário com o e-mail (inclusive um repetido no mesmo lote)
+        DUPLICATE
+    }
+}
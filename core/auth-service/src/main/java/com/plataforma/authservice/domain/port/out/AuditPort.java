@@ -0,0 +1,19 @@
+package com.plataforma.authservice.domain.port.out;
+
+import java.util.Map;
+
+/**
+ * Porta de Saída (Driven Port) para a trilha de auditoria das alterações.
+ */
+public interface AuditPort {
+
+    /**
+     * Registra uma alteração para auditoria, sem bloquear a thread chamadora.
+     *
+     * @param action       operação executada, ex: "TENANT_CREATED"
+     * @param resourceType tipo do recurso, ex: "tenant"
+     * @param resourceId   ID do recurso alterado
+     * @param details      dados adicionais (pode ser vazio)
+     */
+    void record(String action, String resourceType, String resourceId, Map<String, String> details);
+}
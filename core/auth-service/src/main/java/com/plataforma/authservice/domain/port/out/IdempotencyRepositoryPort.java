@@ -0,0 +1,29 @@
+package com.plataforma.authservice.domain.port.out;
+
+import com.plataforma.authservice.domain.model.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyRepositoryPort {
+
+    /**
+     * Reserva a chave para a requisição atual.
+     *
+     * @return {@code true} se a chave é nova, ou se a requisição anterior com o mesmo conteúdo
+     * passou de {@code lockTimeout} sem responder; {@code false} se outra requisição tem ou já usou a chave.
+     */
+    boolean reserve(String key, String fingerprint, Duration lockTimeout);
+
+    Optional<IdempotencyRecord> findByKey(String key);
+
+    /**
+     * Guarda a resposta, devolvida aos reenvios com a mesma chave até a expiração do registro.
+     */
+    void complete(String key, int status, String body);
+
+    /**
+     * Libera a chave depois de uma falha inesperada, para que o reenvio processe a requisição de novo.
+     */
+    void release(String key);
+}
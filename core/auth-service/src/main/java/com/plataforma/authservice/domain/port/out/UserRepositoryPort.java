@@ -4,11 +4,30 @@ import com.plataforma.authservice.domain.model.User;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepositoryPort {
     User save(User user);
 
+    /**
+     * Insere um novo usuário. O índice único do e-mail recusa duplicados com
+     * {@link org.springframework.dao.DuplicateKeyException}, sem consulta prévia.
+     */
+    User insert(User user);
+
+    /**
+     * Insere os usuários em uma única operação, sem parar nos duplicados.
+     *
+     * @return as posições, na lista, dos usuários recusados por e-mail duplicado.
+     */
+    Set<Integer> insertAll(List<User> users);
+
+    /**
+     * @return {@code false} se o usuário não existe.
+     */
+    boolean updateTenant(String userId, String tenantId);
+
     Optional<User> findByEmail(String email);
 
     List<User> findAll();
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.plataforma.authservice.service;
 
+import com.plataforma.authservice.domain.model.User;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
@@ -12,15 +14,26 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
+    // Claims lidos pelo Gateway (papéis e Tenant) e pelo roteamento de dados por Tenant
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TENANT_CLAIM = "tenantId";
+
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        if (userDetails instanceof User user && user.getTenantId() != null) {
+            claims.put(TENANT_CLAIM, user.getTenantId());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
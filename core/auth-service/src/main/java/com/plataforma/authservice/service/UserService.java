@@ -2,12 +2,16 @@ package com.plataforma.authservice.service;
 
 import com.plataforma.authservice.adapter.in.web.dto.UserResponse;
 import com.plataforma.authservice.domain.model.User;
+import com.plataforma.authservice.domain.port.in.AssignTenantUseCase;
 import com.plataforma.authservice.domain.port.in.GetAllUsersUseCase;
 import com.plataforma.authservice.domain.port.in.LoginUseCase;
 import com.plataforma.authservice.domain.port.in.RegisterUserCommand;
 import com.plataforma.authservice.domain.port.in.RegisterUserUseCase;
+import com.plataforma.authservice.domain.port.in.RegistrationResult;
+import com.plataforma.authservice.domain.port.out.AuditPort;
 import com.plataforma.authservice.domain.port.out.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,31 +19,76 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class UserService implements RegisterUserUseCase, LoginUseCase, GetAllUsersUseCase {
+public class UserService implements RegisterUserUseCase, LoginUseCase, GetAllUsersUseCase, AssignTenantUseCase {
 
     private final UserRepositoryPort userRepositoryPort;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final AuditPort auditPort;
+    private final ExecutorService passwordHashingExecutor;
 
     @Override
     public void register(RegisterUserCommand command) {
-        userRepositoryPort.findByEmail(command.email()).ifPresent(user -> {
+        // Uma única ida ao banco: o índice único do e-mail recusa o duplicado, inclusive em cadastros simultâneos
+        User savedUser;
+        try {
+            savedUser = userRepositoryPort.insert(newUser(command.email(), passwordEncoder.encode(command.password())));
+        } catch (DuplicateKeyException e) {
             throw new IllegalStateException("Usuário com este e-mail já existe.");
-        });
+        }
+        auditPort.record("USER_REGISTERED", "user", savedUser.getId(), Map.of("email", savedUser.getEmail()));
+    }
+
+    @Override
+    public List<RegistrationResult> registerAll(List<RegisterUserCommand> commands) {
+        // O BCrypt domina o custo do cadastro: as senhas do lote são processadas em paralelo, uma por núcleo
+        List<CompletableFuture<User>> hashing = new ArrayList<>(commands.size());
+        try {
+            for (RegisterUserCommand command : commands) {
+                hashing.add(CompletableFuture.supplyAsync(
+                        () -> newUser(command.email(), passwordEncoder.encode(command.password())),
+                        passwordHashingExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            // Fila cheia: o lote inteiro é recusado. As senhas já enfileiradas são descartadas sem calcular o hash
+            hashing.forEach(future -> future.cancel(false));
+            throw e;
+        }
+        List<User> users = hashing.stream().map(CompletableFuture::join).toList();
+
+        Set<Integer> duplicates = userRepositoryPort.insertAll(users);
+
+        List<RegistrationResult> results = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            if (duplicates.contains(i)) {
+                results.add(new RegistrationResult(user.getEmail(), RegistrationResult.Status.DUPLICATE));
+            } else {
+                auditPort.record("USER_REGISTERED", "user", user.getId(), Map.of("email", user.getEmail()));
+                results.add(new RegistrationResult(user.getEmail(), RegistrationResult.Status.CREATED));
+            }
+        }
+        return results;
+    }
 
+    private static User newUser(String email, String encodedPassword) {
         var newUser = new User();
-        newUser.setEmail(command.email());
-        newUser.setPassword(passwordEncoder.encode(command.password()));
+        newUser.setEmail(email);
+        newUser.setPassword(encodedPassword);
         newUser.setRoles(Set.of("ROLE_USER"));
-
-        userRepositoryPort.save(newUser);
+        return newUser;
     }
 
     @Override
@@ -54,7 +103,16 @@ public class UserService implements RegisterUserUseCase, LoginUseCase, GetAllUse
     @Override
     public List<UserResponse> getAllUsers() {
         return userRepositoryPort.findAll().stream()
-                .map(user -> new UserResponse(user.getId(), user.getEmail(), user.getRoles()))
+                .map(user -> new UserResponse(user.getId(), user.getEmail(), user.getRoles(), user.getTenantId()))
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public boolean assignTenant(String userId, String tenantId) {
+        if (!userRepositoryPort.updateTenant(userId, tenantId)) {
+            return false;
+        }
+        auditPort.record("USER_TENANT_ASSIGNED", "user", userId, Map.of("tenantId", tenantId));
+        return true;
+    }
 }
\ No newline at end of file
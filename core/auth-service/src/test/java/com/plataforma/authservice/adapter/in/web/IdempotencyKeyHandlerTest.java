@@ -0,0 +1,184 @@
+package com.plataforma.authservice.adapter.in.web;
+
+import com.plataforma.authservice.domain.model.IdempotencyRecord;
+import com.plataforma.authservice.domain.port.in.RegisterUserCommand;
+import com.plataforma.authservice.domain.port.out.IdempotencyRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyKeyHandlerTest {
+
+    private static final String SECRET = "chave-de-teste-das-idempotency-keys";
+    private static final RegisterUserCommand REQUEST = new RegisterUserCommand("a@x.com", "senha-123");
+
+    private final InMemoryIdempotencyRepository repository = new InMemoryIdempotencyRepository();
+    private final IdempotencyKeyHandler handler = new IdempotencyKeyHandler(repository, Duration.ofSeconds(30), SECRET);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private ResponseEntity<String> created() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body("criado");
+    }
+
+    @Test
+    void semChaveProcessaSempre() {
+        handler.execute(null, REQUEST, this::created);
+        handler.execute(null, REQUEST, this::created);
+
+        assertThat(executions).hasValue(2);
+        assertThat(repository.records).isEmpty();
+    }
+
+    @Test
+    void chaveInvalidaRecebe400() {
+        assertThat(handler.execute(" ", REQUEST, this::created).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(handler.execute("k".repeat(256), REQUEST, this::created).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void reenvioDevolveARespostaGuardadaSemProcessar() {
+        ResponseEntity<String> first = handler.execute("k1", REQUEST, this::created);
+        ResponseEntity<String> replay = handler.execute("k1", REQUEST, this::created);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getHeaders().containsKey(IdempotencyKeyHandler.REPLAYED_HEADER)).isFalse();
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replay.getBody()).isEqualTo("criado");
+        assertThat(replay.getHeaders().getFirst(IdempotencyKeyHandler.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void mesmaChaveComOutroEmailRecebe422() {
+        handler.execute("k1", REQUEST, this::created);
+
+        ResponseEntity<String> response = handler.execute("k1", new RegisterUserCommand("b@x.com", "senha-123"), this::created);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void mesmaChaveComOutraSenhaRecebe422() {
+        handler.execute("k1", REQUEST, this::created);
+
+        ResponseEntity<String> response = handler.execute("k1", new RegisterUserCommand("a@x.com", "outra-senha"), this::created);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void oRegistroGuardaSoOHmacDoCorpo() {
+        handler.execute("k1", REQUEST, this::created);
+        IdempotencyKeyHandler otherServer = new IdempotencyKeyHandler(repository, Duration.ofSeconds(30), "outra-chave");
+
+        String fingerprint = repository.records.get("k1").getFingerprint();
+
+        assertThat(fingerprint).isEqualTo(handler.fingerprint(REQUEST)).doesNotContain("senha-123");
+        assertThat(fingerprint).isNotEqualTo(otherServer.fingerprint(REQUEST));
+    }
+
+    @Test
+    void reenvioDuranteOProcessamentoRecebe409() {
+        ResponseEntity<String> concurrent = handler.execute("k1", REQUEST,
+                () -> handler.execute("k1", REQUEST, this::created));
+
+        assertThat(concurrent.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(executions).hasValue(0);
+        // A resposta guardada é a da primeira requisição
+        assertThat(repository.records.get("k1").isCompleted()).isTrue();
+    }
+
+    @Test
+    void falhaInesperadaLiberaAChave() {
+        assertThatThrownBy(() -> handler.execute("k1", REQUEST, () -> {
+            throw new IllegalArgumentException("falha");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.records).doesNotContainKey("k1");
+
+        ResponseEntity<String> retry = handler.execute("k1", REQUEST, this::created);
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void respostaDeErroTambemEGuardada() {
+        handler.execute("k1", REQUEST, () -> ResponseEntity.status(HttpStatus.CONFLICT).body("já existe"));
+
+        ResponseEntity<String> replay = handler.execute("k1", REQUEST, this::created);
+
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(replay.getBody()).isEqualTo("já existe");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void reservaExpiradaPodeSerAssumidaPeloReenvio() {
+        IdempotencyRecord stale = new IdempotencyRecord();
+        stale.setKey("k1");
+        stale.setFingerprint(handler.fingerprint(REQUEST));
+        stale.setLockedUntil(Instant.now().minusSeconds(1));
+        repository.records.put("k1", stale);
+
+        ResponseEntity<String> response = handler.execute("k1", REQUEST, this::created);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * Mesmas regras do adaptador do MongoDB, em memória.
+     */
+    private static final class InMemoryIdempotencyRepository implements IdempotencyRepositoryPort {
+
+        private final Map<String, IdempotencyRecord> records = new HashMap<>();
+
+        @Override
+        public boolean reserve(String key, String fingerprint, Duration lockTimeout) {
+            IdempotencyRecord existing = records.get(key);
+            if (existing != null && (existing.isCompleted()
+                    || !existing.getFingerprint().equals(fingerprint)
+                    || existing.getLockedUntil().isAfter(Instant.now()))) {
+                return false;
+            }
+            IdempotencyRecord record = new IdempotencyRecord();
+            record.setKey(key);
+            record.setFingerprint(fingerprint);
+            record.setLockedUntil(Instant.now().plus(lockTimeout));
+            record.setCreatedAt(Instant.now());
+            records.put(key, record);
+            return true;
+        }
+
+        @Override
+        public Optional<IdempotencyRecord> findByKey(String key) {
+            return Optional.ofNullable(records.get(key));
+        }
+
+        @Override
+        public void complete(String key, int status, String body) {
+            IdempotencyRecord record = records.get(key);
+            record.setCompleted(true);
+            record.setStatus(status);
+            record.setBody(body);
+        }
+
+        @Override
+        public void release(String key) {
+            records.remove(key);
+        }
+    }
+}
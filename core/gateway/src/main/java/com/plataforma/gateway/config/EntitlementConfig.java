@@ -0,0 +1,16 @@
+package com.plataforma.gateway.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Agendamento da sincronização de permissões.
+ *
+ * Os clientes HTTP para o tenant-service partem do {@code WebClient.Builder} do Spring Boot ({@code clone()})
+ * com o filtro de load balancer do Spring Cloud, que resolve nomes de serviço (ex: http://tenant-service) pelo
+ * Eureka. Um bean {@code WebClient.Builder} próprio substituiria o do Boot e os seus customizers.
+ */
+@Configuration
+@EnableScheduling
+public class EntitlementConfig {
+}
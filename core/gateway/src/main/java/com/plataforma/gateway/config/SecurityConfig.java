@@ -5,6 +5,7 @@ import com.plataforma.gateway.security.SecurityContextRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
@@ -35,6 +36,18 @@ public class SecurityConfig {
                 .securityContextRepository(securityContextRepository)
                 .authorizeExchange(auth -> auth
                         .pathMatchers("/auth/register", "/auth/login").permitAll()
+                        // Consultados pelo orquestrador e pelo aquecimento antes de existir um token
+                        .pathMatchers("/actuator/health/**", "/actuator/warmup").permitAll()
+                        // Uso interno: o Gateway consulta o tenant-service diretamente, nunca por esta rota
+                        .pathMatchers("/api/v1/tenants/entitlements", "/api/v1/tenants/entitlements/**").denyAll()
+                        .pathMatchers(HttpMethod.POST, "/api/v1/tenants/usage").denyAll()
+                        // O uso é a base da cobrança de cada Tenant: só administradores consultam
+                        .pathMatchers(HttpMethod.GET, "/api/v1/tenants/*/usage").hasRole("ADMIN")
+                        .pathMatchers(HttpMethod.PUT, "/auth/users/*/tenant").hasRole("ADMIN")
+                        // Cada item do lote custa um BCrypt: só administradores importam usuários em lote
+                        .pathMatchers(HttpMethod.POST, "/auth/register/batch").hasRole("ADMIN")
+                        // Exportação e importação em massa leem e substituem todos os Tenants
+                        .pathMatchers("/api/v1/tenants/export", "/api/v1/tenants/import").hasRole("ADMIN")
                         .anyExchange().authenticated()
                 )
                 .build();
@@ -0,0 +1,106 @@
+package com.plataforma.gateway.entitlement;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Índice em memória das permissões de módulos por Tenant.
+ *
+ * Cada nome de módulo é convertido (internado) em um ID numérico sequencial, e cada Tenant
+ * é representado por um bitset ({@code long[]}) com um bit por módulo. A checagem feita a cada
+ * requisição é apenas uma busca no mapa e um teste de bit, sem nenhum I/O.
+ *
+ * Os bitsets nunca são alterados depois de publicados: cada atualização cria um novo array,
+ * o que permite leituras concorrentes sem locks.
+ */
+@Component
+public class EntitlementIndex {
+
+    private final Map<String, Integer> moduleIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextModuleId = new AtomicInteger();
+
+    private volatile Map<String, long[]> tenantModules = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Converte o nome de um módulo em seu ID numérico, registrando-o se ainda não existir.
+     */
+    public int internModule(String moduleName) {
+        return moduleIds.computeIfAbsent(moduleName, name -> nextModuleId.getAndIncrement());
+    }
+
+    /**
+     * Verifica se o Tenant possui o módulo com o ID informado (obtido via {@link #internModule(String)}).
+     */
+    public boolean isEntitled(String tenantId, int moduleId) {
+        long[] bits = tenantModules.get(tenantId);
+        if (bits == null) {
+            return false;
+        }
+        int word = moduleId >>> 6;
+        return word < bits.length && (bits[word] & (1L << moduleId)) != 0;
+    }
+
+    /**
+     * Indica se o índice já recebeu ao menos uma carga completa.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return tenantModules.size();
+    }
+
+    /**
+     * Substitui todo o conteúdo do índice por uma carga completa.
+     */
+    public void replaceAll(List<TenantEntitlement> entitlements) {
+        Map<String, long[]> rebuilt = new ConcurrentHashMap<>(Math.max(16, entitlements.size() * 2));
+        for (TenantEntitlement entitlement : entitlements) {
+            long[] bits = toBits(entitlement);
+            if (bits != null) {
+                rebuilt.put(entitlement.tenantId(), bits);
+            }
+        }
+        this.tenantModules = rebuilt;
+        this.ready = true;
+    }
+
+    /**
+     * Aplica uma atualização incremental. Tenants inativos ou sem módulos são removidos do índice.
+     */
+    public void apply(List<TenantEntitlement> entitlements) {
+        Map<String, long[]> current = this.tenantModules;
+        for (TenantEntitlement entitlement : entitlements) {
+            long[] bits = toBits(entitlement);
+            if (bits != null) {
+                current.put(entitlement.tenantId(), bits);
+            } else {
+                current.remove(entitlement.tenantId());
+            }
+        }
+    }
+
+    private long[] toBits(TenantEntitlement entitlement) {
+        Set<String> modules = entitlement.modules();
+        if (!entitlement.active() || modules == null || modules.isEmpty()) {
+            return null;
+        }
+        int[] ids = modules.stream().mapToInt(this::internModule).toArray();
+        int maxId = 0;
+        for (int id : ids) {
+            maxId = Math.max(maxId, id);
+        }
+        long[] bits = new long[(maxId >>> 6) + 1];
+        for (int id : ids) {
+            bits[id >>> 6] |= 1L << id;
+        }
+        return bits;
+    }
+}
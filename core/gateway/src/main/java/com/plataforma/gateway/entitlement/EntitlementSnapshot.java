@@ -0,0 +1,9 @@
+package com.plataforma.gateway.entitlement;
+
+import java.util.List;
+
+/**
+ * Resposta do endpoint de permissões do tenant-service ({@code /api/v1/tenants/entitlements}).
+ */
+public record EntitlementSnapshot(String cursor, boolean full, List<TenantEntitlement> tenants) {
+}
@@ -0,0 +1,80 @@
+package com.plataforma.gateway.entitlement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * Mantém o {@link EntitlementIndex} sincronizado com o tenant-service.
+ *
+ * Na primeira execução (e periodicamente, como garantia) faz uma carga completa; nas demais,
+ * busca apenas os Tenants alterados desde o último cursor recebido. Roda em uma thread do
+ * agendador, fora do caminho das requisições, e também no aquecimento, antes de a instância ficar UP.
+ */
+@Service
+public class EntitlementSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(EntitlementSyncService.class);
+
+    private static final String ENTITLEMENTS_PATH = "/api/v1/tenants/entitlements";
+
+    private final WebClient webClient;
+    private final EntitlementIndex entitlementIndex;
+    private final long fullResyncIntervalMs;
+    private final Duration requestTimeout;
+
+    private String cursor;
+    private long lastFullSyncAt;
+
+    public EntitlementSyncService(WebClient.Builder webClientBuilder,
+                                  LoadBalancedExchangeFilterFunction loadBalancer,
+                                  EntitlementIndex entitlementIndex,
+                                  @Value("${plataforma.entitlements.tenant-service-url:http://tenant-service}") String tenantServiceUrl,
+                                  @Value("${plataforma.entitlements.full-resync-interval-ms:300000}") long fullResyncIntervalMs,
+                                  @Value("${plataforma.entitlements.request-timeout-ms:5000}") long requestTimeoutMs) {
+        this.webClient = webClientBuilder.clone().filter(loadBalancer).baseUrl(tenantServiceUrl).build();
+        this.entitlementIndex = entitlementIndex;
+        this.fullResyncIntervalMs = fullResyncIntervalMs;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+    }
+
+    @Scheduled(fixedDelayString = "${plataforma.entitlements.sync-interval-ms:2000}")
+    public synchronized void sync() {
+        boolean fullSync = cursor == null || System.currentTimeMillis() - lastFullSyncAt >= fullResyncIntervalMs;
+        try {
+            EntitlementSnapshot snapshot = webClient.get()
+                    .uri(uriBuilder -> {
+                        uriBuilder.path(ENTITLEMENTS_PATH);
+                        if (!fullSync) {
+                            uriBuilder.queryParam("since", cursor);
+                        }
+                        return uriBuilder.build();
+                    })
+                    .retrieve()
+                    .bodyToMono(EntitlementSnapshot.class)
+                    .block(requestTimeout);
+
+            if (snapshot == null) {
+                return;
+            }
+            if (snapshot.full()) {
+                entitlementIndex.replaceAll(snapshot.tenants());
+                lastFullSyncAt = System.currentTimeMillis();
+                log.info("Carga completa de permissões aplicada: {} tenants com módulos ativos.", entitlementIndex.size());
+            } else if (!snapshot.tenants().isEmpty()) {
+                entitlementIndex.apply(snapshot.tenants());
+                log.debug("Atualização incremental de permissões aplicada: {} tenants alterados.", snapshot.tenants().size());
+            }
+            cursor = snapshot.cursor();
+        } catch (Exception e) {
+            // Mantém o índice atual; a próxima execução tentará novamente a partir do mesmo cursor
+            log.warn("Falha ao sincronizar permissões com o tenant-service: {}", e.getMessage());
+        }
+    }
+}
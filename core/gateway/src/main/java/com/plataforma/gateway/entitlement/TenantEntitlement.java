@@ -0,0 +1,9 @@
+package com.plataforma.gateway.entitlement;
+
+import java.util.Set;
+
+/**
+ * Permissões de um Tenant, como retornadas pelo tenant-service.
+ */
+public record TenantEntitlement(String tenantId, boolean active, Set<String> modules) {
+}
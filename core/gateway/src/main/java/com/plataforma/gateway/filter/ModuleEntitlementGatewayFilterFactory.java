@@ -0,0 +1,79 @@
+package com.plataforma.gateway.filter;
+
+import com.plataforma.gateway.entitlement.EntitlementIndex;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Filtro de rota que só deixa passar requisições de Tenants que assinam o módulo da rota.
+ *
+ * Uso no {@code gateway.yml}:
+ * <pre>
+ * filters:
+ *   - ModuleEntitlement=mod-oficina
+ * </pre>
+ *
+ * O Tenant é o do usuário autenticado ({@link TenantIdentityGlobalFilter#TENANT_ATTR}, vindo do JWT),
+ * nunca um cabeçalho do cliente. A decisão é tomada inteiramente a partir do {@link EntitlementIndex} em memória.
+ */
+@Component
+public class ModuleEntitlementGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ModuleEntitlementGatewayFilterFactory.Config> {
+
+    /**
+     * Atributo da requisição com o módulo da rota, lido pela medição de uso.
+     */
+    public static final String MODULE_ATTR = ModuleEntitlementGatewayFilterFactory.class.getName() + ".module";
+
+    private final EntitlementIndex entitlementIndex;
+
+    public ModuleEntitlementGatewayFilterFactory(EntitlementIndex entitlementIndex) {
+        super(Config.class);
+        this.entitlementIndex = entitlementIndex;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("module");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // O módulo é resolvido uma única vez, na criação da rota
+        String module = config.getModule();
+        int moduleId = entitlementIndex.internModule(module);
+
+        return (exchange, chain) -> {
+            String tenantId = exchange.getAttribute(TenantIdentityGlobalFilter.TENANT_ATTR);
+            if (tenantId == null) {
+                // Usuário sem Tenant vinculado (ou rota sem autenticação)
+                return reject(exchange, HttpStatus.FORBIDDEN);
+            }
+            if (!entitlementIndex.isReady()) {
+                return reject(exchange, HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            if (!entitlementIndex.isEntitled(tenantId, moduleId)) {
+                return reject(exchange, HttpStatus.FORBIDDEN);
+            }
+            exchange.getAttributes().put(MODULE_ATTR, module);
+            return chain.filter(exchange);
+        };
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
+
+    @Data
+    public static class Config {
+        private String module;
+    }
+}
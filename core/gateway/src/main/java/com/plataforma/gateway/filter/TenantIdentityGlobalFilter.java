@@ -0,0 +1,67 @@
+package com.plataforma.gateway.filter;
+
+import com.plataforma.gateway.security.AuthenticatedUser;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Define o Tenant da requisição a partir do usuário autenticado (claim {@code tenantId} do JWT).
+ *
+ * O cabeçalho {@value #TENANT_HEADER} enviado pelo cliente é sempre removido. Para usuários vinculados
+ * a um Tenant, ele é reescrito com o Tenant do token antes do roteamento, e o Tenant fica no atributo
+ * {@link #TENANT_ATTR}, lido pelo controle de acesso aos módulos e pela medição de uso.
+ */
+@Component
+public class TenantIdentityGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    /**
+     * Atributo da requisição com o Tenant do usuário autenticado.
+     */
+    public static final String TENANT_ATTR = TenantIdentityGlobalFilter.class.getName() + ".tenant";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(context -> tenantOf(context.getAuthentication()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(tenantId -> chain.filter(withTenant(exchange, tenantId.orElse(null))));
+    }
+
+    private static String tenantOf(Authentication authentication) {
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.tenantId() : null;
+    }
+
+    private static ServerWebExchange withTenant(ServerWebExchange exchange, String tenantId) {
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(TENANT_HEADER);
+                    if (tenantId != null) {
+                        headers.set(TENANT_HEADER, tenantId);
+                    }
+                })
+                .build();
+        if (tenantId != null) {
+            exchange.getAttributes().put(TENANT_ATTR, tenantId);
+        }
+        return exchange.mutate().request(request).build();
+    }
+
+    @Override
+    public int getOrder() {
+        // Antes de todos os filtros de rota e da medição de uso
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,74 @@
+package com.plataforma.gateway.filter;
+
+import com.plataforma.gateway.metering.UsageCounters;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contabiliza requisições e bytes trafegados por Tenant, módulo e rota no {@link UsageCounters}.
+ *
+ * Só são medidas requisições de usuários vinculados a um Tenant ({@link TenantIdentityGlobalFilter#TENANT_ATTR})
+ * que passaram pelo {@link ModuleEntitlementGatewayFilterFactory}, de onde vem o módulo. Requisições recusadas
+ * e rotas sem controle de módulo não são cobradas nem ocupam chaves nos contadores. Nenhum I/O é
+ * feito na requisição: o envio ao tenant-service é feito em lote pelo UsageFlushService.
+ */
+@Component
+public class UsageMeteringGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String NO_ROUTE = "-";
+
+    private final UsageCounters usageCounters;
+
+    public UsageMeteringGlobalFilter(UsageCounters usageCounters) {
+        this.usageCounters = usageCounters;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String tenantId = exchange.getAttribute(TenantIdentityGlobalFilter.TENANT_ATTR);
+        if (tenantId == null) {
+            return chain.filter(exchange);
+        }
+
+        long bytesIn = Math.max(exchange.getRequest().getHeaders().getContentLength(), 0);
+        AtomicLong bytesOut = new AtomicLong();
+        ServerHttpResponse countingResponse = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body).doOnNext(buffer -> bytesOut.addAndGet(buffer.readableByteCount())));
+            }
+        };
+
+        ServerWebExchange meteredExchange = exchange.mutate().response(countingResponse).build();
+        return chain.filter(meteredExchange)
+                .doFinally(signal -> {
+                    // Presente só quando o Tenant tem o módulo da rota
+                    String module = meteredExchange.getAttribute(ModuleEntitlementGatewayFilterFactory.MODULE_ATTR);
+                    if (module == null) {
+                        return;
+                    }
+                    Route route = meteredExchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+                    usageCounters.record(tenantId, module, route != null ? route.getId() : NO_ROUTE, bytesIn, bytesOut.get());
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // Antes do NettyWriteResponseFilter, para que a resposta escrita por ele já seja a decorada
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.plataforma.gateway.metering;
+
+import java.util.List;
+
+/**
+ * Lote de uso enviado ao tenant-service. O {@code batchId} é único e reenviado em caso de falha,
+ * para que o tenant-service descarte lotes já aplicados.
+ */
+public record UsageBatch(String batchId, List<UsageDelta> deltas) {
+}
@@ -0,0 +1,118 @@
+package com.plataforma.gateway.metering;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Contadores de uso em memória, por Tenant, módulo, rota e hora da requisição.
+ *
+ * Cada contador é um {@link LongAdder}, que distribui as escritas concorrentes entre células
+ * para que as threads do event loop não disputem a mesma linha de cache. A leitura para envio usa
+ * {@link LongAdder#sumThenReset()}, que zera cada célula atomicamente: um incremento concorrente
+ * entra neste envio ou no próximo, nunca em ambos nem em nenhum.
+ *
+ * A hora faz parte da chave e é definida na contagem, então o uso vai para a hora em que a requisição
+ * aconteceu, mesmo que o envio atrase. Os contadores de horas encerradas há mais de {@link #RETIRE_GRACE_MILLIS}
+ * são removidos depois de lidos, o que limita o mapa às chaves da hora atual e da anterior.
+ *
+ * Acima de {@code max-keys}, uma combinação nova é contada na chave do Tenant e módulo sem rota
+ * ({@link #OVERFLOW_ROUTE}). O uso continua cobrado do Tenant certo e o mapa cresce no máximo uma chave
+ * por Tenant e módulo, que a rota não multiplica.
+ */
+@Component
+public class UsageCounters {
+
+    static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    // Margem para contagens que calcularam a hora logo antes da virada e ainda não incrementaram
+    static final long RETIRE_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Rota das contagens feitas acima do limite de chaves.
+     */
+    public static final String OVERFLOW_ROUTE = "*";
+
+    private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongAdder overflow = new LongAdder();
+    private final LongSupplier clock;
+
+    public UsageCounters(@Value("${plataforma.metering.max-keys:100000}") int maxKeys) {
+        this(maxKeys, System::currentTimeMillis);
+    }
+
+    UsageCounters(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    public void record(String tenantId, String module, String route, long bytesIn, long bytesOut) {
+        long hour = clock.getAsLong() / HOUR_MILLIS;
+        Key key = new Key(tenantId, module, route, hour);
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxKeys) {
+                // Limite de chaves atingido (muitas rotas ou Tenants na mesma hora): agrega sem a rota
+                key = new Key(tenantId, module, OVERFLOW_ROUTE, hour);
+                overflow.increment();
+            }
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.requests.increment();
+        counter.bytesIn.add(bytesIn);
+        counter.bytesOut.add(bytesOut);
+    }
+
+    /**
+     * Retira o uso acumulado desde a última chamada.
+     */
+    public List<UsageDelta> drain() {
+        long now = clock.getAsLong();
+        List<UsageDelta> deltas = new ArrayList<>();
+        counters.forEach((key, counter) -> {
+            // Hora encerrada: nenhuma contagem nova chega a esta chave, que é lida uma última vez e removida
+            boolean retired = (key.hour() + 1) * HOUR_MILLIS + RETIRE_GRACE_MILLIS <= now;
+            if (retired) {
+                counters.remove(key, counter);
+            }
+            long requests = counter.requests.sumThenReset();
+            long bytesIn = counter.bytesIn.sumThenReset();
+            long bytesOut = counter.bytesOut.sumThenReset();
+            if (requests > 0 || bytesIn > 0 || bytesOut > 0) {
+                deltas.add(new UsageDelta(key.tenantId(), key.module(), key.route(),
+                        Instant.ofEpochMilli(key.hour() * HOUR_MILLIS), requests, bytesIn, bytesOut));
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * @return a quantidade de requisições contadas sem a rota ({@link #OVERFLOW_ROUTE}) por excesso de chaves,
+     * desde a última chamada.
+     */
+    public long drainOverflow() {
+        return overflow.sumThenReset();
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    private record Key(String tenantId, String module, String route, long hour) {
+    }
+
+    private static final class Counter {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+    }
+}
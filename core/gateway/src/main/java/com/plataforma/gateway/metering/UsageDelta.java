@@ -0,0 +1,10 @@
+package com.plataforma.gateway.metering;
+
+import java.time.Instant;
+
+/**
+ * Uso acumulado de um Tenant em uma rota desde o último envio ao tenant-service.
+ */
+public record UsageDelta(String tenantId, String module, String route, Instant periodStart,
+                         long requests, long bytesIn, long bytesOut) {
+}
@@ -0,0 +1,124 @@
+package com.plataforma.gateway.metering;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Envia periodicamente ao tenant-service o uso acumulado no {@link UsageCounters}, em um único lote.
+ *
+ * Antes do envio, o lote é gravado em disco com um ID único. Se o envio falhar, ou o Gateway
+ * reiniciar antes de receber a confirmação, o mesmo lote (com o mesmo ID) é reenviado, e o
+ * tenant-service ignora lotes já aplicados. Assim, nada é contado duas vezes.
+ */
+@Service
+public class UsageFlushService {
+
+    private static final Logger log = LoggerFactory.getLogger(UsageFlushService.class);
+
+    private static final String USAGE_PATH = "/api/v1/tenants/usage";
+
+    private final WebClient webClient;
+    private final UsageCounters usageCounters;
+    private final ObjectMapper objectMapper;
+    private final Path pendingFile;
+    private final Duration requestTimeout;
+
+    private UsageBatch pendingBatch;
+
+    public UsageFlushService(WebClient.Builder webClientBuilder,
+                             LoadBalancedExchangeFilterFunction loadBalancer,
+                             UsageCounters usageCounters,
+                             ObjectMapper objectMapper,
+                             @Value("${plataforma.metering.tenant-service-url:http://tenant-service}") String tenantServiceUrl,
+                             @Value("${plataforma.metering.pending-file:/tmp/gateway-usage-pending.json}") String pendingFile,
+                             @Value("${plataforma.metering.request-timeout-ms:5000}") long requestTimeoutMs) {
+        this.webClient = webClientBuilder.clone().filter(loadBalancer).baseUrl(tenantServiceUrl).build();
+        this.usageCounters = usageCounters;
+        this.objectMapper = objectMapper;
+        this.pendingFile = Path.of(pendingFile);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+    }
+
+    @PostConstruct
+    void loadPendingBatch() {
+        if (!Files.exists(pendingFile)) {
+            return;
+        }
+        try {
+            pendingBatch = objectMapper.readValue(pendingFile.toFile(), UsageBatch.class);
+            log.info("Lote de uso {} não confirmado antes da última parada será reenviado.", pendingBatch.batchId());
+        } catch (IOException e) {
+            log.error("Não foi possível ler o lote de uso pendente em {}. Ele será ignorado.", pendingFile, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${plataforma.metering.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        long overflow = usageCounters.drainOverflow();
+        if (overflow > 0) {
+            log.warn("{} requisições contadas sem a rota ('{}'): limite de chaves de uso atingido.",
+                    overflow, UsageCounters.OVERFLOW_ROUTE);
+        }
+
+        // Um lote pendente precisa ser confirmado antes do próximo, para manter a ordem e o ID
+        if (pendingBatch == null) {
+            List<UsageDelta> deltas = usageCounters.drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            pendingBatch = new UsageBatch(UUID.randomUUID().toString(), deltas);
+            persist(pendingBatch);
+        }
+
+        try {
+            webClient.post()
+                    .uri(USAGE_PATH)
+                    .bodyValue(pendingBatch)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(requestTimeout);
+            log.debug("Lote de uso {} enviado: {} contadores.", pendingBatch.batchId(), pendingBatch.deltas().size());
+            pendingBatch = null;
+            Files.deleteIfExists(pendingFile);
+        } catch (Exception e) {
+            // O uso continua acumulando nos contadores; o lote pendente é reenviado na próxima execução
+            log.warn("Falha ao enviar o lote de uso {} ao tenant-service: {}", pendingBatch.batchId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        // O que acumulou enquanto um lote antigo estava pendente ainda não foi gravado em disco
+        if (pendingBatch == null) {
+            flush();
+        }
+    }
+
+    private void persist(UsageBatch batch) {
+        try {
+            Path tmp = pendingFile.resolveSibling(pendingFile.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), batch);
+            Files.move(tmp, pendingFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Não foi possível gravar o lote de uso {} em disco. Ele será enviado sem proteção contra reinício.",
+                    batch.batchId(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.plataforma.gateway.security;
+
+import java.security.Principal;
+
+/**
+ * Usuário autenticado pelo JWT. O Tenant vem do claim {@code tenantId}, assinado pelo auth-service,
+ * e é {@code null} para usuários ainda não vinculados a um Tenant.
+ */
+public record AuthenticatedUser(String username, String tenantId) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,42 +1,55 @@
 package com.plataforma.gateway.security;
 
 import com.plataforma.gateway.service.JwtService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class AuthenticationManager implements ReactiveAuthenticationManager {
 
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final JwtService jwtService;
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
         String authToken = authentication.getCredentials().toString();
-        String username;
+        Claims claims;
 
         try {
-            username = jwtService.extractUsername(authToken);
+            // Verifica a assinatura e a expiração
+            claims = jwtService.extractAllClaims(authToken);
         } catch (Exception e) {
             return Mono.empty(); // Se houver erro ao extrair, considera falha na autenticação
         }
 
-        if (username != null && jwtService.isTokenValid(authToken)) {
-            // Se o token for válido, criamos um objeto de autenticação do Spring
-            var auth = new UsernamePasswordAuthenticationToken(
-                    username,
-                    null,
-                    Collections.singletonList(new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_USER"))
-            );
-            return Mono.just(auth);
-        } else {
+        String username = claims.getSubject();
+        if (username == null) {
             return Mono.empty();
         }
+        // Papéis e Tenant vêm somente do token assinado, nunca de cabeçalhos enviados pelo cliente
+        var principal = new AuthenticatedUser(username, claims.get(JwtService.TENANT_CLAIM, String.class));
+        return Mono.just(new UsernamePasswordAuthenticationToken(principal, null, authorities(claims)));
+    }
+
+    private static List<GrantedAuthority> authorities(Claims claims) {
+        // Tokens emitidos antes dos papéis entrarem no JWT valem como ROLE_USER
+        if (!(claims.get(JwtService.ROLES_CLAIM) instanceof Collection<?> roles) || roles.isEmpty()) {
+            return DEFAULT_AUTHORITIES;
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,10 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    // Claims emitidos pelo auth-service
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TENANT_CLAIM = "tenantId";
+
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
@@ -38,7 +42,10 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
+    /**
+     * Valida a assinatura e a expiração e devolve os claims do token.
+     */
+    public Claims extractAllClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
                 .build()
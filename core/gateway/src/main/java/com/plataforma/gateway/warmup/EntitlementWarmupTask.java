@@ -0,0 +1,44 @@
+package com.plataforma.gateway.warmup;
+
+import com.plataforma.gateway.entitlement.EntitlementIndex;
+import com.plataforma.gateway.entitlement.EntitlementSyncService;
+import com.plataforma.warmup.WarmupTask;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Faz a carga completa do {@link EntitlementIndex} antes de a instância ficar UP. Sem ela, as primeiras
+ * requisições a rotas com o filtro de módulos seriam recusadas até a primeira execução agendada.
+ */
+@Component
+@Order(1)
+public class EntitlementWarmupTask implements WarmupTask {
+
+    private final EntitlementSyncService entitlementSyncService;
+    private final EntitlementIndex entitlementIndex;
+
+    public EntitlementWarmupTask(EntitlementSyncService entitlementSyncService, EntitlementIndex entitlementIndex) {
+        this.entitlementSyncService = entitlementSyncService;
+        this.entitlementIndex = entitlementIndex;
+    }
+
+    @Override
+    public String name() {
+        return "entitlements";
+    }
+
+    @Override
+    public Integer defaultIterations() {
+        return 1;
+    }
+
+    @Override
+    public void run(int iteration) {
+        if (!entitlementIndex.isReady()) {
+            entitlementSyncService.sync();
+        }
+        if (!entitlementIndex.isReady()) {
+            throw new IllegalStateException("Permissões ainda não carregadas do tenant-service.");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.plataforma.gateway.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plataforma.gateway.entitlement.EntitlementSnapshot;
+import com.plataforma.gateway.entitlement.TenantEntitlement;
+import com.plataforma.gateway.metering.UsageBatch;
+import com.plataforma.gateway.metering.UsageDelta;
+import com.plataforma.warmup.WarmupTask;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Lê snapshots de permissões e grava lotes de uso sintéticos com o {@link ObjectMapper} da aplicação,
+ * os dois formatos JSON que o Gateway troca com o tenant-service fora do caminho das requisições.
+ */
+@Component
+@Order(3)
+public class JsonWarmupTask implements WarmupTask {
+
+    private final ObjectMapper objectMapper;
+    private final byte[] snapshotJson;
+    private final UsageBatch usageBatch;
+
+    public JsonWarmupTask(ObjectMapper objectMapper) throws Exception {
+        this.objectMapper = objectMapper;
+        List<TenantEntitlement> tenants = IntStream.range(0, 100)
+                .mapToObj(i -> new TenantEntitlement("warmup-" + i, i % 10 != 0, Set.of("mod-oficina", "mod-estoque")))
+                .toList();
+        this.snapshotJson = objectMapper.writeValueAsBytes(new EntitlementSnapshot("warmup", true, tenants));
+        Instant periodStart = Instant.now();
+        this.usageBatch = new UsageBatch(UUID.randomUUID().toString(), IntStream.range(0, 100)
+                .mapToObj(i -> new UsageDelta("warmup-" + i, "mod-oficina", "oficina-route", periodStart, i, i * 512L, i * 2048L))
+                .toList());
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public void run(int iteration) throws Exception {
+        EntitlementSnapshot snapshot = objectMapper.readValue(snapshotJson, EntitlementSnapshot.class);
+        if (snapshot.tenants().size() != 100) {
+            throw new IllegalStateException("Snapshot de permissões desserializado com " + snapshot.tenants().size() + " Tenants.");
+        }
+        objectMapper.writeValueAsBytes(usageBatch);
+    }
+}
@@ -0,0 +1,63 @@
+package com.plataforma.gateway.warmup;
+
+import com.plataforma.gateway.security.AuthenticationManager;
+import com.plataforma.warmup.WarmupTask;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Valida tokens sintéticos pelo mesmo {@link AuthenticationManager} das requisições, para que o parsing
+ * do JWT e a verificação da assinatura HMAC já estejam compilados pelo JIT quando a instância ficar UP.
+ */
+@Component
+@Order(2)
+public class JwtWarmupTask implements WarmupTask {
+
+    private static final int TOKENS = 32;
+
+    private final AuthenticationManager authenticationManager;
+    private final List<String> tokens;
+
+    public JwtWarmupTask(AuthenticationManager authenticationManager, @Value("${jwt.secret}") String secret) {
+        this.authenticationManager = authenticationManager;
+        // Mesma chave usada pelo auth-service e pelo JwtService; os tokens valem só durante o aquecimento
+        Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        long now = System.currentTimeMillis();
+        this.tokens = IntStream.range(0, TOKENS)
+                .mapToObj(i -> Jwts.builder()
+                        .setSubject("warmup-" + i + "@plataforma.local")
+                        .setIssuedAt(new Date(now))
+                        .setExpiration(new Date(now + 3_600_000))
+                        .signWith(key, SignatureAlgorithm.HS256)
+                        .compact())
+                .toList();
+    }
+
+    @Override
+    public String name() {
+        return "jwt";
+    }
+
+    @Override
+    public void run(int iteration) {
+        String token = tokens.get(iteration % TOKENS);
+        Authentication authentication = authenticationManager
+                .authenticate(new UsernamePasswordAuthenticationToken(token, token))
+                .block();
+        if (authentication == null) {
+            throw new IllegalStateException("Token sintético rejeitado pelo AuthenticationManager.");
+        }
+    }
+}
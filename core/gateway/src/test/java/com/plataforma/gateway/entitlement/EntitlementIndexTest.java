@@ -0,0 +1,100 @@
+package com.plataforma.gateway.entitlement;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntitlementIndexTest {
+
+    private final EntitlementIndex index = new EntitlementIndex();
+
+    @Test
+    void naoEstaProntoAntesDaPrimeiraCargaCompleta() {
+        assertThat(index.isReady()).isFalse();
+
+        index.apply(List.of(new TenantEntitlement("t1", true, Set.of("mod-oficina"))));
+        assertThat(index.isReady()).isFalse();
+
+        index.replaceAll(List.of());
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void verificaSomenteOsModulosAssinados() {
+        int oficina = index.internModule("mod-oficina");
+        int estoque = index.internModule("mod-estoque");
+
+        index.replaceAll(List.of(new TenantEntitlement("t1", true, Set.of("mod-oficina"))));
+
+        assertThat(index.isEntitled("t1", oficina)).isTrue();
+        assertThat(index.isEntitled("t1", estoque)).isFalse();
+        assertThat(index.isEntitled("desconhecido", oficina)).isFalse();
+    }
+
+    @Test
+    void tenantInativoOuSemModulosNaoEntraNoIndice() {
+        int oficina = index.internModule("mod-oficina");
+
+        index.replaceAll(List.of(
+                new TenantEntitlement("inativo", false, Set.of("mod-oficina")),
+                new TenantEntitlement("sem-modulos", true, Set.of()),
+                new TenantEntitlement("sem-lista", true, null)));
+
+        assertThat(index.isEntitled("inativo", oficina)).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void internaOMesmoModuloComOMesmoId() {
+        assertThat(index.internModule("mod-oficina")).isEqualTo(index.internModule("mod-oficina"));
+        assertThat(index.internModule("mod-estoque")).isNotEqualTo(index.internModule("mod-oficina"));
+    }
+
+    @Test
+    void suportaMaisDe64Modulos() {
+        IntStream.range(0, 130).forEach(i -> index.internModule("mod-" + i));
+        index.replaceAll(List.of(new TenantEntitlement("t1", true, Set.of("mod-129"))));
+
+        assertThat(index.internModule("mod-129")).isEqualTo(129);
+        assertThat(index.isEntitled("t1", index.internModule("mod-129"))).isTrue();
+        assertThat(index.isEntitled("t1", index.internModule("mod-128"))).isFalse();
+        // IDs além do tamanho do bitset do Tenant
+        int later = index.internModule("mod-novo");
+        assertThat(index.isEntitled("t1", later)).isFalse();
+    }
+
+    @Test
+    void atualizacaoIncrementalAdicionaAlteraERemove() {
+        int oficina = index.internModule("mod-oficina");
+        int estoque = index.internModule("mod-estoque");
+        index.replaceAll(List.of(
+                new TenantEntitlement("t1", true, Set.of("mod-oficina")),
+                new TenantEntitlement("t2", true, Set.of("mod-oficina"))));
+
+        index.apply(List.of(
+                new TenantEntitlement("t1", true, Set.of("mod-estoque")),
+                new TenantEntitlement("t2", false, Set.of("mod-oficina")),
+                new TenantEntitlement("t3", true, Set.of("mod-oficina"))));
+
+        assertThat(index.isEntitled("t1", oficina)).isFalse();
+        assertThat(index.isEntitled("t1", estoque)).isTrue();
+        assertThat(index.isEntitled("t2", oficina)).isFalse();
+        assertThat(index.isEntitled("t3", oficina)).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void cargaCompletaDescartaTenantsAusentes() {
+        int oficina = index.internModule("mod-oficina");
+        index.replaceAll(List.of(new TenantEntitlement("t1", true, Set.of("mod-oficina"))));
+
+        index.replaceAll(List.of(new TenantEntitlement("t2", true, Set.of("mod-oficina"))));
+
+        assertThat(index.isEntitled("t1", oficina)).isFalse();
+        assertThat(index.isEntitled("t2", oficina)).isTrue();
+    }
+}
@@ -0,0 +1,93 @@
+package com.plataforma.gateway.metering;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UsageCountersTest {
+
+    private static final long HOUR = UsageCounters.HOUR_MILLIS;
+
+    private final AtomicLong now = new AtomicLong(10 * HOUR + 5_000);
+    private final UsageCounters counters = new UsageCounters(100, now::get);
+
+    @Test
+    void somaEZeraOsContadoresAoLer() {
+        counters.record("t1", "mod-oficina", "oficina", 10, 100);
+        counters.record("t1", "mod-oficina", "oficina", 5, 50);
+
+        List<UsageDelta> deltas = counters.drain();
+
+        assertThat(deltas).containsExactly(new UsageDelta("t1", "mod-oficina", "oficina",
+                Instant.ofEpochMilli(10 * HOUR), 2, 15, 150));
+        assertThat(counters.drain()).isEmpty();
+    }
+
+    @Test
+    void usaAHoraDaRequisicaoENaoADoEnvio() {
+        counters.record("t1", "mod-oficina", "oficina", 1, 1);
+        now.set(11 * HOUR + 1_000);
+        counters.record("t1", "mod-oficina", "oficina", 2, 2);
+
+        assertThat(counters.drain())
+                .extracting(UsageDelta::periodStart, UsageDelta::requests)
+                .containsExactlyInAnyOrder(
+                        tuple(Instant.ofEpochMilli(10 * HOUR), 1L),
+                        tuple(Instant.ofEpochMilli(11 * HOUR), 1L));
+    }
+
+    @Test
+    void removeAsChavesDeHorasEncerradasDepoisDaMargem() {
+        counters.record("t1", "mod-oficina", "oficina", 1, 1);
+        counters.record("t2", "mod-oficina", "oficina", 1, 1);
+
+        // Hora encerrada, mas ainda dentro da margem: a chave continua
+        now.set(11 * HOUR + UsageCounters.RETIRE_GRACE_MILLIS - 1);
+        assertThat(counters.drain()).hasSize(2);
+        assertThat(counters.size()).isEqualTo(2);
+
+        now.set(11 * HOUR + UsageCounters.RETIRE_GRACE_MILLIS);
+        counters.record("t1", "mod-oficina", "oficina", 3, 3);
+        assertThat(counters.drain()).hasSize(1);
+        assertThat(counters.size()).isEqualTo(1);
+    }
+
+    @Test
+    void liberaEspacoParaNovasChavesNaHoraSeguinte() {
+        UsageCounters limited = new UsageCounters(1, now::get);
+        limited.record("t1", "mod-oficina", "oficina", 1, 1);
+        limited.record("t2", "mod-oficina", "oficina", 1, 1);
+        assertThat(limited.drainOverflow()).isEqualTo(1);
+        assertThat(limited.drain()).extracting(UsageDelta::tenantId, UsageDelta::route)
+                .containsExactlyInAnyOrder(tuple("t1", "oficina"), tuple("t2", UsageCounters.OVERFLOW_ROUTE));
+
+        now.set(11 * HOUR + UsageCounters.RETIRE_GRACE_MILLIS);
+        limited.drain();
+        limited.record("t2", "mod-oficina", "oficina", 1, 1);
+
+        assertThat(limited.drainOverflow()).isZero();
+        assertThat(limited.drain()).extracting(UsageDelta::tenantId).containsExactly("t2");
+    }
+
+    @Test
+    void acimaDoLimiteCobraOTenantNaRotaAgregada() {
+        UsageCounters limited = new UsageCounters(1, now::get);
+        limited.record("t1", "mod-oficina", "oficina", 1, 1);
+        limited.record("t2", "mod-oficina", "oficina", 10, 100);
+        limited.record("t2", "mod-oficina", "oficina-v2", 20, 200);
+        limited.record("t3", "mod-estoque", "estoque", 1, 1);
+
+        assertThat(limited.drainOverflow()).isEqualTo(3);
+        assertThat(limited.drain())
+                .extracting(UsageDelta::tenantId, UsageDelta::module, UsageDelta::route, UsageDelta::requests, UsageDelta::bytesIn)
+                .containsExactlyInAnyOrder(
+                        tuple("t1", "mod-oficina", "oficina", 1L, 1L),
+                        tuple("t2", "mod-oficina", UsageCounters.OVERFLOW_ROUTE, 2L, 30L),
+                        tuple("t3", "mod-estoque", UsageCounters.OVERFLOW_ROUTE, 1L, 1L));
+    }
+}
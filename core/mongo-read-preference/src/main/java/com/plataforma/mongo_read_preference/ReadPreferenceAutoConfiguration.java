@@ -0,0 +1,15 @@
+package com.plataforma.mongo_read_preference;
+
+import com.mongodb.ReadPreference;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * Configuração automática da {@link ReadPreferencePolicy}. Sem nenhuma propriedade, todas as leituras vão ao primário.
+ */
+@AutoConfiguration
+@ConditionalOnClass(ReadPreference.class)
+@EnableConfigurationProperties(ReadPreferencePolicy.class)
+public class ReadPreferenceAutoConfiguration {
+}
@@ -0,0 +1,63 @@
+package com.plataforma.mongo_read_preference;
+
+import com.mongodb.ReadPreference;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Política de leitura por operação dos adaptadores de persistência ({@code plataforma.mongo.read-preference.*}).
+ *
+ * Cada operação de leitura tem um nome definido pelo adaptador (ex.: {@code find-all}) e pode ser direcionada a um modo do
+ * MongoDB ({@code primary}, {@code primaryPreferred}, {@code secondary}, {@code secondaryPreferred}, {@code nearest}).
+ * Operações não configuradas leem do primário. Leituras de secundários aceitam no máximo
+ * {@code max-staleness} de atraso de replicação; membros mais atrasados são ignorados pelo driver.
+ *
+ * O adaptador aplica o modo em cada consulta, com {@code Query.withReadPreference(forOperation(nome))}.
+ */
+@ConfigurationProperties(prefix = "plataforma.mongo.read-preference")
+@Getter
+@Setter
+public class ReadPreferencePolicy {
+
+    /**
+     * Atraso máximo aceito de um secundário. O MongoDB exige no mínimo 90 segundos.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(90);
+
+    /**
+     * Modo de leitura por operação.
+     */
+    private Map<String, String> operations = new HashMap<>();
+
+    private final Map<String, ReadPreference> resolved = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void validate() {
+        // Também executado a cada refresh das propriedades: descarta os modos resolvidos da versão anterior
+        resolved.clear();
+        // Um modo inválido falha na inicialização, e não na primeira requisição
+        operations.keySet().forEach(this::forOperation);
+    }
+
+    public ReadPreference forOperation(String operation) {
+        return resolved.computeIfAbsent(operation, this::resolve);
+    }
+
+    private ReadPreference resolve(String operation) {
+        String mode = operations.getOrDefault(operation, "primary");
+        if ("primary".equalsIgnoreCase(mode)) {
+            // O primário não aceita maxStaleness
+            return ReadPreference.primary();
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
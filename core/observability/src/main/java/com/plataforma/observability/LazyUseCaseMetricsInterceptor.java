@@ -0,0 +1,34 @@
+package com.plataforma.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Cria o {@link UseCaseMetricsInterceptor} na primeira chamada. Advisors são instanciados antes dos
+ * outros beans; obter o {@link MeterRegistry} nesse momento o criaria sem os filtros e binders da aplicação.
+ */
+final class LazyUseCaseMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private volatile UseCaseMetricsInterceptor delegate;
+
+    LazyUseCaseMetricsInterceptor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        UseCaseMetricsInterceptor interceptor = delegate;
+        if (interceptor == null) {
+            synchronized (this) {
+                if (delegate == null) {
+                    delegate = new UseCaseMetricsInterceptor(registry.getObject());
+                }
+                interceptor = delegate;
+            }
+        }
+        return interceptor.invoke(invocation);
+    }
+}
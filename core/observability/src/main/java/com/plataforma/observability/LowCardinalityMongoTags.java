@@ -0,0 +1,68 @@
+package com.plataforma.observability;
+
+import com.mongodb.event.CommandEvent;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoConnectionPoolTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoConnectionPoolTagsProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tags das métricas do driver do MongoDB sem o {@code cluster.id}, que é um ID aleatório por
+ * {@code MongoClient} e criaria séries novas a cada reinício.
+ *
+ * Comandos ({@code mongodb.driver.commands}): {@code command}, {@code collection} e {@code status}.
+ * Pool ({@code mongodb.driver.pool.*}): {@code server.address}, limitado aos membros do cluster, e {@code client}.
+ *
+ * Sem o {@code client}, os pools de dois {@code MongoClient} no mesmo servidor (ex: o cliente padrão e um
+ * cluster dedicado do tenant-routing) teriam o mesmo ID de métrica e um sobrescreveria o outro. O valor é o
+ * {@code applicationName} do cliente, que o driver grava na descrição do {@link ClusterId}, ou {@code default}.
+ */
+final class LowCardinalityMongoTags {
+
+    private static final Set<String> COMMAND_TAGS = Set.of("command", "collection", "status");
+    private static final Set<String> POOL_TAGS = Set.of("server.address");
+    private static final String DEFAULT_CLIENT = "default";
+
+    private LowCardinalityMongoTags() {
+    }
+
+    static MongoCommandTagsProvider commandTags() {
+        return new DefaultMongoCommandTagsProvider() {
+
+            @Override
+            public Iterable<Tag> commandTags(CommandEvent event) {
+                return retain(super.commandTags(event), COMMAND_TAGS);
+            }
+        };
+    }
+
+    static MongoConnectionPoolTagsProvider connectionPoolTags() {
+        return new DefaultMongoConnectionPoolTagsProvider() {
+
+            @Override
+            public Iterable<Tag> connectionPoolTags(ConnectionPoolCreatedEvent event) {
+                List<Tag> tags = retain(super.connectionPoolTags(event), POOL_TAGS);
+                String client = event.getServerId().getClusterId().getDescription();
+                tags.add(Tag.of("client", client != null && !client.isBlank() ? client : DEFAULT_CLIENT));
+                return tags;
+            }
+        };
+    }
+
+    private static List<Tag> retain(Iterable<Tag> tags, Set<String> keys) {
+        List<Tag> retained = new ArrayList<>(keys.size() + 1);
+        for (Tag tag : tags) {
+            if (keys.contains(tag.getKey())) {
+                retained.add(tag);
+            }
+        }
+        return retained;
+    }
+}
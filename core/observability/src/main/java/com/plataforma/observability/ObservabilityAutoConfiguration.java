@@ -0,0 +1,87 @@
+package com.plataforma.observability;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import io.micrometer.core.instrument.binder.mongodb.MongoConnectionPoolTagsProvider;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.mongo.MongoMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração automática das métricas dos serviços.
+ *
+ * <ul>
+ *     <li>Timer {@code plataforma.usecase} em todos os métodos das portas de entrada;</li>
+ *     <li>tags de baixa cardinalidade para os listeners de comandos e de pool do MongoDB, registrados
+ *     pelo próprio Spring Boot ({@link MongoMetricsAutoConfiguration});</li>
+ *     <li>histogramas (buckets) para esses timers, para que o Prometheus calcule p95/p99 agregados entre instâncias.</li>
+ * </ul>
+ */
+@AutoConfiguration(before = MongoMetricsAutoConfiguration.class, after = CompositeMeterRegistryAutoConfiguration.class)
+@EnableConfigurationProperties(ObservabilityProperties.class)
+public class ObservabilityAutoConfiguration {
+
+    private static final Duration HISTOGRAM_MIN = Duration.ofMillis(1);
+    private static final Duration HISTOGRAM_MAX = Duration.ofSeconds(10);
+
+    @Bean
+    @ConditionalOnProperty(prefix = "plataforma.observability", name = "use-case-metrics", havingValue = "true", matchIfMissing = true)
+    public static Advisor useCaseMetricsAdvisor(ObjectProvider<MeterRegistry> registry, ObservabilityProperties properties) {
+        AspectJExpressionPointcutAdvisor advisor = new AspectJExpressionPointcutAdvisor();
+        advisor.setExpression(properties.getUseCasePointcut());
+        // O registro é resolvido na primeira chamada: o Advisor é criado antes dos demais beans
+        advisor.setAdvice(new LazyUseCaseMetricsInterceptor(registry));
+        return advisor;
+    }
+
+    @Bean
+    public MeterFilter platformHistogramsMeterFilter() {
+        return new MeterFilter() {
+
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String name = id.getName();
+                if (name.equals(UseCaseMetricsInterceptor.METRIC) || name.equals("mongodb.driver.commands")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .minimumExpectedValue((double) HISTOGRAM_MIN.toNanos())
+                            .maximumExpectedValue((double) HISTOGRAM_MAX.toNanos())
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.mongodb.event.CommandListener")
+    static class MongoTagsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MongoCommandTagsProvider mongoCommandTagsProvider() {
+            return LowCardinalityMongoTags.commandTags();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MongoConnectionPoolTagsProvider mongoConnectionPoolTagsProvider() {
+            return LowCardinalityMongoTags.connectionPoolTags();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.plataforma.observability;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração das métricas dos serviços ({@code plataforma.observability.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "plataforma.observability")
+public class ObservabilityProperties {
+
+    /**
+     * Mede os métodos das portas de entrada (casos de uso).
+     */
+    private boolean useCaseMetrics = true;
+
+    /**
+     * Pointcut AspectJ dos métodos medidos. O padrão cobre as portas de entrada de todos os serviços
+     * da plataforma, que seguem a arquitetura hexagonal ({@code domain.port.in}).
+     */
+    private String useCasePointcut = "execution(public * com.plataforma..domain.port.in..*(..))";
+}
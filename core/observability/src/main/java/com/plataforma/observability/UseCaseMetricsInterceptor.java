@@ -0,0 +1,124 @@
+package com.plataforma.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mede cada chamada a um caso de uso no timer {@value #METRIC}.
+ *
+ * Tags (todas de cardinalidade limitada pelo código, nunca por dados da requisição):
+ * {@code use_case} (a porta de entrada, ex: {@code TenantUseCase}), {@code method}, {@code outcome}
+ * ({@code SUCCESS}, {@code ERROR} ou {@code CANCELLED}) e {@code exception} (classe da exceção ou {@code none}).
+ *
+ * Retornos assíncronos são medidos até o término: {@link CompletionStage} até completar e, com o
+ * Reactor no classpath, {@code Mono}/{@code Flux} da inscrição até o fim da sequência.
+ */
+public class UseCaseMetricsInterceptor implements MethodInterceptor {
+
+    public static final String METRIC = "plataforma.usecase";
+
+    private static final boolean REACTOR_PRESENT =
+            ClassUtils.isPresent("reactor.core.publisher.Mono", UseCaseMetricsInterceptor.class.getClassLoader());
+
+    private final MeterRegistry registry;
+    private final Map<Method, Tags> tagsByMethod = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tags tags = tagsByMethod.computeIfAbsent(invocation.getMethod(), method -> tagsFor(method, invocation.getThis()));
+        Timer.Sample sample = Timer.start(registry);
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            stop(sample, tags, "ERROR", e);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            // Retorna o próprio stage: um CompletableFuture derivado não repassaria o cancelamento
+            stage.whenComplete((value, error) -> stop(sample, tags, error == null ? "SUCCESS" : "ERROR", unwrap(error)));
+            return result;
+        }
+        if (REACTOR_PRESENT && ReactiveTiming.isPublisher(result)) {
+            return ReactiveTiming.time(this, result, tags);
+        }
+        stop(sample, tags, "SUCCESS", null);
+        return result;
+    }
+
+    void stop(Timer.Sample sample, Tags tags, String outcome, Throwable error) {
+        sample.stop(Timer.builder(METRIC)
+                .description("Duração das chamadas aos casos de uso (portas de entrada)")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .register(registry));
+    }
+
+    MeterRegistry registry() {
+        return registry;
+    }
+
+    private static Tags tagsFor(Method method, Object target) {
+        // Com proxies CGLIB o método é o da implementação; a tag usa a interface da porta que o declara
+        String useCase = method.getDeclaringClass().getSimpleName();
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (ClassUtils.hasMethod(candidate, method.getName(), method.getParameterTypes())) {
+                useCase = candidate.getSimpleName();
+                break;
+            }
+        }
+        return Tags.of("use_case", useCase, "method", method.getName());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Isolada para que as classes do Reactor só sejam carregadas quando ele estiver no classpath.
+     */
+    private static final class ReactiveTiming {
+
+        static boolean isPublisher(Object result) {
+            return result instanceof Mono<?> || result instanceof Flux<?>;
+        }
+
+        static Object time(UseCaseMetricsInterceptor interceptor, Object result, Tags tags) {
+            if (result instanceof Mono<?> mono) {
+                return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(interceptor.registry());
+                    return mono.doOnSuccess(value -> interceptor.stop(sample, tags, "SUCCESS", null))
+                            .doOnError(error -> interceptor.stop(sample, tags, "ERROR", error))
+                            .doOnCancel(() -> interceptor.stop(sample, tags, "CANCELLED", null));
+                });
+            }
+            Flux<?> flux = (Flux<?>) result;
+            return Flux.defer(() -> {
+                Timer.Sample sample = Timer.start(interceptor.registry());
+                return flux.doOnComplete(() -> interceptor.stop(sample, tags, "SUCCESS", null))
+                        .doOnError(error -> interceptor.stop(sample, tags, "ERROR", error))
+                        .doOnCancel(() -> interceptor.stop(sample, tags, "CANCELLED", null));
+            });
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.plataforma.tenant_routing;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+
+/**
+ * Fábrica de bancos que devolve o banco do Tenant atual ({@link TenantContext}).
+ * Sem Tenant na requisição, ou para Tenants sem banco dedicado, usa o banco padrão.
+ *
+ * Transações só são suportadas em Tenants alocados no cluster padrão, pois as sessões
+ * são abertas no MongoClient padrão.
+ */
+class TenantAwareMongoDatabaseFactory extends SimpleMongoClientDatabaseFactory {
+
+    private final TenantDatabaseRouter router;
+
+    TenantAwareMongoDatabaseFactory(MongoClient mongoClient, String databaseName, TenantDatabaseRouter router) {
+        super(mongoClient, databaseName);
+        this.router = router;
+    }
+
+    @Override
+    public MongoDatabase getMongoDatabase() throws DataAccessException {
+        String tenantId = TenantContext.getTenantId();
+        MongoDatabase database = tenantId != null ? router.getDatabase(tenantId) : null;
+        return database != null ? database : super.getMongoDatabase();
+    }
+}
@@ -0,0 +1,32 @@
+package com.plataforma.tenant_routing;
+
+/**
+ * Guarda o Tenant da requisição em andamento na thread atual.
+ *
+ * Preenchido pelo {@link TenantContextFilter} em aplicações Servlet, a partir do JWT. Em WebFlux nunca é
+ * preenchido, e {@link TenantDatabaseRouter#mongoTemplate()} falha em vez de usar o banco padrão.
+ * Código que troca de thread (executores, {@code @Async}, CompletableFuture) precisa repassar o Tenant
+ * explicitamente.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return o ID do Tenant atual, ou {@code null} fora de uma requisição de Tenant.
+     */
+    public static String getTenantId() {
+        return CURRENT_TENANT.get();
+    }
+
+    public static void setTenantId(String tenantId) {
+        CURRENT_TENANT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT_TENANT.remove();
+    }
+}
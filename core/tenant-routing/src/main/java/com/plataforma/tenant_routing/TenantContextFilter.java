@@ -0,0 +1,50 @@
+package com.plataforma.tenant_routing;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Lê o Tenant do JWT repassado pelo Gateway (claim {@code tenantId}, verificado pelo {@link TenantTokenVerifier})
+ * e o disponibiliza no {@link TenantContext} enquanto a requisição é processada.
+ *
+ * Requisições sem token (chamadas internas entre serviços) seguem sem Tenant, no banco padrão. Um token
+ * inválido recebe {@code 401}, em vez de seguir para o banco padrão com os dados de um Tenant dedicado.
+ */
+public class TenantContextFilter extends OncePerRequestFilter {
+
+    private final TenantTokenVerifier verifier;
+
+    TenantContextFilter(TenantTokenVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String tenantId;
+        try {
+            tenantId = verifier.tenantOf(request.getHeader(HttpHeaders.AUTHORIZATION));
+        } catch (JwtException e) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        if (tenantId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TenantContext.setTenantId(tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
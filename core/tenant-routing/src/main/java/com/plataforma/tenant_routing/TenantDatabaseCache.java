@@ -0,0 +1,84 @@
+package com.plataforma.tenant_routing;
+
+import com.mongodb.client.MongoDatabase;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache LRU limitado dos bancos de Tenants, com expiração por inatividade.
+ *
+ * A leitura é um simples {@code get} no ConcurrentHashMap seguido de uma escrita volátil do
+ * último acesso, sem lock. O lock só é tomado para remover o Tenant menos usado quando o
+ * limite é ultrapassado. Um {@link MongoDatabase} não tem conexões próprias (elas ficam no
+ * pool do MongoClient), então remover uma entrada nunca fecha nada que esteja em uso.
+ */
+class TenantDatabaseCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    TenantDatabaseCache(int maxSize, long idleTimeoutNanos) {
+        this(maxSize, idleTimeoutNanos, System::nanoTime);
+    }
+
+    TenantDatabaseCache(int maxSize, long idleTimeoutNanos, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    MongoDatabase get(String tenantId, Function<String, MongoDatabase> loader) {
+        Entry entry = entries.get(tenantId);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(tenantId, id -> new Entry(loader.apply(id), nanoClock.getAsLong()));
+            if (entries.size() > maxSize) {
+                evictLeastRecentlyUsed();
+            }
+        }
+        entry.lastAccessNanos = nanoClock.getAsLong();
+        return entry.database;
+    }
+
+    /**
+     * Remove os Tenants sem acesso há mais tempo que o limite de inatividade.
+     *
+     * @return a quantidade de Tenants removidos.
+     */
+    int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = entries.size();
+        entries.values().removeIf(entry -> now - entry.lastAccessNanos > idleTimeoutNanos);
+        return before - entries.size();
+    }
+
+    private synchronized void evictLeastRecentlyUsed() {
+        while (entries.size() > maxSize) {
+            Map.Entry<String, Entry> eldest = null;
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                if (eldest == null || candidate.getValue().lastAccessNanos < eldest.getValue().lastAccessNanos) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private static final class Entry {
+
+        private final MongoDatabase database;
+        private volatile long lastAccessNanos;
+
+        private Entry(MongoDatabase database, long createdNanos) {
+            this.database = database;
+            this.lastAccessNanos = createdNanos;
+        }
+    }
+}
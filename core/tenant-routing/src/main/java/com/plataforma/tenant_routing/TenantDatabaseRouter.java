@@ -0,0 +1,137 @@
+package com.plataforma.tenant_routing;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Resolve o banco MongoDB de cada Tenant e expõe um {@link MongoTemplate} que segue o Tenant da requisição.
+ *
+ * Os módulos de negócio injetam este bean e usam {@link #mongoTemplate()} para os dados dos Tenants.
+ * O {@code MongoTemplate} padrão da aplicação continua apontando para o banco compartilhado
+ * (ex: o catálogo de Tenants do tenant-service).
+ */
+public class TenantDatabaseRouter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantDatabaseRouter.class);
+
+    private final MongoClient defaultClient;
+    private final TenantRoutingProperties properties;
+    private final TenantDatabaseCache cache;
+    private final Map<String, MongoClient> clusterClients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+    private final MongoTemplate mongoTemplate;
+    private final Consumer<MongoClientSettings.Builder> clusterClientCustomizer;
+    private final boolean requestContextAvailable;
+
+    /**
+     * @param clusterClientCustomizer aplicado às configurações dos clientes dos clusters dedicados
+     *                                (ex: os listeners de métricas do driver, os mesmos do cliente padrão).
+     * @param requestContextAvailable se o {@link TenantContext} é preenchido nas requisições (aplicações Servlet).
+     */
+    public TenantDatabaseRouter(MongoClient defaultClient, String defaultDatabase, MongoConverter converter,
+                                TenantRoutingProperties properties,
+                                Consumer<MongoClientSettings.Builder> clusterClientCustomizer,
+                                boolean requestContextAvailable) {
+        this.defaultClient = defaultClient;
+        this.properties = properties;
+        this.clusterClientCustomizer = clusterClientCustomizer;
+        this.requestContextAvailable = requestContextAvailable;
+        this.cache = new TenantDatabaseCache(properties.getMaxCachedTenants(), properties.getIdleTimeout().toNanos());
+        validate(properties);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tenant-db-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = Math.max(properties.getIdleTimeout().toMillis() / 2, 1000);
+        this.evictor.scheduleWithFixedDelay(this::evictIdle, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+
+        this.mongoTemplate = new MongoTemplate(
+                new TenantAwareMongoDatabaseFactory(defaultClient, defaultDatabase, this), converter);
+        log.info("Roteamento de dados por Tenant ativo: {} Tenants com banco dedicado em {} clusters adicionais.",
+                properties.getTenants().size(), properties.getClusters().size());
+        if (!requestContextAvailable) {
+            log.warn("Aplicação WebFlux: o Tenant das requisições não é conhecido. Só getDatabase(tenantId) pode ser usado.");
+        }
+    }
+
+    /**
+     * @return o {@link MongoTemplate} que opera no banco do Tenant da requisição atual.
+     * @throws IllegalStateException em aplicações WebFlux, onde o {@link TenantContext} (um ThreadLocal)
+     *                               nunca é preenchido e todos os dados iriam para o banco padrão.
+     */
+    public MongoTemplate mongoTemplate() {
+        if (!requestContextAvailable) {
+            throw new IllegalStateException("O roteamento pelo Tenant da requisição só é suportado em aplicações "
+                    + "Servlet. Em WebFlux, use getDatabase(tenantId) com o Tenant obtido do token.");
+        }
+        return mongoTemplate;
+    }
+
+    /**
+     * @return o banco dedicado do Tenant, ou {@code null} se ele usa o banco padrão.
+     */
+    public MongoDatabase getDatabase(String tenantId) {
+        TenantRoutingProperties.Route route = properties.getTenants().get(tenantId);
+        if (route == null) {
+            return null;
+        }
+        return cache.get(tenantId, id -> clientFor(route.getCluster()).getDatabase(route.getDatabase()));
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+        clusterClients.values().forEach(MongoClient::close);
+    }
+
+    private MongoClient clientFor(String cluster) {
+        if (cluster == null || cluster.isBlank()) {
+            return defaultClient;
+        }
+        // Um MongoClient por cluster: todos os Tenants do cluster compartilham o mesmo pool de conexões
+        return clusterClients.computeIfAbsent(cluster, name -> {
+            log.info("Abrindo conexão com o cluster de Tenants '{}'.", name);
+            MongoClientSettings.Builder settings = MongoClientSettings.builder()
+                    .applyConnectionString(new ConnectionString(properties.getClusters().get(name).getUri()))
+                    .applicationName("tenant-routing-" + name);
+            clusterClientCustomizer.accept(settings);
+            return MongoClients.create(settings.build());
+        });
+    }
+
+    private void evictIdle() {
+        int evicted = cache.evictIdle();
+        if (evicted > 0) {
+            log.debug("{} Tenants inativos removidos do cache de bancos.", evicted);
+        }
+    }
+
+    private static void validate(TenantRoutingProperties properties) {
+        properties.getTenants().forEach((tenantId, route) -> {
+            if (route.getDatabase() == null || route.getDatabase().isBlank()) {
+                throw new IllegalStateException("Tenant '" + tenantId + "' sem 'database' em plataforma.tenant-routing.tenants.");
+            }
+            String cluster = route.getCluster();
+            if (cluster != null && !cluster.isBlank() && !properties.getClusters().containsKey(cluster)) {
+                throw new IllegalStateException("Tenant '" + tenantId + "' aponta para o cluster desconhecido '" + cluster + "'.");
+            }
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.plataforma.tenant_routing;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.ConnectionPoolListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuração automática do roteamento de dados por Tenant, ativada com
+ * {@code plataforma.tenant-routing.enabled=true}.
+ *
+ * Não registra um segundo {@code MongoDatabaseFactory} nem {@code MongoTemplate} como beans, para não
+ * criar ambiguidade com os da aplicação; o template roteado é obtido pelo {@link TenantDatabaseRouter}.
+ */
+@AutoConfiguration(after = MongoDataAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "plataforma.tenant-routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TenantRoutingProperties.class)
+public class TenantRoutingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TenantDatabaseRouter tenantDatabaseRouter(MongoClient mongoClient, MongoProperties mongoProperties,
+                                                     MongoConverter mongoConverter, TenantRoutingProperties properties,
+                                                     ObjectProvider<CommandListener> commandListeners,
+                                                     ObjectProvider<ConnectionPoolListener> connectionPoolListeners,
+                                                     ApplicationContext applicationContext) {
+        // Os clusters dedicados recebem os mesmos listeners do cliente padrão (ex: métricas de comandos e do pool)
+        return new TenantDatabaseRouter(mongoClient, mongoProperties.getMongoClientDatabase(), mongoConverter, properties,
+                settings -> {
+                    commandListeners.orderedStream().forEach(settings::addCommandListener);
+                    connectionPoolListeners.orderedStream().forEach(listener -> settings.applyToConnectionPoolSettings(
+                            pool -> pool.addConnectionPoolListener(listener)));
+                },
+                !(applicationContext instanceof ReactiveWebApplicationContext));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletTenantContextConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<TenantContextFilter> tenantContextFilter(TenantRoutingProperties properties,
+                                                                               Environment environment) {
+            String secret = StringUtils.hasText(properties.getJwtSecret())
+                    ? properties.getJwtSecret() : environment.getProperty("jwt.secret");
+            if (!StringUtils.hasText(secret)) {
+                throw new IllegalStateException("O roteamento por Tenant exige a chave do JWT "
+                        + "(plataforma.tenant-routing.jwt-secret ou jwt.secret), de onde vem o Tenant da requisição.");
+            }
+            FilterRegistrationBean<TenantContextFilter> registration = new FilterRegistrationBean<>(
+                    new TenantContextFilter(new TenantTokenVerifier(secret, properties.getTenantClaim())));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+}
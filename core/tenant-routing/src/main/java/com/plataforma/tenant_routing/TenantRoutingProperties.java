@@ -0,0 +1,72 @@
+package com.plataforma.tenant_routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuração do roteamento de dados por Tenant ({@code plataforma.tenant-routing.*}).
+ *
+ * Tenants sem entrada em {@code tenants} continuam no banco padrão ({@code spring.data.mongodb}).
+ */
+@Data
+@ConfigurationProperties(prefix = "plataforma.tenant-routing")
+public class TenantRoutingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Chave HMAC dos JWTs emitidos pelo auth-service. Vazio usa {@code jwt.secret}; sem nenhuma das duas,
+     * a aplicação não sobe com o roteamento ativo.
+     */
+    private String jwtSecret;
+
+    /**
+     * Claim do JWT com o Tenant do usuário.
+     */
+    private String tenantClaim = "tenantId";
+
+    /**
+     * Quantidade máxima de bancos de Tenants mantidos em cache ao mesmo tempo.
+     */
+    private int maxCachedTenants = 256;
+
+    /**
+     * Tempo sem acesso após o qual o banco de um Tenant sai do cache.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Clusters dedicados, por nome. Cada cluster tem um único MongoClient (e pool de conexões),
+     * compartilhado por todos os Tenants alocados nele.
+     */
+    private Map<String, Cluster> clusters = new HashMap<>();
+
+    /**
+     * Tenants com banco dedicado, por ID do Tenant.
+     */
+    private Map<String, Route> tenants = new HashMap<>();
+
+    @Data
+    public static class Cluster {
+
+        private String uri;
+    }
+
+    @Data
+    public static class Route {
+
+        /**
+         * Nome do banco do Tenant.
+         */
+        private String database;
+
+        /**
+         * Nome do cluster (em {@code clusters}); vazio para usar o cluster padrão.
+         */
+        private String cluster;
+    }
+}
@@ -0,0 +1,41 @@
+package com.plataforma.tenant_routing;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Extrai o Tenant do JWT repassado pelo Gateway no cabeçalho {@code Authorization}, depois de verificar
+ * a assinatura e a expiração. O Tenant nunca é lido de um cabeçalho livre, que o cliente poderia forjar.
+ */
+class TenantTokenVerifier {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtParser parser;
+    private final String tenantClaim;
+
+    TenantTokenVerifier(String secret, String tenantClaim) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.tenantClaim = tenantClaim;
+    }
+
+    /**
+     * @return o Tenant do token, ou {@code null} sem cabeçalho {@code Authorization} ou sem o claim do Tenant.
+     * @throws JwtException se o token for inválido ou estiver expirado.
+     */
+    String tenantOf(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return null;
+        }
+        String tenantId = parser.parseClaimsJws(authorization.substring(BEARER.length()))
+                .getBody()
+                .get(tenantClaim, String.class);
+        return tenantId == null || tenantId.isBlank() ? null : tenantId;
+    }
+}
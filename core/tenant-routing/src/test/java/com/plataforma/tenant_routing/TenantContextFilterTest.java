@@ -0,0 +1,80 @@
+package com.plataforma.tenant_routing;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantContextFilterTest {
+
+    private static final String SECRET = "chave-de-teste-com-pelo-menos-trinta-e-dois-bytes";
+
+    private final TenantContextFilter filter = new TenantContextFilter(new TenantTokenVerifier(SECRET, "tenantId"));
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tenants");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final List<String> tenantsSeen = new ArrayList<>();
+
+    @AfterEach
+    void clearContext() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void semTokenSegueSemTenant() throws Exception {
+        filter.doFilter(request, response, (req, res) -> tenantsSeen.add(TenantContext.getTenantId()));
+
+        assertThat(tenantsSeen).containsExactly((String) null);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void tokenInvalidoRecebe401SemChegarAoServico() throws Exception {
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token("t1", "outra-chave-com-pelo-menos-trinta-e-dois-bytes"));
+
+        filter.doFilter(request, response, (req, res) -> tenantsSeen.add(TenantContext.getTenantId()));
+
+        assertThat(tenantsSeen).isEmpty();
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void preencheOTenantDuranteARequisicaoELimpaDepois() throws Exception {
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token("t1", SECRET));
+
+        filter.doFilter(request, response, (req, res) -> tenantsSeen.add(TenantContext.getTenantId()));
+
+        assertThat(tenantsSeen).containsExactly("t1");
+        assertThat(TenantContext.getTenantId()).isNull();
+    }
+
+    @Test
+    void limpaOTenantMesmoQuandoOServicoFalha() {
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token("t1", SECRET));
+
+        assertThatThrownBy(() -> filter.doFilter(request, response, (req, res) -> {
+            throw new IllegalStateException("falha no serviço");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(TenantContext.getTenantId()).isNull();
+    }
+
+    private static String token(String tenantId, String secret) {
+        return Jwts.builder()
+                .setSubject("usuario@oficina.com")
+                .claim("tenantId", tenantId)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
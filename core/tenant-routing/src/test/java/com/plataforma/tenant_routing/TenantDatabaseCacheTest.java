@@ -0,0 +1,67 @@
+package com.plataforma.tenant_routing;
+
+import com.mongodb.client.MongoDatabase;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TenantDatabaseCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final List<String> loaded = new ArrayList<>();
+    private final Function<String, MongoDatabase> loader = tenantId -> {
+        loaded.add(tenantId);
+        return mock(MongoDatabase.class);
+    };
+
+    @Test
+    void reaproveitaOBancoJaResolvido() {
+        TenantDatabaseCache cache = new TenantDatabaseCache(10, 1_000, now::get);
+
+        MongoDatabase primeiro = cache.get("t1", loader);
+        MongoDatabase segundo = cache.get("t1", loader);
+
+        assertThat(segundo).isSameAs(primeiro);
+        assertThat(loaded).containsExactly("t1");
+    }
+
+    @Test
+    void acimaDoLimiteRemoveOTenantMenosUsado() {
+        TenantDatabaseCache cache = new TenantDatabaseCache(2, 1_000, now::get);
+        cache.get("t1", loader);
+        now.incrementAndGet();
+        cache.get("t2", loader);
+        now.incrementAndGet();
+        // t1 volta a ser usado: o menos usado agora é t2
+        cache.get("t1", loader);
+        now.incrementAndGet();
+
+        cache.get("t3", loader);
+        cache.get("t1", loader);
+        cache.get("t2", loader);
+
+        assertThat(loaded).containsExactly("t1", "t2", "t3", "t2");
+    }
+
+    @Test
+    void removeSoOsTenantsInativosAlemDoLimite() {
+        TenantDatabaseCache cache = new TenantDatabaseCache(10, 100, now::get);
+        cache.get("t1", loader);
+        cache.get("t2", loader);
+        now.addAndGet(60);
+        cache.get("t2", loader);
+        now.addAndGet(60);
+
+        assertThat(cache.evictIdle()).isEqualTo(1);
+
+        cache.get("t1", loader);
+        cache.get("t2", loader);
+        assertThat(loaded).containsExactly("t1", "t2", "t1");
+    }
+}
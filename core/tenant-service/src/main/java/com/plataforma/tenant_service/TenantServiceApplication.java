@@ -1,6 +1,8 @@
 package com.plataforma.tenant_service;
 
+import com.plataforma.tenant_service.adapter.in.transfer.TenantTransferRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
@@ -9,7 +11,13 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 public class TenantServiceApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(TenantServiceApplication.class, args);
+        SpringApplication application = new SpringApplication(TenantServiceApplication.class);
+        if (TenantTransferRunner.isCommand(args)) {
+            // Exportação/importação pela linha de comando: sem servidor HTTP e sem registro no Eureka
+            application.setWebApplicationType(WebApplicationType.NONE);
+            args = TenantTransferRunner.commandArgs(args);
+        }
+        application.run(args);
     }
 
 }
@@ -0,0 +1,102 @@
+package com.plataforma.tenant_service.adapter.in.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.port.in.TenantTransferUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Converte Tenants de/para NDJSON (um Tenant por linha), opcionalmente compactado com gzip.
+ *
+ * Os dois sentidos trabalham em fluxo: a exportação escreve cada Tenant assim que ele sai do cursor
+ * do MongoDB e a importação grava blocos de {@value #IMPORT_CHUNK_SIZE}. O heap usado não depende da
+ * quantidade de Tenants. Usado pelo endpoint HTTP e pelo modo de linha de comando.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantNdjsonTransfer {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    static final int IMPORT_CHUNK_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TenantTransferUseCase tenantTransferUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Escreve todos os Tenants no destino. O stream de destino não é fechado.
+     *
+     * @return a quantidade de Tenants exportados.
+     */
+    public long exportTo(OutputStream target, boolean gzip) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(target, BUFFER_SIZE) : null;
+        OutputStream out = new BufferedOutputStream(gzip ? gzipStream : target, BUFFER_SIZE);
+        long exported;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            exported = tenantTransferUseCase.exportTenants(tenant -> {
+                try {
+                    objectMapper.writeValue(generator, tenant);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        return exported;
+    }
+
+    /**
+     * Lê Tenants em NDJSON da origem e os importa em blocos. Conteúdo gzip é detectado automaticamente.
+     *
+     * @return a quantidade de Tenants importados (sem os excluídos, que são ignorados).
+     */
+    public long importFrom(InputStream source) throws IOException {
+        InputStream in = decompressIfGzip(new BufferedInputStream(source, BUFFER_SIZE));
+        long imported = 0;
+        List<Tenant> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        try (MappingIterator<Tenant> tenants = objectMapper.readerFor(Tenant.class).readValues(in)) {
+            while (tenants.hasNextValue()) {
+                chunk.add(tenants.nextValue());
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    imported += tenantTransferUseCase.importTenants(chunk);
+                    chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += tenantTransferUseCase.importTenants(chunk);
+        }
+        return imported;
+    }
+
+    private static InputStream decompressIfGzip(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        boolean gzip = first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+        return gzip ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+}
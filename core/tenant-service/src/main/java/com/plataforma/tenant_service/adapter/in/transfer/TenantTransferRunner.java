@@ -0,0 +1,95 @@
+package com.plataforma.tenant_service.adapter.in.transfer;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Modo de linha de comando para backups e cópia entre ambientes.
+ *
+ * Com {@code --plataforma.transfer.export=<arquivo>} ou {@code --plataforma.transfer.import=<arquivo>}
+ * a aplicação executa a transferência e encerra. Arquivos terminados em {@code .gz} são compactados
+ * na exportação; na importação o gzip é detectado pelo conteúdo.
+ *
+ * Nesse modo a aplicação sobe sem servidor HTTP e sem se registrar no Eureka ({@link #isCommand},
+ * {@link #commandArgs}), para que a tarefa nunca apareça como uma instância do serviço.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantTransferRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantTransferRunner.class);
+
+    private static final String EXPORT_OPTION = "--plataforma.transfer.export=";
+    private static final String IMPORT_OPTION = "--plataforma.transfer.import=";
+
+    // O Eureka continua sendo consultado (o Config Server é localizado por ele), mas a instância não é registrada
+    private static final String[] NO_REGISTRATION = {
+            "--eureka.client.register-with-eureka=false",
+            "--spring.cloud.service-registry.auto-registration.enabled=false"
+    };
+
+    private final TenantNdjsonTransfer transfer;
+    private final ApplicationContext context;
+
+    @Value("${plataforma.transfer.export:}")
+    private String exportPath;
+
+    @Value("${plataforma.transfer.import:}")
+    private String importPath;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (exportPath.isBlank() && importPath.isBlank()) {
+            return;
+        }
+        if (!exportPath.isBlank()) {
+            Path path = Path.of(exportPath);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 OutputStream out = Channels.newOutputStream(channel)) {
+                long exported = transfer.exportTo(out, exportPath.endsWith(".gz"));
+                log.info("{} tenants exportados para {}.", exported, path.toAbsolutePath());
+            }
+        }
+        if (!importPath.isBlank()) {
+            Path path = Path.of(importPath);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                 InputStream in = Channels.newInputStream(channel)) {
+                long imported = transfer.importFrom(in);
+                log.info("{} tenants importados de {}.", imported, path.toAbsolutePath());
+            }
+        }
+        System.exit(SpringApplication.exit(context, (ExitCodeGenerator) () -> 0));
+    }
+
+    /**
+     * @return {@code true} se os argumentos pedem uma exportação ou importação pela linha de comando.
+     */
+    public static boolean isCommand(String[] args) {
+        return Arrays.stream(args).anyMatch(arg -> arg.startsWith(EXPORT_OPTION) || arg.startsWith(IMPORT_OPTION));
+    }
+
+    /**
+     * @return os argumentos da aplicação acrescidos dos que desativam o registro no Eureka.
+     */
+    public static String[] commandArgs(String[] args) {
+        return Stream.concat(Arrays.stream(args), Arrays.stream(NO_REGISTRATION)).toArray(String[]::new);
+    }
+}
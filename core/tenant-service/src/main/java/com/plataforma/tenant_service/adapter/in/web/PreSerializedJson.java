@@ -0,0 +1,45 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Corpo de resposta JSON já codificado em UTF-8, formado por fragmentos que são escritos em sequência
+ * na resposta, sem passar de novo pelo Jackson nem ser copiados para um único array.
+ *
+ * Escrito pelo {@link PreSerializedJsonHttpMessageConverter}.
+ */
+public final class PreSerializedJson {
+
+    private final List<byte[]> parts;
+    private final long length;
+
+    PreSerializedJson(List<byte[]> parts) {
+        this.parts = parts;
+        long total = 0;
+        for (byte[] part : parts) {
+            total += part.length;
+        }
+        this.length = total;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        for (byte[] part : parts) {
+            out.write(part);
+        }
+    }
+
+    public byte[] toByteArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) length);
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,49 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Escreve um {@link PreSerializedJson} como {@code application/json}, fragmento a fragmento, com o
+ * {@code Content-Length} já conhecido. Registrado pelo Spring Boot à frente do conversor do Jackson.
+ */
+@Component
+@Profile("!reactive")
+public class PreSerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<PreSerializedJson> {
+
+    public PreSerializedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected PreSerializedJson readInternal(Class<? extends PreSerializedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PreSerializedJson é apenas um corpo de resposta.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(PreSerializedJson json, MediaType contentType) {
+        return json.length();
+    }
+
+    @Override
+    protected void writeInternal(PreSerializedJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,149 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.adapter.in.web.dto.BatchTenantRequest;
+import com.plataforma.tenant_service.adapter.in.web.dto.CreateTenantRequest;
+import com.plataforma.tenant_service.adapter.in.web.mapper.TenantMapper;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
+import com.plataforma.tenant_service.domain.model.TenantSearchPage;
+import com.plataforma.tenant_service.domain.port.in.TenantSearchUseCase;
+import com.plataforma.tenant_service.domain.port.in.ReactiveTenantUseCase;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Variante WebFlux do {@link TenantController}, ativa apenas no profile {@code reactive}.
+ *
+ * Mesmos caminhos, cabeçalhos e códigos de status. A listagem é transmitida em streaming
+ * (JSON ou NDJSON, conforme o Accept), por isso o seu ETag é calculado a partir da projeção
+ * de versões antes de o corpo começar a ser escrito.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveTenantController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTenantController.class);
+
+    private final ReactiveTenantUseCase tenantUseCase;
+    private final TenantMapper mapper;
+    private final TenantSearchUseCase tenantSearchUseCase;
+
+    @PostMapping
+    public Mono<ResponseEntity<Tenant>> createTenant(@RequestBody @Valid CreateTenantRequest request) {
+        log.info("Recebida requisição para criar um novo tenant com nome: {}", request.name());
+
+        return tenantUseCase.createTenant(mapper.toTenant(request))
+                .doOnNext(createdTenant -> log.info("Requisição para criar tenant finalizada. Tenant ID: {}", createdTenant.getId()))
+                .map(createdTenant -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(TenantETags.forTenant(createdTenant.getVersion()))
+                        .body(createdTenant));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Tenant>>> getAllTenants(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Recebida requisição para listar todos os tenants.");
+
+        // A lista é transmitida enquanto é lida, e o ETag precisa vir antes do corpo. Só com If-None-Match
+        // a lista é reunida antes da resposta, para que o ETag saia dos mesmos documentos enviados no corpo
+        if (ifNoneMatch == null) {
+            return Mono.just(ResponseEntity.ok().body(tenantUseCase.getAllTenants()));
+        }
+        return tenantUseCase.getAllTenants()
+                .collectList()
+                .map(tenants -> {
+                    String etag = TenantETags.forList(tenants);
+                    if (TenantETags.matches(ifNoneMatch, etag)) {
+                        log.info("Lista de tenants não foi alterada. Retornando 304.");
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Flux<Tenant>>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(Flux.fromIterable(tenants));
+                });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Tenant>> getTenantById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Recebida requisição para buscar tenant pelo ID: {}", id);
+
+        if (ifNoneMatch != null) {
+            return tenantUseCase.getTenantVersion(id)
+                    .map(TenantETags::forTenant)
+                    .flatMap(etag -> TenantETags.matches(ifNoneMatch, etag)
+                            ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Tenant>build())
+                            : findTenant(id));
+        }
+        return findTenant(id);
+    }
+
+    @GetMapping("/search")
+    public Mono<TenantSearchPage> searchTenants(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(500) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("Recebida busca de tenants por nome: '{}' (página {}).", q, page);
+        // Busca em memória, sem I/O: pode rodar na própria thread do event loop
+        return Mono.fromSupplier(() -> tenantSearchUseCase.search(q, page, size));
+    }
+
+    @PostMapping("/batch")
+    public Mono<TenantLookupResult> getTenantsByIds(@RequestBody @Valid BatchTenantRequest request) {
+        log.info("Recebida requisição para buscar {} tenants em lote.", request.ids().size());
+
+        return tenantUseCase.getTenantsByIds(request.ids())
+                .doOnNext(result -> log.info("Retornando {} tenants; {} IDs não encontrados.",
+                        result.tenants().size(), result.missingIds().size()));
+    }
+
+    @PutMapping("/{id}/modules")
+    public Mono<ResponseEntity<Tenant>> addModuleToTenant(
+            @PathVariable String id,
+            @RequestBody Map<String, String> body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        String moduleName = body.get("moduleName");
+        log.info("Recebida requisição para adicionar o módulo '{}' ao tenant com ID: {}", moduleName, id);
+
+        return Mono.defer(() -> tenantUseCase.addModuleToTenant(id, moduleName, TenantETags.parseIfMatch(ifMatch)))
+                .doOnNext(updatedTenant -> log.info("Módulo '{}' adicionado com sucesso ao tenant com ID: {}.", moduleName, id))
+                .map(updatedTenant -> ResponseEntity.ok()
+                        .eTag(TenantETags.forTenant(updatedTenant.getVersion()))
+                        .body(updatedTenant));
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTenant(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Recebida requisição para deletar o tenant com ID: {}", id);
+
+        return Mono.defer(() -> tenantUseCase.deleteTenant(id, TenantETags.parseIfMatch(ifMatch)))
+                .doOnSuccess(ignored -> log.info("Requisição para deletar tenant com ID {} finalizada.", id));
+    }
+
+    private Mono<ResponseEntity<Tenant>> findTenant(String id) {
+        return tenantUseCase.getTenantById(id)
+                .map(tenant -> ResponseEntity.ok().eTag(TenantETags.forTenant(tenant.getVersion())).body(tenant));
+    }
+}
@@ -0,0 +1,52 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.domain.model.EntitlementSnapshot;
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+import com.plataforma.tenant_service.domain.port.in.TenantChangeFeedUseCase;
+import com.plataforma.tenant_service.domain.port.in.TenantEntitlementUseCase;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Variante WebFlux do {@link TenantEntitlementController} e do {@link TenantChangeFeedController}.
+ *
+ * Os dois casos de uso continuam bloqueantes (usam o repositório síncrono), então são
+ * executados no scheduler {@code boundedElastic} para não ocupar as threads do event loop.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+@Validated
+public class ReactiveTenantFeedController {
+
+    private final TenantEntitlementUseCase tenantEntitlementUseCase;
+    private final TenantChangeFeedUseCase changeFeedUseCase;
+
+    @GetMapping("/entitlements")
+    public Mono<EntitlementSnapshot> getEntitlements(@RequestParam(required = false) String since) {
+        return Mono.fromCallable(() -> tenantEntitlementUseCase.getEntitlements(since))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("/changes")
+    public Mono<TenantChangePage> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(25) int waitSeconds) {
+        // A consulta inicial do awaitChanges é síncrona; a espera em si não ocupa nenhuma thread
+        return Mono.fromFuture(() -> changeFeedUseCase.awaitChanges(after, limit, Duration.ofSeconds(waitSeconds)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
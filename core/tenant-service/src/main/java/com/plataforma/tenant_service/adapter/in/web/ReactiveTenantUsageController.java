@@ -0,0 +1,45 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.adapter.in.web.dto.UsageBatchRequest;
+import com.plataforma.tenant_service.domain.model.TenantUsageReport;
+import com.plataforma.tenant_service.domain.port.in.TenantUsageUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+
+/**
+ * Variante WebFlux do {@link TenantUsageController}. O caso de uso é bloqueante e roda no
+ * scheduler {@code boundedElastic}.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+public class ReactiveTenantUsageController {
+
+    private final TenantUsageUseCase tenantUsageUseCase;
+
+    @PostMapping("/usage")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> recordUsage(@RequestBody @Valid UsageBatchRequest request) {
+        return Mono.fromRunnable(() -> tenantUsageUseCase.recordUsage(request.batchId(), request.deltas()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    @GetMapping("/{id}/usage")
+    public Mono<TenantUsageReport> getUsage(
+            @PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return Mono.fromCallable(() -> tenantUsageUseCase.getUsage(id, UsagePeriods.fromOrDefault(from), UsagePeriods.toOrDefault(to)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,41 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+import com.plataforma.tenant_service.domain.port.in.TenantChangeFeedUseCase;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Feed de alterações de Tenants (criação, atualização e deleção).
+ *
+ * O consumidor envia o cursor recebido na página anterior ({@code after}) e, opcionalmente,
+ * um tempo de espera ({@code waitSeconds}) para que a requisição fique aberta até surgir um
+ * novo evento (long-poll). A thread do servidor não fica bloqueada durante a espera.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tenants/changes")
+@RequiredArgsConstructor
+@Validated
+public class TenantChangeFeedController {
+
+    private final TenantChangeFeedUseCase changeFeedUseCase;
+
+    @GetMapping
+    public CompletableFuture<TenantChangePage> getChanges(
+            @RequestParam(defaultValue = "0") @Min(0) long after,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(25) int waitSeconds) {
+        return changeFeedUseCase.awaitChanges(after, limit, Duration.ofSeconds(waitSeconds));
+    }
+}
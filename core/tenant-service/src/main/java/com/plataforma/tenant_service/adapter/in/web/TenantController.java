@@ -1,73 +1,142 @@
 package com.plataforma.tenant_service.adapter.in.web;
 
+import com.plataforma.tenant_service.adapter.in.web.dto.BatchTenantRequest;
 import com.plataforma.tenant_service.adapter.in.web.dto.CreateTenantRequest;
 import com.plataforma.tenant_service.adapter.in.web.mapper.TenantMapper;
 import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
+import com.plataforma.tenant_service.domain.model.TenantSearchPage;
+import com.plataforma.tenant_service.domain.port.in.TenantSearchUseCase;
 import com.plataforma.tenant_service.domain.port.in.TenantUseCase;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/tenants")
 @RequiredArgsConstructor
+@Validated
 public class TenantController {
 
     private static final Logger log = LoggerFactory.getLogger(TenantController.class);
 
     private final TenantUseCase tenantUseCase;
     private final TenantMapper mapper;
+    private final TenantSearchUseCase tenantSearchUseCase;
+    // Leituras respondem com o JSON de cada Tenant já serializado (cache por versão)
+    private final TenantJsonCache tenantJsonCache;
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public Tenant createTenant(@RequestBody @Valid CreateTenantRequest request) {
+    public ResponseEntity<Tenant> createTenant(@RequestBody @Valid CreateTenantRequest request) {
         // Log de INFO para marcar o início de uma operação de negócio importante.
         log.info("Recebida requisição para criar um novo tenant com nome: {}", request.name());
 
         Tenant createdTenant = tenantUseCase.createTenant(mapper.toTenant(request));
         log.info("Requisição para criar tenant finalizada. Tenant ID: {}", createdTenant.getId());
-        return createdTenant;
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(TenantETags.forTenant(createdTenant.getVersion()))
+                .body(createdTenant);
     }
 
     @GetMapping
-    public List<Tenant> getAllTenants() {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = Tenant.class))))
+    public ResponseEntity<PreSerializedJson> getAllTenants(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Recebida requisição para listar todos os tenants.");
+
+        // O ETag sai da mesma leitura que gera o corpo: uma escrita entre duas consultas poderia combinar
+        // um corpo antigo com um ETag novo, e o cliente guardaria dados desatualizados como atuais
         List<Tenant> tenants = tenantUseCase.getAllTenants();
+        String etag = TenantETags.forList(tenants);
+        if (TenantETags.matches(ifNoneMatch, etag)) {
+            log.info("Lista de tenants não foi alterada. Retornando 304.");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
         log.info("Retornando {} tenants.", tenants.size());
-        return tenants;
+        return ResponseEntity.ok().eTag(etag).body(tenantJsonCache.array(tenants));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Tenant> getTenantById(@PathVariable String id) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = Tenant.class)))
+    public ResponseEntity<PreSerializedJson> getTenantById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Recebida requisição para buscar tenant pelo ID: {}", id);
+
+        if (ifNoneMatch != null) {
+            String etag = TenantETags.forTenant(tenantUseCase.getTenantVersion(id));
+            if (TenantETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
         Tenant tenant = tenantUseCase.getTenantById(id);
+        return ResponseEntity.ok().eTag(TenantETags.forTenant(tenant.getVersion())).body(tenantJsonCache.single(tenant));
+    }
+
+    @GetMapping("/search")
+    public TenantSearchPage searchTenants(
+            @RequestParam @NotBlank @Size(max = 100) String q,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(500) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        log.debug("Recebida busca de tenants por nome: '{}' (página {}).", q, page);
+        return tenantSearchUseCase.search(q, page, size);
+    }
+
+    @PostMapping("/batch")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = TenantLookupResult.class)))
+    public PreSerializedJson getTenantsByIds(@RequestBody @Valid BatchTenantRequest request) {
+        log.info("Recebida requisição para buscar {} tenants em lote.", request.ids().size());
+        TenantLookupResult result = tenantUseCase.getTenantsByIds(request.ids());
 
-        return ResponseEntity.ok(tenant);
+        log.info("Retornando {} tenants; {} IDs não encontrados.", result.tenants().size(), result.missingIds().size());
+        return tenantJsonCache.lookupResult(result);
     }
 
     @PutMapping("/{id}/modules")
-    public Tenant addModuleToTenant(@PathVariable String id, @RequestBody Map<String, String> body) {
+    public ResponseEntity<Tenant> addModuleToTenant(
+            @PathVariable String id,
+            @RequestBody Map<String, String> body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         String moduleName = body.get("moduleName");
         log.info("Recebida requisição para adicionar o módulo '{}' ao tenant com ID: {}", moduleName, id);
 
-        Tenant updatedTenant = tenantUseCase.addModuleToTenant(id, moduleName);
+        Tenant updatedTenant = tenantUseCase.addModuleToTenant(id, moduleName, TenantETags.parseIfMatch(ifMatch));
         log.info("Módulo '{}' adicionado com sucesso ao tenant com ID: {}.", moduleName, id);
-        return updatedTenant;
+        return ResponseEntity.ok().eTag(TenantETags.forTenant(updatedTenant.getVersion())).body(updatedTenant);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteTenant(@PathVariable String id) {
+    public void deleteTenant(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Recebida requisição para deletar o tenant com ID: {}", id);
-        tenantUseCase.deleteTenant(id);
+        tenantUseCase.deleteTenant(id, TenantETags.parseIfMatch(ifMatch));
         log.info("Requisição para deletar tenant com ID {} finalizada.", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.domain.exception.TenantInvalidHeaderException;
+import com.plataforma.tenant_service.domain.model.Tenant;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Geração e comparação de ETags a partir da versão dos Tenants.
+ *
+ * O ETag de um Tenant é a sua versão; o da listagem é um hash dos pares (id, versão) dos Tenants
+ * enviados no corpo. Nenhum dos dois exige serializar os documentos.
+ */
+final class TenantETags {
+
+    private TenantETags() {
+    }
+
+    static String forTenant(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    static String forList(List<Tenant> tenants) {
+        MessageDigest digest = md5();
+        for (Tenant tenant : tenants) {
+            update(digest, tenant.getId(), tenant.getVersion());
+        }
+        return "\"l-" + HexFormat.of().formatHex(digest.digest()) + "\"";
+    }
+
+    /**
+     * Verifica se o cabeçalho If-None-Match contém o ETag (comparação fraca, como exige a RFC 9110).
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extrai a versão esperada do cabeçalho If-Match.
+     *
+     * @return a versão, ou {@code null} se o cabeçalho estiver ausente ou for "*".
+     * @throws TenantInvalidHeaderException se o valor não for um ETag emitido por este serviço
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = stripWeak(ifMatch.trim());
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new TenantInvalidHeaderException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
+    }
+
+    private static String stripWeak(String value) {
+        return value.startsWith("W/") ? value.substring(2) : value;
+    }
+
+    private static void update(MessageDigest digest, String id, Long version) {
+        digest.update(id.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(String.valueOf(version != null ? version : 0L).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ';');
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 não disponível na JVM", e);
+        }
+    }
+}
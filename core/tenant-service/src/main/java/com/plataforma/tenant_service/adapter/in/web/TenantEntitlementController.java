@@ -0,0 +1,28 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.domain.model.EntitlementSnapshot;
+import com.plataforma.tenant_service.domain.port.in.TenantEntitlementUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Expõe as permissões de módulos dos Tenants para consumo interno (ex: API Gateway).
+ * Sem o parâmetro {@code since}, retorna a carga completa; com ele, apenas os Tenants alterados.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tenants/entitlements")
+@RequiredArgsConstructor
+public class TenantEntitlementController {
+
+    private final TenantEntitlementUseCase tenantEntitlementUseCase;
+
+    @GetMapping
+    public EntitlementSnapshot getEntitlements(@RequestParam(required = false) String since) {
+        return tenantEntitlementUseCase.getEntitlements(since);
+    }
+}
@@ -0,0 +1,146 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache limitado do JSON (UTF-8) de cada Tenant, por versão.
+ *
+ * Um mesmo documento é lido muitas vezes entre duas escritas, e a versão ({@code @Version}) muda a cada
+ * escrita: o JSON de uma versão pode ser reaproveitado até a próxima. As listagens são montadas
+ * concatenando os fragmentos em cache ({@link PreSerializedJson}), sem serializar os Tenants de novo.
+ *
+ * Os fragmentos são gerados pelo mesmo {@link ObjectMapper} das demais respostas, então o JSON é idêntico
+ * ao que o Jackson produziria para o Tenant. Tenants sem versão (anteriores ao backfill) não entram no cache.
+ */
+@Component
+@Profile("!reactive")
+public class TenantJsonCache {
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] SEPARATOR = {','};
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+    private static final byte[] LOOKUP_START = "{\"tenants\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LOOKUP_MISSING = ",\"missingIds\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OBJECT_END = {'}'};
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+
+    public TenantJsonCache(ObjectMapper objectMapper,
+                           @Value("${plataforma.tenant-json-cache.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    public PreSerializedJson single(Tenant tenant) {
+        return new PreSerializedJson(List.of(fragment(tenant)));
+    }
+
+    public PreSerializedJson array(List<Tenant> tenants) {
+        List<byte[]> parts = new ArrayList<>(tenants.size() * 2 + 1);
+        appendArray(parts, tenants);
+        return new PreSerializedJson(parts);
+    }
+
+    /**
+     * Mesmo JSON de {@link TenantLookupResult}, com os Tenants vindos do cache.
+     */
+    public PreSerializedJson lookupResult(TenantLookupResult result) {
+        List<byte[]> parts = new ArrayList<>(result.tenants().size() * 2 + 5);
+        parts.add(LOOKUP_START);
+        appendArray(parts, result.tenants());
+        parts.add(LOOKUP_MISSING);
+        parts.add(serialize(result.missingIds()));
+        parts.add(OBJECT_END);
+        return new PreSerializedJson(parts);
+    }
+
+    /**
+     * @return o JSON do Tenant, do cache quando a versão não mudou.
+     */
+    public byte[] fragment(Tenant tenant) {
+        Long version = tenant.getVersion();
+        if (version == null || maxEntries <= 0) {
+            return serialize(tenant);
+        }
+        Entry entry = entries.get(tenant.getId());
+        if (entry != null && entry.version == version) {
+            entry.lastAccessNanos = System.nanoTime();
+            return entry.json;
+        }
+        byte[] json = serialize(tenant);
+        entries.put(tenant.getId(), new Entry(version, json));
+        if (entries.size() > maxEntries) {
+            evictLeastRecentlyUsed();
+        }
+        return json;
+    }
+
+    private void appendArray(List<byte[]> parts, List<Tenant> tenants) {
+        if (tenants.isEmpty()) {
+            parts.add(EMPTY_ARRAY);
+            return;
+        }
+        parts.add(ARRAY_START);
+        for (int i = 0; i < tenants.size(); i++) {
+            if (i > 0) {
+                parts.add(SEPARATOR);
+            }
+            parts.add(fragment(tenants.get(i)));
+        }
+        parts.add(ARRAY_END);
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove os Tenants menos acessados até sobrar 90% do limite. A remoção em bloco evita percorrer
+     * o cache inteiro a cada Tenant novo quando uma listagem grande passa do limite.
+     */
+    private synchronized void evictLeastRecentlyUsed() {
+        int target = maxEntries - maxEntries / 10;
+        int excess = entries.size() - target;
+        if (excess <= 0 || entries.size() <= maxEntries) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(candidate -> candidate.getValue().lastAccessNanos))
+                .limit(excess)
+                .toList()
+                .forEach(eldest -> entries.remove(eldest.getKey(), eldest.getValue()));
+    }
+
+    private static final class Entry {
+
+        private final long version;
+        private final byte[] json;
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private Entry(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
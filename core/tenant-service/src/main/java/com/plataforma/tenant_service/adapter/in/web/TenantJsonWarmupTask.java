@@ -0,0 +1,57 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.warmup.WarmupTask;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Serializa e desserializa listas de Tenants sintéticos com o mesmo {@link ObjectMapper} das respostas,
+ * para que os serializadores do Jackson já estejam construídos (e compilados pelo JIT) na primeira requisição.
+ */
+@Component
+@Order(2)
+public class TenantJsonWarmupTask implements WarmupTask {
+
+    private static final TypeReference<List<Tenant>> TENANT_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final List<Tenant> sample;
+
+    public TenantJsonWarmupTask(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        LocalDateTime now = LocalDateTime.now();
+        this.sample = IntStream.range(0, 50)
+                .mapToObj(i -> Tenant.builder()
+                        .id("warmup-" + i)
+                        .name("Tenant de aquecimento " + i)
+                        .status(Tenant.TenantStatus.values()[i % Tenant.TenantStatus.values().length])
+                        .subscribedModules(Set.of("mod-oficina", "mod-estoque"))
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .version((long) i)
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public String name() {
+        return "tenant-json";
+    }
+
+    @Override
+    public void run(int iteration) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(sample);
+        List<Tenant> parsed = objectMapper.readValue(json, TENANT_LIST);
+        if (parsed.size() != sample.size()) {
+            throw new IllegalStateException("Lista de Tenants desserializada com " + parsed.size() + " itens.");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.adapter.in.transfer.TenantNdjsonTransfer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Exportação e importação em massa de Tenants em NDJSON (opcionalmente gzip).
+ *
+ * O corpo é lido e escrito em fluxo; nenhum dos endpoints monta a coleção inteira em memória.
+ * No perfil {@code reactive} a transferência é feita pelo modo de linha de comando
+ * ({@link com.plataforma.tenant_service.adapter.in.transfer.TenantTransferRunner}).
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+public class TenantTransferController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(TenantNdjsonTransfer.NDJSON);
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final TenantNdjsonTransfer transfer;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTenants(@RequestParam(defaultValue = "false") boolean gzip) {
+        String fileName = gzip ? "tenants.ndjson.gz" : "tenants.ndjson";
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(out -> transfer.exportTo(out, gzip));
+    }
+
+    @PostMapping(value = "/import", consumes = {TenantNdjsonTransfer.NDJSON, "application/gzip"})
+    public ResponseEntity<Map<String, Long>> importTenants(HttpServletRequest request) throws IOException {
+        long imported = transfer.importFrom(request.getInputStream());
+        return ResponseEntity.ok(Map.of("imported", imported));
+    }
+}
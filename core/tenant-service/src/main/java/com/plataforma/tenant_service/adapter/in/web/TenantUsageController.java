@@ -0,0 +1,42 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.adapter.in.web.dto.UsageBatchRequest;
+import com.plataforma.tenant_service.domain.model.TenantUsageReport;
+import com.plataforma.tenant_service.domain.port.in.TenantUsageUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+/**
+ * Medição de uso dos Tenants: recebe os lotes do Gateway e responde às consultas de uso por período.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+public class TenantUsageController {
+
+    private final TenantUsageUseCase tenantUsageUseCase;
+
+    @PostMapping("/usage")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void recordUsage(@RequestBody @Valid UsageBatchRequest request) {
+        tenantUsageUseCase.recordUsage(request.batchId(), request.deltas());
+    }
+
+    /**
+     * Sem {@code from}, considera o início do mês atual (UTC); sem {@code to}, o momento atual.
+     */
+    @GetMapping("/{id}/usage")
+    public TenantUsageReport getUsage(
+            @PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return tenantUsageUseCase.getUsage(id, UsagePeriods.fromOrDefault(from), UsagePeriods.toOrDefault(to));
+    }
+}
@@ -0,0 +1,22 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Período padrão das consultas de uso: do início do mês atual (UTC) até agora.
+ */
+final class UsagePeriods {
+
+    private UsagePeriods() {
+    }
+
+    static Instant fromOrDefault(Instant from) {
+        return from != null ? from : LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    static Instant toOrDefault(Instant to) {
+        return to != null ? to : Instant.now();
+    }
+}
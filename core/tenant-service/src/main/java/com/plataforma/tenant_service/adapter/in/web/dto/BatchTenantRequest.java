@@ -0,0 +1,18 @@
+package com.plataforma.tenant_service.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para a busca de vários Tenants em uma única requisição.
+ */
+public record BatchTenantRequest(
+
+        @NotNull(message = "Campo 'ids' deve ser preenchido")
+        @NotEmpty(message = "Campo 'ids' deve ter pelo menos um item")
+        @Size(max = 500, message = "Campo 'ids' deve ter no máximo 500 itens")
+        List<String> ids
+) {}
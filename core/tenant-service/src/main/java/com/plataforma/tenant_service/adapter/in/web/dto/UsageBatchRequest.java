@@ -0,0 +1,19 @@
+package com.plataforma.tenant_service.adapter.in.web.dto;
+
+import com.plataforma.tenant_service.domain.model.UsageDelta;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO do lote de uso enviado periodicamente pelo Gateway.
+ */
+public record UsageBatchRequest(
+
+        @NotBlank(message = "Campo 'batchId' deve ser preenchido")
+        String batchId,
+
+        @NotNull(message = "Campo 'deltas' deve ser preenchido")
+        List<UsageDelta> deltas
+) {}
@@ -0,0 +1,24 @@
+package com.plataforma.tenant_service.adapter.out.audit;
+
+import com.plataforma.audit_trail.AuditTrail;
+import com.plataforma.tenant_service.domain.port.out.AuditPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * ADAPTADOR DE SAÍDA
+ * Envia os eventos de auditoria para a biblioteca {@code audit-trail}, que os grava em lotes no MongoDB.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditTrailAdapter implements AuditPort {
+
+    private final AuditTrail auditTrail;
+
+    @Override
+    public void record(String action, String resourceType, String resourceId, Map<String, String> details) {
+        auditTrail.record(action, resourceType, resourceId, details);
+    }
+}
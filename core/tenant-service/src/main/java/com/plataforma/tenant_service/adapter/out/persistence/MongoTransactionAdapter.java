@@ -0,0 +1,111 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.mongodb.MongoException;
+import com.plataforma.tenant_service.domain.port.out.TransactionPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * ADAPTADOR DE SAÍDA
+ * Executa as escritas em uma transação multi-documento do MongoDB, que exige um replica set
+ * (um replica set de um único membro basta). O {@link MongoTransactionManager} é usado apenas
+ * por este adaptador e não é registrado como bean, para não alterar o restante do serviço.
+ *
+ * Uma transação desfeita por um erro transitório (ex: conflito de escrita no contador do feed com outra
+ * transação) é repetida do início, até {@value #MAX_ATTEMPTS} tentativas.
+ *
+ * Com {@code plataforma.tenant-changes.transactional: false} (MongoDB isolado, como no teste de carga),
+ * as escritas são feitas sem transação: uma falha entre elas pode perder o evento do feed.
+ */
+@Component
+public class MongoTransactionAdapter implements TransactionPort {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoTransactionAdapter.class);
+
+    static final int MAX_ATTEMPTS = 5;
+
+    // Nulo quando as transações estão desativadas
+    private final TransactionTemplate transactionTemplate;
+
+    public MongoTransactionAdapter(MongoDatabaseFactory databaseFactory,
+                                   @Value("${plataforma.tenant-changes.transactional:true}") boolean transactional) {
+        if (transactional) {
+            this.transactionTemplate = new TransactionTemplate(new MongoTransactionManager(databaseFactory));
+        } else {
+            this.transactionTemplate = null;
+            log.warn("Transações desativadas (plataforma.tenant-changes.transactional=false): alterações de Tenants "
+                    + "e eventos do feed são gravados separadamente.");
+        }
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> operation) {
+        if (transactionTemplate == null) {
+            return operation.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> operation.get());
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS || !isTransient(e)) {
+                    throw e;
+                }
+                log.debug("Transação desfeita por erro transitório (tentativa {} de {}). Repetindo.", attempt, MAX_ATTEMPTS);
+                backOff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public void inTransaction(Runnable operation) {
+        inTransaction(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    // O driver marca com TransientTransactionError os erros em que a transação inteira pode ser repetida
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Espera aleatória e crescente, para que as transações em conflito não voltem a colidir
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido ao repetir a transação.", e);
+        }
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
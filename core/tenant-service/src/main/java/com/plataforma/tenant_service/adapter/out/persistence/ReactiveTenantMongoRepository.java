@@ -0,0 +1,15 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.plataforma.tenant_service.domain.model.Tenant;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Versão reativa do {@link TenantMongoRepository}, gerada pelo Spring Data sobre o driver reativo.
+ */
+@Repository
+public interface ReactiveTenantMongoRepository extends ReactiveMongoRepository<Tenant, String> {
+
+    // As leituras são feitas pelo ReactiveTenantPersistenceAdapter com o ReactiveMongoTemplate,
+    // para que cada operação use o modo de leitura configurado (ReadPreferencePolicy).
+}
@@ -0,0 +1,89 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.plataforma.mongo_read_preference.ReadPreferencePolicy;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.port.out.ReactiveTenantRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * ADAPTADOR DE SAÍDA (reativo)
+ * Implementa a porta de saída reativa usando o Spring Data Reactive MongoDB.
+ *
+ * As leituras usam as mesmas operações (e o mesmo modo de leitura) do {@link TenantPersistenceAdapter}.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTenantPersistenceAdapter implements ReactiveTenantRepositoryPort {
+
+    private final ReactiveTenantMongoRepository mongoRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReadPreferencePolicy readPreferencePolicy;
+
+    @Override
+    public Mono<Tenant> save(Tenant tenant) {
+        return mongoRepository.save(tenant);
+    }
+
+    @Override
+    public Flux<Tenant> findAll() {
+        return mongoTemplate.find(query(TenantPersistenceAdapter.FIND_ALL).with(TenantPersistenceAdapter.BY_ID), Tenant.class);
+    }
+
+    @Override
+    public Mono<Tenant> findById(String id) {
+        Query query = query(TenantPersistenceAdapter.FIND_BY_ID).addCriteria(Criteria.where("_id").is(id));
+        return mongoTemplate.findOne(query, Tenant.class);
+    }
+
+    @Override
+    public Mono<Long> findVersionById(String id) {
+        Query query = query(TenantPersistenceAdapter.FIND_VERSION_BY_ID).addCriteria(Criteria.where("_id").is(id));
+        query.fields().include("version");
+        return mongoTemplate.findOne(query, Tenant.class)
+                .map(tenant -> tenant.getVersion() != null ? tenant.getVersion() : 0L);
+    }
+
+    @Override
+    public Flux<Tenant> findAllByIds(Collection<String> ids) {
+        Query query = query(TenantPersistenceAdapter.FIND_ALL_BY_IDS).addCriteria(Criteria.where("_id").in(ids));
+        return mongoTemplate.find(query, Tenant.class);
+    }
+
+    @Override
+    public Mono<Boolean> markDeleted(String id, Long expectedVersion, LocalDateTime deletedAt) {
+        Criteria criteria = Criteria.where("_id").is(id).and("deletedAt").exists(false);
+        if (expectedVersion != null) {
+            criteria = criteria.and("version").is(expectedVersion);
+        }
+        return mongoTemplate.updateFirst(Query.query(criteria), new Update()
+                        .set("status", Tenant.TenantStatus.DELETED)
+                        .set("deletedAt", deletedAt)
+                        .set("updatedAt", deletedAt)
+                        .inc("version", 1L), Tenant.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public Mono<Tenant> findByName(String name) {
+        Query query = query(TenantPersistenceAdapter.FIND_BY_NAME).addCriteria(Criteria.where("name").is(name));
+        return mongoTemplate.findOne(query, Tenant.class);
+    }
+
+    private Query query(String operation) {
+        // Mesmo filtro de excluídos do TenantPersistenceAdapter
+        return new Query(Criteria.where("deletedAt").exists(false))
+                .withReadPreference(readPreferencePolicy.forOperation(operation));
+    }
+}
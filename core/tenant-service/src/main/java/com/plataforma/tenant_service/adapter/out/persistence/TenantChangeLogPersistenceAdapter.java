@@ -0,0 +1,85 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeLogPort;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ADAPTADOR DE SAÍDA
+ * Grava o feed de alterações na coleção "tenant_changes". As sequências vêm de um contador
+ * atômico na coleção "counters", o que as mantém únicas mesmo com várias réplicas do serviço.
+ *
+ * A reserva da sequência e o evento são gravados na transação da alteração do Tenant ({@code TransactionPort}),
+ * então uma transação desfeita também desfaz a reserva. O contador fica bloqueado até o commit: uma transação
+ * concorrente recebe um conflito de escrita e é repetida pelo {@link MongoTransactionAdapter}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantChangeLogPersistenceAdapter implements TenantChangeLogPort {
+
+    private static final String COUNTERS_COLLECTION = "counters";
+    private static final String SEQUENCE_NAME = "tenant_changes";
+
+    private final TenantChangeMongoRepository changeRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public TenantChangeEvent append(TenantChangeEvent event) {
+        event.setSequence(nextSequence(1));
+        return changeRepository.insert(event);
+    }
+
+    @Override
+    public void appendAll(List<TenantChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Reserva todas as sequências do lote com um único incremento
+        long last = nextSequence(events.size());
+        long sequence = last - events.size();
+        for (TenantChangeEvent event : events) {
+            event.setSequence(++sequence);
+        }
+        changeRepository.insert(events);
+    }
+
+    @Override
+    public List<TenantChangeEvent> findAfter(long sequence, int limit) {
+        return changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(sequence, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Optional<Long> findOldestSequence() {
+        return changeRepository.findFirstByOrderBySequenceAsc().map(TenantChangeEvent::getSequence);
+    }
+
+    @Override
+    public long findLatestSequence(Instant occurredBefore) {
+        return changeRepository.findFirstByOccurredAtBeforeOrderBySequenceDesc(occurredBefore)
+                .map(TenantChangeEvent::getSequence)
+                .orElse(0L);
+    }
+
+    private long nextSequence(int count) {
+        // Pelo MongoTemplate, que participa da transação em andamento
+        Document counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(SEQUENCE_NAME)),
+                new Update().inc("seq", (long) count),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                Document.class,
+                COUNTERS_COLLECTION);
+        return ((Number) counter.get("seq")).longValue();
+    }
+}
@@ -0,0 +1,20 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TenantChangeMongoRepository extends MongoRepository<TenantChangeEvent, String> {
+
+    List<TenantChangeEvent> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Pageable pageable);
+
+    Optional<TenantChangeEvent> findFirstByOrderBySequenceAsc();
+
+    Optional<TenantChangeEvent> findFirstByOccurredAtBeforeOrderBySequenceDesc(Instant occurredBefore);
+}
@@ -0,0 +1,67 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.plataforma.tenant_routing.TenantDatabaseRouter;
+import com.plataforma.tenant_routing.TenantRoutingProperties;
+import com.plataforma.warmup.WarmupTask;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Abre, antes de a instância ficar UP, as conexões com o banco padrão e com os bancos dedicados dos
+ * Tenants configurados, para que a primeira requisição de cada Tenant não pague o handshake com o cluster.
+ */
+@Component
+@Order(1)
+public class TenantDatabaseWarmupTask implements WarmupTask {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantDatabaseWarmupTask.class);
+    private static final Document PING = new Document("ping", 1);
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<TenantDatabaseRouter> router;
+    private final ObjectProvider<TenantRoutingProperties> routingProperties;
+
+    public TenantDatabaseWarmupTask(MongoTemplate mongoTemplate,
+                                    ObjectProvider<TenantDatabaseRouter> router,
+                                    ObjectProvider<TenantRoutingProperties> routingProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.router = router;
+        this.routingProperties = routingProperties;
+    }
+
+    @Override
+    public String name() {
+        return "tenant-databases";
+    }
+
+    @Override
+    public Integer defaultIterations() {
+        return 1;
+    }
+
+    @Override
+    public void run(int iteration) {
+        mongoTemplate.executeCommand(PING);
+
+        TenantDatabaseRouter tenantRouter = router.getIfAvailable();
+        TenantRoutingProperties properties = routingProperties.getIfAvailable();
+        if (tenantRouter == null || properties == null) {
+            return;
+        }
+        // Não adianta abrir mais bancos do que o cache comporta: os primeiros seriam descartados
+        int opened = 0;
+        for (String tenantId : properties.getTenants().keySet()) {
+            if (opened >= properties.getMaxCachedTenants()) {
+                break;
+            }
+            tenantRouter.getDatabase(tenantId).runCommand(PING);
+            opened++;
+        }
+        log.info("Aquecimento: {} bancos dedicados de Tenants abertos.", opened);
+    }
+}
@@ -1,12 +1,31 @@
 package com.plataforma.tenant_service.adapter.out.persistence;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.UpdateResult;
+import com.plataforma.mongo_read_preference.ReadPreferencePolicy;
 import com.plataforma.tenant_service.domain.model.Tenant;
 import com.plataforma.tenant_service.domain.port.out.TenantRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * ADAPTADOR DE SAÍDA
@@ -17,7 +36,26 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TenantPersistenceAdapter implements TenantRepositoryPort {
 
+    private static final Logger log = LoggerFactory.getLogger(TenantPersistenceAdapter.class);
+
+    // Nomes das operações de leitura na política de leitura (plataforma.mongo.read-preference.operations)
+    static final String FIND_ALL = "find-all";
+    static final String FIND_BY_ID = "find-by-id";
+    static final String FIND_BY_NAME = "find-by-name";
+    static final String FIND_VERSION_BY_ID = "find-version-by-id";
+    static final String FIND_ALL_BY_IDS = "find-all-by-ids";
+    static final String FIND_ALL_ENTITLEMENTS = "find-all-entitlements";
+    static final String STREAM_NAMES = "stream-names";
+    static final String STREAM_ALL = "stream-all";
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    // Ordem estável das listagens: o ETag da lista é um hash sobre os pares (id, versão) na ordem retornada
+    static final Sort BY_ID = Sort.by("_id");
+
     private final TenantMongoRepository mongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ReadPreferencePolicy readPreferencePolicy;
 
     @Override
     public Tenant save(Tenant tenant) {
@@ -26,21 +64,132 @@ public class TenantPersistenceAdapter implements TenantRepositoryPort {
 
     @Override
     public List<Tenant> findAll() {
-        return mongoRepository.findAll();
+        return mongoTemplate.find(query(FIND_ALL).with(BY_ID), Tenant.class);
     }
 
     @Override
     public Optional<Tenant> findById(String id) {
-        return mongoRepository.findById(id);
+        Query query = query(FIND_BY_ID).addCriteria(Criteria.where("_id").is(id));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Tenant.class));
+    }
+
+    @Override
+    public Optional<Long> findVersionById(String id) {
+        // Projeção com apenas a versão, usada para responder requisições condicionais (ETag)
+        Query query = query(FIND_VERSION_BY_ID).addCriteria(Criteria.where("_id").is(id));
+        query.fields().include("version");
+        // Documentos ainda sem versão (antes do backfill) são tratados como versão 0
+        return Optional.ofNullable(mongoTemplate.findOne(query, Tenant.class))
+                .map(tenant -> tenant.getVersion() != null ? tenant.getVersion() : 0L);
+    }
+
+    @Override
+    public List<Tenant> findAllByIds(Collection<String> ids) {
+        // Uma única consulta com $in sobre o _id
+        return mongoTemplate.find(query(FIND_ALL_BY_IDS).addCriteria(Criteria.where("_id").in(ids)), Tenant.class);
+    }
+
+    @Override
+    public List<Tenant> findAllEntitlements() {
+        // Projeção com apenas os campos necessários para a checagem de permissões dos módulos
+        Query query = query(FIND_ALL_ENTITLEMENTS);
+        query.fields().include("status", "subscribedModules");
+        return mongoTemplate.find(query, Tenant.class);
     }
 
     @Override
-    public void deleteById(String id) {
-        mongoRepository.deleteById(id);
+    public void forEachName(Consumer<Tenant> consumer) {
+        Query query = query(STREAM_NAMES);
+        query.fields().include("name");
+        // O Stream mantém um cursor aberto no MongoDB e precisa ser fechado
+        try (Stream<Tenant> tenants = mongoTemplate.stream(query, Tenant.class)) {
+            tenants.forEach(consumer);
+        }
+    }
+
+    @Override
+    public void forEachTenant(Consumer<Tenant> consumer) {
+        try (Stream<Tenant> tenants = mongoTemplate.stream(query(STREAM_ALL), Tenant.class)) {
+            tenants.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<Tenant> upsertAll(List<Tenant> tenants) {
+        if (tenants.isEmpty()) {
+            return List.of();
+        }
+        // Tenants excluídos aguardando a limpeza não são recriados pela importação
+        Query deletedQuery = Query.query(Criteria.where("_id").in(tenants.stream().map(Tenant::getId).toList())
+                .and("deletedAt").exists(true));
+        deletedQuery.fields().include("_id");
+        Set<String> deletedIds = mongoTemplate.find(deletedQuery, Tenant.class).stream()
+                .map(Tenant::getId)
+                .collect(Collectors.toSet());
+        List<Tenant> written = tenants.stream().filter(tenant -> !deletedIds.contains(tenant.getId())).toList();
+        if (written.isEmpty()) {
+            return written;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Tenant.class);
+        for (Tenant tenant : written) {
+            Document fields = new Document();
+            mongoTemplate.getConverter().write(tenant, fields);
+            // A versão e a exclusão são do banco, não do arquivo: a versão é incrementada para que
+            // os ETags e o cache de JSON enxerguem o conteúdo importado
+            fields.remove("_id");
+            fields.remove("version");
+            fields.remove("deletedAt");
+            Update update = new Update();
+            fields.forEach(update::set);
+            update.inc("version", 1L);
+            bulk.upsert(Query.query(Criteria.where("_id").is(tenant.getId()).and("deletedAt").exists(false)), update);
+        }
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            // Um Tenant excluído depois da consulta acima não casa com o filtro, e o upsert tenta inserir outro
+            // documento com o mesmo _id. Esse Tenant fica de fora do bloco; qualquer outro erro o interrompe.
+            // Numa transação isso aparece como conflito de escrita, e a transação inteira é repetida
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+                log.info("Tenant {} excluído durante a importação; não foi importado.", written.get(error.getIndex()).getId());
+            }
+        }
+
+        // Os Tenants como ficaram gravados, com a versão do banco e não a do arquivo
+        Query storedQuery = Query.query(Criteria.where("_id").in(written.stream().map(Tenant::getId).toList())
+                .and("deletedAt").exists(false));
+        return mongoTemplate.find(storedQuery, Tenant.class);
+    }
+
+    @Override
+    public boolean markDeleted(String id, Long expectedVersion, LocalDateTime deletedAt) {
+        // Verificação de existência, de versão e a marcação em uma única operação, sem leitura prévia
+        Criteria criteria = Criteria.where("_id").is(id).and("deletedAt").exists(false);
+        if (expectedVersion != null) {
+            criteria = criteria.and("version").is(expectedVersion);
+        }
+        UpdateResult result = mongoTemplate.updateFirst(Query.query(criteria), new Update()
+                .set("status", Tenant.TenantStatus.DELETED)
+                .set("deletedAt", deletedAt)
+                .set("updatedAt", deletedAt)
+                .inc("version", 1L), Tenant.class);
+        return result.getModifiedCount() > 0;
     }
 
     @Override
     public Optional<Tenant> findByName(String name) {
-        return mongoRepository.findByName(name);
+        Query query = query(FIND_BY_NAME).addCriteria(Criteria.where("name").is(name));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Tenant.class));
+    }
+
+    private Query query(String operation) {
+        // Todas as leituras ignoram os Tenants excluídos. O filtro é avaliado sobre os documentos já
+        // selecionados pelos índices de cada consulta (_id, name), sem índice nem varredura extra
+        return new Query(Criteria.where("deletedAt").exists(false))
+                .withReadPreference(readPreferencePolicy.forOperation(operation));
     }
 }
\ No newline at end of file
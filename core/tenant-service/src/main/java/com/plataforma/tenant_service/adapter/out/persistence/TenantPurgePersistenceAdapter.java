@@ -0,0 +1,106 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.plataforma.tenant_routing.TenantDatabaseRouter;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.port.out.TenantPurgePort;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ADAPTADOR DE SAÍDA
+ * Limpa os dados dos Tenants excluídos em lotes: busca até {@code batchSize} IDs de uma coleção e os remove
+ * com um único {@code deleteMany}, sem manter cursores abertos entre os lotes.
+ *
+ * A reserva fica no próprio documento do Tenant ({@code purgeClaimedUntil}). A consulta de reserva usa o
+ * índice parcial {@code deleted_purge_queue}, que só contém os Tenants excluídos.
+ */
+@Component
+public class TenantPurgePersistenceAdapter implements TenantPurgePort {
+
+    private static final String CLAIMED_UNTIL = "purgeClaimedUntil";
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectProvider<TenantDatabaseRouter> router;
+    private final TenantPurgeProperties properties;
+    private final String tenantCollection;
+
+    public TenantPurgePersistenceAdapter(MongoTemplate mongoTemplate, ObjectProvider<TenantDatabaseRouter> router,
+                                         TenantPurgeProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.router = router;
+        this.properties = properties;
+        this.tenantCollection = mongoTemplate.getCollectionName(Tenant.class);
+    }
+
+    @Override
+    public Optional<String> claimNextDeleted(Duration claimTimeout) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("deletedAt").exists(true)
+                        .orOperator(Criteria.where(CLAIMED_UNTIL).exists(false), Criteria.where(CLAIMED_UNTIL).lt(now)))
+                .with(Sort.by("deletedAt"));
+        query.fields().include("_id");
+        // Pelo nome da coleção: a reserva não é uma alteração do Tenant e não incrementa a versão
+        Document claimed = mongoTemplate.findAndModify(query, new Update().set(CLAIMED_UNTIL, now.plus(claimTimeout)),
+                Document.class, tenantCollection);
+        return Optional.ofNullable(claimed).map(document -> document.getString("_id"));
+    }
+
+    @Override
+    public boolean renewClaim(String tenantId, Duration claimTimeout) {
+        Query query = Query.query(Criteria.where("_id").is(tenantId).and("deletedAt").exists(true));
+        return mongoTemplate.updateFirst(query, new Update().set(CLAIMED_UNTIL, Instant.now().plus(claimTimeout)),
+                tenantCollection).getMatchedCount() > 0;
+    }
+
+    @Override
+    public int deleteDataBatch(String tenantId, int batchSize) {
+        for (TenantPurgeProperties.Target target : properties.getCollections()) {
+            for (MongoDatabase database : databases(tenantId)) {
+                MongoCollection<Document> collection = database.getCollection(target.getName());
+                List<Object> ids = collection.find(Filters.eq(target.getTenantField(), tenantId))
+                        .projection(Projections.include("_id"))
+                        .limit(batchSize)
+                        .map(document -> document.get("_id"))
+                        .into(new ArrayList<>());
+                if (!ids.isEmpty()) {
+                    collection.deleteMany(Filters.in("_id", ids));
+                    return ids.size();
+                }
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean deleteTenant(String tenantId) {
+        Query query = Query.query(Criteria.where("_id").is(tenantId).and("deletedAt").exists(true));
+        return mongoTemplate.remove(query, tenantCollection).getDeletedCount() > 0;
+    }
+
+    private List<MongoDatabase> databases(String tenantId) {
+        List<MongoDatabase> databases = new ArrayList<>(2);
+        databases.add(mongoTemplate.getDb());
+        TenantDatabaseRouter tenantRouter = router.getIfAvailable();
+        MongoDatabase dedicated = tenantRouter != null ? tenantRouter.getDatabase(tenantId) : null;
+        if (dedicated != null) {
+            databases.add(dedicated);
+        }
+        return databases;
+    }
+}
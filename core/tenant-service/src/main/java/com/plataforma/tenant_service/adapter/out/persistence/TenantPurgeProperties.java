@@ -0,0 +1,45 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coleções com dados dos Tenants, limpas quando um Tenant é excluído ({@code plataforma.tenant-purge.*}).
+ *
+ * As coleções são limpas na ordem configurada, no banco padrão e, para os Tenants com banco dedicado
+ * ({@code plataforma.tenant-routing}), também no banco do Tenant. Cada coleção precisa de um índice que
+ * comece pelo campo do Tenant, ou cada lote varre a coleção inteira.
+ */
+@Component
+@ConfigurationProperties(prefix = "plataforma.tenant-purge")
+@Getter
+@Setter
+public class TenantPurgeProperties {
+
+    private List<Target> collections = new ArrayList<>(List.of(new Target("tenant_usage", "tenantId")));
+
+    @Getter
+    @Setter
+    public static class Target {
+
+        private String name;
+
+        /**
+         * Campo com o ID do Tenant nos documentos da coleção.
+         */
+        private String tenantField = "tenantId";
+
+        public Target() {
+        }
+
+        public Target(String name, String tenantField) {
+            this.name = name;
+            this.tenantField = tenantField;
+        }
+    }
+}
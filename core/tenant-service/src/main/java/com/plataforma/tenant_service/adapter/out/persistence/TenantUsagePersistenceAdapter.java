@@ -0,0 +1,90 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.plataforma.tenant_service.domain.model.TenantUsage;
+import com.plataforma.tenant_service.domain.model.UsageDelta;
+import com.plataforma.tenant_service.domain.port.out.TenantUsagePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ADAPTADOR DE SAÍDA
+ * Grava o uso dos Tenants na coleção "tenant_usage" com um único bulk de upserts por lote,
+ * usando {@code $inc} para que réplicas do serviço possam somar ao mesmo documento sem conflito.
+ *
+ * Cada documento guarda os IDs dos últimos lotes somados a ele ({@code batches}). O upsert só casa com
+ * documentos que ainda não têm o lote; se o documento já o tem, a inserção falha por chave duplicada e
+ * aquele registro é pulado. Assim, repetir um lote aplicado pela metade não conta nada duas vezes.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantUsagePersistenceAdapter implements TenantUsagePort {
+
+    private static final String BATCHES = "batches";
+
+    // Lotes lembrados por registro. Um reenvio acontece logo após a falha, bem antes de tantos lotes novos
+    private static final int APPLIED_BATCHES = 32;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean isBatchApplied(String batchId) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(batchId)), UsageBatchMarker.class);
+    }
+
+    @Override
+    public void markBatchApplied(String batchId) {
+        try {
+            mongoTemplate.insert(new UsageBatchMarker(batchId, Instant.now()));
+        } catch (DuplicateKeyException e) {
+            // Reenvio concorrente do mesmo lote, já marcado pela outra requisição
+        }
+    }
+
+    @Override
+    public void increment(String batchId, List<UsageDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TenantUsage.class);
+        for (UsageDelta delta : deltas) {
+            String id = delta.tenantId() + "|" + delta.module() + "|" + delta.route() + "|" + delta.periodStart();
+            bulk.upsert(Query.query(Criteria.where("_id").is(id).and(BATCHES).ne(batchId)), new Update()
+                    .setOnInsert("tenantId", delta.tenantId())
+                    .setOnInsert("module", delta.module())
+                    .setOnInsert("route", delta.route())
+                    .setOnInsert("periodStart", delta.periodStart())
+                    .inc("requests", delta.requests())
+                    .inc("bytesIn", delta.bytesIn())
+                    .inc("bytesOut", delta.bytesOut())
+                    .push(BATCHES).slice(-APPLIED_BATCHES).each(batchId));
+        }
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            // Chave duplicada: o registro já tem este lote (reenvio após uma falha no meio)
+            for (BulkWriteError error : e.getErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<TenantUsage> findByTenant(String tenantId, Instant from, Instant to) {
+        return mongoTemplate.find(Query.query(Criteria.where("tenantId").is(tenantId)
+                .and("periodStart").gte(from).lt(to)), TenantUsage.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import com.mongodb.client.result.UpdateResult;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Preenche o campo {@code version} dos Tenants gravados antes do controle de versão existir.
+ *
+ * Sem isso, o Spring Data trataria esses documentos como novos (versão nula) e tentaria
+ * inseri-los novamente ao salvar, falhando com chave duplicada.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantVersionBackfill implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantVersionBackfill.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        UpdateResult result = mongoTemplate.updateMulti(
+                Query.query(Criteria.where("version").exists(false)),
+                new Update().set("version", 0L),
+                Tenant.class);
+        if (result.getModifiedCount() > 0) {
+            log.info("Versão inicial atribuída a {} tenants existentes.", result.getModifiedCount());
+        }
+    }
+}
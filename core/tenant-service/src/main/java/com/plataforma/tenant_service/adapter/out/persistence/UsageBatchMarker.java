@@ -0,0 +1,27 @@
+package com.plataforma.tenant_service.adapter.out.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Registro de um lote de uso já aplicado. O ID do lote é a chave primária, então um reenvio
+ * falha na inserção. Mantido por 7 dias, bem mais que o tempo que o Gateway leva para reenviar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "usage_batches")
+public class UsageBatchMarker {
+
+    @Id
+    private String batchId;
+
+    @Indexed(expireAfter = "7d")
+    private Instant appliedAt;
+}
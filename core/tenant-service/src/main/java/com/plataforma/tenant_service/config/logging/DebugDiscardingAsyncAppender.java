@@ -0,0 +1,17 @@
+package com.plataforma.tenant_service.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@link AsyncAppender} que, sob pressão (fila acima do {@code discardingThreshold}),
+ * descarta apenas eventos DEBUG e TRACE. O AsyncAppender padrão também descarta INFO.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,24 @@
+package com.plataforma.tenant_service.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Aceita apenas eventos com nível estritamente abaixo do configurado.
+ * É o complemento do {@code ThresholdFilter} e permite separar os níveis em appenders diferentes.
+ */
+public class LevelBelowFilter extends Filter<ILoggingEvent> {
+
+    private Level level = Level.WARN;
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.WARN);
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        return event.getLevel().isGreaterOrEqual(level) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,62 @@
+package com.plataforma.tenant_service.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem e limite de taxa dos logs DEBUG/TRACE.
+ *
+ * A decisão é tomada pelo traceId do MDC: uma requisição amostrada tem todos os seus logs
+ * de debug mantidos, e as demais não geram nenhum. Por cima disso, um limite global por
+ * segundo protege contra rajadas. Por ser um TurboFilter, roda antes de o evento ser criado,
+ * então os logs descartados não custam formatação nem alocação.
+ *
+ * Eventos INFO ou superiores nunca são afetados.
+ */
+public class TraceSampledDebugTurboFilter extends TurboFilter {
+
+    private static final String TRACE_ID_KEY = "traceId";
+
+    private int samplePercent = 10;
+    private int maxPerSecond = 200;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger emittedThisSecond = new AtomicInteger();
+
+    public void setSamplePercent(int samplePercent) {
+        this.samplePercent = Math.max(0, Math.min(100, samplePercent));
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Logger#isEnabledFor chamaria este filtro novamente, por isso o nível efetivo é lido diretamente
+        if (level == null || level.isGreaterOrEqual(Level.INFO) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String traceId = MDC.get(TRACE_ID_KEY);
+        if (traceId != null && Math.floorMod(traceId.hashCode(), 100) >= samplePercent) {
+            return FilterReply.DENY;
+        }
+        return withinRateLimit() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean withinRateLimit() {
+        long second = System.currentTimeMillis() / 1000;
+        long current = currentSecond.get();
+        if (second != current && currentSecond.compareAndSet(current, second)) {
+            emittedThisSecond.set(0);
+        }
+        return emittedThisSecond.incrementAndGet() <= maxPerSecond;
+    }
+}
@@ -0,0 +1,74 @@
+package com.plataforma.tenant_service.domain.exception;
+
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+/**
+ * Equivalente do {@link GlobalExceptionHandler} para o profile {@code reactive} (WebFlux),
+ * onde a requisição é um {@link ServerHttpRequest} e a validação do corpo lança
+ * {@link WebExchangeBindException}.
+ */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(TenantNotFoundException.class)
+    public ResponseEntity<StandardError> handleTenantNotFoundException(TenantNotFoundException e, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Erro na requisição", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(TenantIllegalArgumentRequestException.class)
+    public ResponseEntity<StandardError> handleTenantIllegalArgumentRequestException(TenantIllegalArgumentRequestException e, ServerHttpRequest request) {
+        return error(HttpStatus.CONFLICT, "Erro na requisição", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(TenantVersionMismatchException.class)
+    public ResponseEntity<StandardError> handleTenantVersionMismatchException(TenantVersionMismatchException e, ServerHttpRequest request) {
+        return error(HttpStatus.PRECONDITION_FAILED, "Versão divergente", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(TenantInvalidHeaderException.class)
+    public ResponseEntity<StandardError> handleTenantInvalidHeaderException(TenantInvalidHeaderException e, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Bad request error", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardError> handleOptimisticLockingFailureException(OptimisticLockingFailureException e, ServerHttpRequest request) {
+        return error(HttpStatus.CONFLICT, "Alteração concorrente",
+                "O tenant foi alterado por outra requisição. Busque-o novamente e repita a operação.", request);
+    }
+
+    @ExceptionHandler(TenantChangeCursorExpiredException.class)
+    public ResponseEntity<StandardError> handleTenantChangeCursorExpiredException(TenantChangeCursorExpiredException e, ServerHttpRequest request) {
+        return error(HttpStatus.GONE, "Cursor expirado", e.getMessage(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<StandardError> handleWebExchangeBindException(WebExchangeBindException e, ServerHttpRequest request) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        return error(HttpStatus.BAD_REQUEST, "Bad request error", message, request);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<StandardError> handleConstraintViolationException(ConstraintViolationException e, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Bad request error", e.getMessage(), request);
+    }
+
+    private ResponseEntity<StandardError> error(HttpStatus status, String error, String message, ServerHttpRequest request) {
+        StandardError err = new StandardError(Instant.now(), status.value(),
+                error, message, request.getPath().value());
+        return ResponseEntity.status(status).body(err);
+    }
+}
@@ -0,0 +1,7 @@
+package com.plataforma.tenant_service.domain.exception;
+
+public class TenantChangeCursorExpiredException extends RuntimeException {
+    public TenantChangeCursorExpiredException(String message) {
+        super(message);
+    }
+}
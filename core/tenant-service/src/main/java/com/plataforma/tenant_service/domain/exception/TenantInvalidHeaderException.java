@@ -0,0 +1,7 @@
+package com.plataforma.tenant_service.domain.exception;
+
+public class TenantInvalidHeaderException extends RuntimeException {
+    public TenantInvalidHeaderException(String message) {
+        super(message);
+    }
+}
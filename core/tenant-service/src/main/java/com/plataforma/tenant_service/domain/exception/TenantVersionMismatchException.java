@@ -0,0 +1,7 @@
+package com.plataforma.tenant_service.domain.exception;
+
+public class TenantVersionMismatchException extends RuntimeException {
+    public TenantVersionMismatchException(String message) {
+        super(message);
+    }
+}
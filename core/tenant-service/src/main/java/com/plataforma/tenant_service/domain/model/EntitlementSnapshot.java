@@ -0,0 +1,13 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.util.List;
+
+/**
+ * Conjunto de permissões de módulos dos Tenants, completo ou incremental.
+ *
+ * @param cursor  valor a ser enviado na próxima consulta para receber apenas as alterações seguintes.
+ * @param full    {@code true} se contém todos os Tenants, {@code false} se contém apenas os alterados.
+ * @param tenants as permissões de cada Tenant incluído.
+ */
+public record EntitlementSnapshot(String cursor, boolean full, List<TenantEntitlement> tenants) {
+}
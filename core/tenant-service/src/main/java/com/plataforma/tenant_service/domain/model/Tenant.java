@@ -1,10 +1,13 @@
 package com.plataforma.tenant_service.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -15,7 +18,7 @@ import java.util.Set;
  * Esta é uma entidade de domínio pura, descrevendo os dados e o estado de um Tenant.
  */
 @Data // Anotação do Lombok: cria getters, setters, toString, equals, hashCode
-@Builder // Anotação do Lombok: Padrão de projeto Builder para criar objetos
+@Builder(toBuilder = true) // Anotação do Lombok: Padrão de projeto Builder para criar (e copiar) objetos
 @NoArgsConstructor // Lombok: Construtor sem argumentos
 @AllArgsConstructor // Lombok: Construtor com todos os argumentos
 @Document(collection = "tenants") // Anotação do Spring Data: Mapeia esta classe para uma coleção no MongoDB
@@ -24,7 +27,8 @@ public class Tenant {
     @Id
     private String id; // Chave primária no MongoDB é uma String
 
-    private String name; // Nome do cliente, ex: "Oficina do Zé"
+    @Indexed
+    private String name; // Nome do cliente, ex: "Oficina do Zé". Indexado para a checagem de nome duplicado
 
     private TenantStatus status; // Status do cliente (ATIVO, INATIVO, etc.)
 
@@ -34,10 +38,20 @@ public class Tenant {
 
     private LocalDateTime updatedAt; // Data da última atualização
 
+    // Data da exclusão lógica; ausente nos Tenants ativos. O índice parcial só contém os excluídos,
+    // que aguardam a limpeza em segundo plano (TenantPurgeServiceImpl), então as escritas comuns não o mantêm
+    @JsonIgnore // Tenants excluídos nunca são retornados pela API
+    @Indexed(name = "deleted_purge_queue", partialFilter = "{ 'deletedAt': { '$exists': true } }")
+    private LocalDateTime deletedAt;
+
+    @Version
+    private Long version; // Incrementado a cada escrita; impede que escritas concorrentes se sobrescrevam
+
     public enum TenantStatus {
         ACTIVE,
         INACTIVE,
         PENDING_PAYMENT,
-        SUSPENDED
+        SUSPENDED,
+        DELETED // Excluído: oculto das leituras até a limpeza remover o documento
     }
 }
\ No newline at end of file
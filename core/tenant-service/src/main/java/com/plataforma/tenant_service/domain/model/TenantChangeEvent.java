@@ -0,0 +1,44 @@
+package com.plataforma.tenant_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Registro de uma alteração em um Tenant, gravado no feed de alterações (outbox).
+ * Consumidores acompanham o feed pelo campo {@code sequence}, que é crescente e único.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "tenant_changes")
+public class TenantChangeEvent {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private long sequence; // Posição do evento no feed, usada como cursor pelos consumidores
+
+    private String tenantId;
+
+    private ChangeType type;
+
+    private Tenant tenant; // Estado do Tenant após a alteração (nulo em DELETED)
+
+    @Indexed(expireAfter = "7d")
+    private Instant occurredAt; // Eventos mais antigos que a retenção são removidos pelo MongoDB
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
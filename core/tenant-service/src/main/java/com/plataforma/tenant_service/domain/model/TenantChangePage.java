@@ -0,0 +1,12 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.util.List;
+
+/**
+ * Uma página do feed de alterações de Tenants.
+ *
+ * @param events     os eventos, em ordem crescente de sequência.
+ * @param nextCursor o cursor a ser enviado na próxima consulta.
+ */
+public record TenantChangePage(List<TenantChangeEvent> events, long nextCursor) {
+}
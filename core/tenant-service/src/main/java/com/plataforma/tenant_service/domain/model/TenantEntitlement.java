@@ -0,0 +1,13 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.util.Set;
+
+/**
+ * Visão compacta de um Tenant usada para checagem de acesso aos módulos.
+ *
+ * @param tenantId o ID do Tenant.
+ * @param active   se o Tenant está ACTIVE e, portanto, pode usar seus módulos.
+ * @param modules  os módulos assinados pelo Tenant.
+ */
+public record TenantEntitlement(String tenantId, boolean active, Set<String> modules) {
+}
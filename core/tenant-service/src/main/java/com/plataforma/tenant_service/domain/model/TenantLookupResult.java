@@ -0,0 +1,12 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado de uma busca de Tenants em lote.
+ *
+ * @param tenants    os Tenants encontrados, na mesma ordem dos IDs solicitados.
+ * @param missingIds os IDs solicitados que não correspondem a nenhum Tenant.
+ */
+public record TenantLookupResult(List<Tenant> tenants, List<String> missingIds) {
+}
@@ -0,0 +1,9 @@
+package com.plataforma.tenant_service.domain.model;
+
+/**
+ * Um Tenant encontrado pela busca por nome.
+ *
+ * @param score 1.0 para correspondências de prefixo; entre 0 e 1 para correspondências aproximadas.
+ */
+public record TenantSearchHit(String id, String name, double score) {
+}
@@ -0,0 +1,9 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.util.List;
+
+/**
+ * Página de resultados da busca de Tenants por nome.
+ */
+public record TenantSearchPage(List<TenantSearchHit> hits, int page, int size, boolean hasMore) {
+}
@@ -0,0 +1,41 @@
+package com.plataforma.tenant_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Uso de um Tenant em uma rota do Gateway, agregado por hora.
+ * Cada documento é incrementado a cada lote recebido do Gateway, sem leitura prévia.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "tenant_usage")
+@CompoundIndex(name = "tenant_period", def = "{ 'tenantId': 1, 'periodStart': 1 }")
+public class TenantUsage {
+
+    @Id
+    private String id; // tenantId|module|route|periodStart
+
+    private String tenantId;
+
+    private String module; // Módulo da rota, ou "-" para rotas sem o filtro ModuleEntitlement
+
+    private String route; // ID da rota no Gateway
+
+    private Instant periodStart; // Início da hora (UTC) a que o uso se refere
+
+    private long requests;
+
+    private long bytesIn;
+
+    private long bytesOut;
+}
@@ -0,0 +1,15 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Uso de um Tenant em um período, com os totais e a divisão por módulo e rota.
+ */
+public record TenantUsageReport(String tenantId, Instant from, Instant to,
+                                long requests, long bytesIn, long bytesOut,
+                                List<ModuleUsage> modules) {
+
+    public record ModuleUsage(String module, String route, long requests, long bytesIn, long bytesOut) {
+    }
+}
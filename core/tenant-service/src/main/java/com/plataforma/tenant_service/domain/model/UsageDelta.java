@@ -0,0 +1,10 @@
+package com.plataforma.tenant_service.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Uso acumulado pelo Gateway para um Tenant em uma rota, a ser somado ao {@link TenantUsage} da hora.
+ */
+public record UsageDelta(String tenantId, String module, String route, Instant periodStart,
+                         long requests, long bytesIn, long bytesOut) {
+}
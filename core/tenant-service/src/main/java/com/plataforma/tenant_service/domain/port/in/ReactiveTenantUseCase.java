@@ -0,0 +1,31 @@
+package com.plataforma.tenant_service.domain.port.in;
+
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Porta de Entrada (Driving Port) reativa para os casos de uso de Tenant.
+ *
+ * Mesmo contrato de {@link TenantUseCase}, sem bloquear a thread chamadora.
+ * Usada pela variante WebFlux do serviço (profile {@code reactive}).
+ */
+public interface ReactiveTenantUseCase {
+
+    Mono<Tenant> createTenant(Tenant tenant);
+
+    Flux<Tenant> getAllTenants();
+
+    Mono<Tenant> getTenantById(String id);
+
+    Mono<Long> getTenantVersion(String id);
+
+    Mono<TenantLookupResult> getTenantsByIds(List<String> ids);
+
+    Mono<Void> deleteTenant(String id, Long expectedVersion);
+
+    Mono<Tenant> addModuleToTenant(String tenantId, String moduleName, Long expectedVersion);
+}
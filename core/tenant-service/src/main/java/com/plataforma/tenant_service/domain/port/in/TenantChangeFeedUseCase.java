@@ -0,0 +1,34 @@
+package com.plataforma.tenant_service.domain.port.in;
+
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Porta de Entrada (Driving Port) para o feed de alterações de Tenants.
+ *
+ * Permite que outros serviços espelhem os dados de Tenants de forma incremental: o consumidor
+ * guarda o cursor da última página recebida e, ao reiniciar, continua a partir dele.
+ */
+public interface TenantChangeFeedUseCase {
+
+    /**
+     * Retorna imediatamente os eventos posteriores ao cursor.
+     *
+     * @param cursor a última sequência já processada (0 para começar do início do feed).
+     * @param limit  a quantidade máxima de eventos retornados.
+     * @return a página de eventos, possivelmente vazia.
+     */
+    TenantChangePage getChanges(long cursor, int limit);
+
+    /**
+     * Aguarda (long-poll) até que existam eventos posteriores ao cursor ou até o tempo máximo.
+     *
+     * @param cursor  a última sequência já processada.
+     * @param limit   a quantidade máxima de eventos retornados.
+     * @param maxWait o tempo máximo de espera.
+     * @return a página de eventos, vazia se nada mudou durante a espera.
+     */
+    CompletableFuture<TenantChangePage> awaitChanges(long cursor, int limit, Duration maxWait);
+}
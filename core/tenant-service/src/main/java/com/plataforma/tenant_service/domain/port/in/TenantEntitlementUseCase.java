@@ -0,0 +1,20 @@
+package com.plataforma.tenant_service.domain.port.in;
+
+import com.plataforma.tenant_service.domain.model.EntitlementSnapshot;
+
+/**
+ * Porta de Entrada (Driving Port) para a consulta das permissões de módulos dos Tenants.
+ *
+ * Usada por serviços que mantêm uma cópia local dessas permissões (como o Gateway),
+ * permitindo uma carga completa seguida de sincronizações incrementais.
+ */
+public interface TenantEntitlementUseCase {
+
+    /**
+     * Retorna as permissões dos Tenants.
+     *
+     * @param cursor o cursor devolvido pela consulta anterior, ou {@code null} para uma carga completa.
+     * @return um snapshot completo, ou apenas os Tenants alterados desde o cursor.
+     */
+    EntitlementSnapshot getEntitlements(String cursor);
+}
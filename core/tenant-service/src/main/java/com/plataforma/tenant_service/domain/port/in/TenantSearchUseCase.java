@@ -0,0 +1,18 @@
+package com.plataforma.tenant_service.domain.port.in;
+
+import com.plataforma.tenant_service.domain.model.TenantSearchPage;
+
+/**
+ * Porta de Entrada (Driving Port) para a busca de Tenants por nome (autocompletar).
+ */
+public interface TenantSearchUseCase {
+
+    /**
+     * Busca Tenants pelo início do nome (ou de uma palavra dele) e, em seguida, por semelhança.
+     *
+     * @param query o texto digitado.
+     * @param page  a página (a partir de 0).
+     * @param size  a quantidade de resultados por página.
+     */
+    TenantSearchPage search(String query, int page, int size);
+}
@@ -0,0 +1,30 @@
+package com.plataforma.tenant_service.domain.port.in;
+
+import com.plataforma.tenant_service.domain.model.Tenant;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Porta de Entrada (Driving Port) para exportação e importação em massa de Tenants
+ * (backups e cópia de dados entre ambientes).
+ */
+public interface TenantTransferUseCase {
+
+    /**
+     * Entrega todos os Tenants, um a um, sem carregá-los todos em memória.
+     *
+     * @param sink recebe cada Tenant.
+     * @return a quantidade de Tenants exportados.
+     */
+    long exportTenants(Consumer<Tenant> sink);
+
+    /**
+     * Importa um bloco de Tenants, inserindo os novos e atualizando os existentes (pelo ID).
+     * Tenants excluídos, no arquivo ou no banco, são ignorados.
+     *
+     * @param tenants o bloco a importar; o chamador controla o tamanho dos blocos.
+     * @return a quantidade de Tenants gravados.
+     */
+    int importTenants(List<Tenant> tenants);
+}
@@ -0,0 +1,27 @@
+package com.plataforma.tenant_service.domain.port.in;
+
+import com.plataforma.tenant_service.domain.model.TenantUsageReport;
+import com.plataforma.tenant_service.domain.model.UsageDelta;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Porta de Entrada (Driving Port) para a medição de uso dos Tenants, alimentada pelo Gateway.
+ */
+public interface TenantUsageUseCase {
+
+    /**
+     * Aplica um lote de uso enviado pelo Gateway. Reenvios do mesmo lote são ignorados.
+     *
+     * @param batchId o ID único do lote.
+     * @param deltas  o uso acumulado desde o lote anterior.
+     * @return {@code false} se o lote já havia sido aplicado.
+     */
+    boolean recordUsage(String batchId, List<UsageDelta> deltas);
+
+    /**
+     * Retorna o uso de um Tenant entre {@code from} (inclusive) e {@code to} (exclusive).
+     */
+    TenantUsageReport getUsage(String tenantId, Instant from, Instant to);
+}
@@ -1,9 +1,9 @@
 package com.plataforma.tenant_service.domain.port.in;
 
 import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Porta de Entrada (Driving Port) para os casos de uso de Tenant.
@@ -19,7 +19,17 @@ public interface TenantUseCase {
 
     Tenant getTenantById(String id);
 
-    void deleteTenant(String id);
+    long getTenantVersion(String id);
 
-    Tenant addModuleToTenant(String tenantId, String moduleName);
+    TenantLookupResult getTenantsByIds(List<String> ids);
+
+    /**
+     * @param expectedVersion a versão que o cliente espera que o Tenant tenha, ou {@code null} para não verificar.
+     */
+    void deleteTenant(String id, Long expectedVersion);
+
+    /**
+     * @param expectedVersion a versão que o cliente espera que o Tenant tenha, ou {@code null} para não verificar.
+     */
+    Tenant addModuleToTenant(String tenantId, String moduleName, Long expectedVersion);
 }
\ No newline at end of file
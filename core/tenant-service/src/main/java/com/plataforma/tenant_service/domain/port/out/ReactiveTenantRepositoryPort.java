@@ -0,0 +1,38 @@
+package com.plataforma.tenant_service.domain.port.out;
+
+import com.plataforma.tenant_service.domain.model.Tenant;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Porta de Saída (Driven Port) reativa para operações de persistência de Tenants.
+ *
+ * Mesmo contrato de {@link TenantRepositoryPort}; um Mono vazio representa "não encontrado".
+ */
+public interface ReactiveTenantRepositoryPort {
+
+    Mono<Tenant> save(Tenant tenant);
+
+    Flux<Tenant> findAll();
+
+    Mono<Tenant> findById(String id);
+
+    /**
+     * Busca apenas a versão de um Tenant, sem carregar o documento completo.
+     */
+    Mono<Long> findVersionById(String id);
+
+    Flux<Tenant> findAllByIds(Collection<String> ids);
+
+    /**
+     * Marca um Tenant como excluído em uma única atualização atômica.
+     *
+     * @return {@code false} se o Tenant não existe, já foi excluído ou está em outra versão.
+     */
+    Mono<Boolean> markDeleted(String id, Long expectedVersion, LocalDateTime deletedAt);
+
+    Mono<Tenant> findByName(String name);
+}
@@ -0,0 +1,51 @@
+package com.plataforma.tenant_service.domain.port.out;
+
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+
+import java.util.List;
+
+/**
+ * Porta de Saída (Driven Port) para o feed de alterações de Tenants.
+ *
+ * Usada pelos serviços que alteram Tenants, para registrar cada alteração, e pelos que mantêm uma
+ * cópia dos Tenants (permissões do Gateway, índice de busca), para a carga completa e os deltas.
+ */
+public interface TenantChangeFeedPort {
+
+    /**
+     * Registra uma alteração de Tenant no feed. Deve ser chamado dentro do {@link TransactionPort#inTransaction}
+     * que grava a alteração; os consumidores são acordados após o commit.
+     *
+     * @param type     o tipo da alteração.
+     * @param tenantId o ID do Tenant alterado.
+     * @param tenant   o estado completo do Tenant após a alteração ({@code null} na exclusão).
+     */
+    void record(TenantChangeEvent.ChangeType type, String tenantId, Tenant tenant);
+
+    /**
+     * Registra uma alteração para cada Tenant de um lote (ex: importação), com uma única gravação no feed.
+     *
+     * @param type    o tipo das alterações.
+     * @param tenants o estado completo de cada Tenant após a alteração.
+     */
+    void recordAll(TenantChangeEvent.ChangeType type, List<Tenant> tenants);
+
+    /**
+     * Cursor para uma carga completa lida logo em seguida. Eventos concorrentes à carga são reentregues
+     * no próximo delta, o que é seguro porque cada evento carrega o estado completo do Tenant.
+     *
+     * @return a sequência a partir da qual os deltas devem ser pedidos.
+     */
+    long currentCursor();
+
+    /**
+     * Retorna imediatamente os eventos posteriores ao cursor.
+     *
+     * @param cursor a última sequência já processada (0 para começar do início do feed).
+     * @param limit  a quantidade máxima de eventos retornados.
+     * @return a página de eventos, possivelmente vazia.
+     */
+    TenantChangePage getChanges(long cursor, int limit);
+}
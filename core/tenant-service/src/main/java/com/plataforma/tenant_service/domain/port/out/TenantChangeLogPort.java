@@ -0,0 +1,49 @@
+package com.plataforma.tenant_service.domain.port.out;
+
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Porta de Saída (Driven Port) para o registro de alterações de Tenants (outbox).
+ */
+public interface TenantChangeLogPort {
+
+    /**
+     * Grava um evento no feed, atribuindo a ele a próxima sequência disponível.
+     *
+     * @param event o evento a ser gravado (sem sequência).
+     * @return o evento gravado, com a sequência preenchida.
+     */
+    TenantChangeEvent append(TenantChangeEvent event);
+
+    /**
+     * Grava vários eventos no feed com uma única reserva de sequências e uma única inserção.
+     *
+     * @param events os eventos a serem gravados (sem sequência), que recebem sequências consecutivas.
+     */
+    void appendAll(List<TenantChangeEvent> events);
+
+    /**
+     * Busca os eventos com sequência maior que a informada, em ordem crescente.
+     * Sequências reservadas por transações ainda não confirmadas (ou desfeitas) aparecem como lacunas.
+     *
+     * @param sequence a última sequência já processada pelo consumidor.
+     * @param limit    a quantidade máxima de eventos retornados.
+     * @return os eventos encontrados.
+     */
+    List<TenantChangeEvent> findAfter(long sequence, int limit);
+
+    /**
+     * @return a menor sequência ainda retida no feed, se houver eventos.
+     */
+    Optional<Long> findOldestSequence();
+
+    /**
+     * @param occurredBefore ignora eventos mais recentes que este instante.
+     * @return a maior sequência gravada no feed antes do instante, ou 0 se não houver.
+     */
+    long findLatestSequence(Instant occurredBefore);
+}
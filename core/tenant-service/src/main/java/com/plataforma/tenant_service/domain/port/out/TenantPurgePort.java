@@ -0,0 +1,42 @@
+package com.plataforma.tenant_service.domain.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Porta de Saída (Driven Port) para a limpeza dos dados dos Tenants excluídos.
+ *
+ * Um Tenant excluído é reservado por uma réplica por um tempo limitado. Se a réplica cair no meio da
+ * limpeza, a reserva expira e outra réplica continua de onde ela parou: as remoções são idempotentes.
+ */
+public interface TenantPurgePort {
+
+    /**
+     * Reserva o Tenant excluído há mais tempo que não esteja reservado por outra réplica.
+     *
+     * @param claimTimeout duração da reserva.
+     * @return o ID do Tenant reservado, ou vazio se não há Tenants a limpar.
+     */
+    Optional<String> claimNextDeleted(Duration claimTimeout);
+
+    /**
+     * Prorroga a reserva de um Tenant em limpeza.
+     *
+     * @return {@code false} se o Tenant não está mais marcado como excluído (ex.: restaurado por uma importação).
+     */
+    boolean renewClaim(String tenantId, Duration claimTimeout);
+
+    /**
+     * Remove um lote dos dados do Tenant, da primeira coleção configurada que ainda tenha dados dele.
+     *
+     * @return a quantidade de documentos do lote; 0 quando não resta nenhum dado do Tenant.
+     */
+    int deleteDataBatch(String tenantId, int batchSize);
+
+    /**
+     * Remove o documento do Tenant, se ele ainda estiver marcado como excluído.
+     *
+     * @return {@code true} se o documento foi removido.
+     */
+    boolean deleteTenant(String tenantId);
+}
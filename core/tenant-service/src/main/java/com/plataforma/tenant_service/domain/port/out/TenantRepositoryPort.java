@@ -2,8 +2,11 @@ package com.plataforma.tenant_service.domain.port.out;
 
 import com.plataforma.tenant_service.domain.model.Tenant;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Porta de Saída (Driven Port) para operações de persistência de Tenants.
@@ -37,11 +40,62 @@ public interface TenantRepositoryPort {
     Optional<Tenant> findById(String id);
 
     /**
-     * Deleta um Tenant pelo seu ID.
+     * Busca apenas a versão de um Tenant, sem carregar o documento completo.
      *
-     * @param id o ID do Tenant a ser deletado.
+     * @param id o ID do Tenant.
+     * @return um Optional contendo a versão se o Tenant for encontrado.
+     */
+    Optional<Long> findVersionById(String id);
+
+    /**
+     * Busca vários Tenants pelos seus IDs em uma única consulta.
+     *
+     * @param ids os IDs dos Tenants.
+     * @return os Tenants encontrados, sem ordem garantida. IDs inexistentes são ignorados.
+     */
+    List<Tenant> findAllByIds(Collection<String> ids);
+
+    /**
+     * Busca as permissões de todos os Tenants.
+     * Apenas os campos id, status e subscribedModules são carregados.
+     *
+     * @return uma lista com todos os Tenants, parcialmente preenchidos.
+     */
+    List<Tenant> findAllEntitlements();
+
+    /**
+     * Percorre o ID e o nome de todos os Tenants com um cursor, sem manter a coleção em memória.
+     *
+     * @param consumer recebe cada Tenant, com apenas id e name preenchidos.
+     */
+    void forEachName(Consumer<Tenant> consumer);
+
+    /**
+     * Percorre todos os Tenants com um cursor, sem manter a coleção em memória.
+     *
+     * @param consumer recebe cada Tenant completo.
+     */
+    void forEachTenant(Consumer<Tenant> consumer);
+
+    /**
+     * Insere ou atualiza (pelo ID) vários Tenants em uma única operação em lote, incrementando a versão.
+     * Tenants marcados como excluídos no banco não são alterados.
+     *
+     * @param tenants os Tenants, com o ID preenchido. Não são alterados.
+     * @return os Tenants gravados (sem os excluídos), como ficaram no banco, com a versão já incrementada.
+     */
+    List<Tenant> upsertAll(List<Tenant> tenants);
+
+    /**
+     * Marca um Tenant como excluído (status DELETED e data de exclusão) em uma única atualização atômica.
+     * A partir daí ele não é mais retornado pelas leituras; os dados são removidos depois pelo {@link TenantPurgePort}.
+     *
+     * @param id              o ID do Tenant.
+     * @param expectedVersion a versão esperada, ou {@code null} para não verificar.
+     * @param deletedAt       a data da exclusão.
+     * @return {@code false} se o Tenant não existe, já foi excluído ou está em outra versão.
      */
-    void deleteById(String id);
+    boolean markDeleted(String id, Long expectedVersion, LocalDateTime deletedAt);
 
     /**
      * Busca um Tenant pelo nome.
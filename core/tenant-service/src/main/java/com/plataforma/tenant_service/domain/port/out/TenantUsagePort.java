@@ -0,0 +1,34 @@
+package com.plataforma.tenant_service.domain.port.out;
+
+import com.plataforma.tenant_service.domain.model.TenantUsage;
+import com.plataforma.tenant_service.domain.model.UsageDelta;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Porta de Saída (Driven Port) para o registro do uso dos Tenants.
+ */
+public interface TenantUsagePort {
+
+    /**
+     * @return {@code true} se o lote já foi aplicado por completo.
+     */
+    boolean isBatchApplied(String batchId);
+
+    /**
+     * Marca um lote de uso como aplicado por completo.
+     */
+    void markBatchApplied(String batchId);
+
+    /**
+     * Soma os deltas aos registros de uso por hora, criando os que não existirem. Cada registro guarda os
+     * últimos lotes somados a ele: repetir o lote (após uma falha no meio) só soma os que ainda faltam.
+     */
+    void increment(String batchId, List<UsageDelta> deltas);
+
+    /**
+     * Busca os registros de uso de um Tenant com início de período em [from, to).
+     */
+    List<TenantUsage> findByTenant(String tenantId, Instant from, Instant to);
+}
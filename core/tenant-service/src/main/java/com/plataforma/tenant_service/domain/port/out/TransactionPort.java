@@ -0,0 +1,37 @@
+package com.plataforma.tenant_service.domain.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Porta de Saída (Driven Port) para executar várias escritas de forma atômica.
+ *
+ * Usada para gravar uma alteração de Tenant e o seu evento no feed de alterações (outbox) juntos:
+ * ou as duas escritas são confirmadas, ou nenhuma.
+ */
+public interface TransactionPort {
+
+    /**
+     * Executa a operação em uma transação, confirmada ao final ou desfeita se a operação lançar uma exceção.
+     * Uma transação desfeita por conflito com outra pode ser repetida: a operação não deve depender de
+     * objetos alterados por uma tentativa anterior.
+     *
+     * @param operation as escritas a serem executadas.
+     * @return o valor retornado pela operação.
+     */
+    <T> T inTransaction(Supplier<T> operation);
+
+    /**
+     * Executa a operação em uma transação, sem valor de retorno.
+     *
+     * @param operation as escritas a serem executadas.
+     */
+    void inTransaction(Runnable operation);
+
+    /**
+     * Executa a ação depois que a transação em andamento for confirmada, ou imediatamente se não houver transação.
+     * A ação não é executada se a transação for desfeita.
+     *
+     * @param action a ação a ser executada.
+     */
+    void afterCommit(Runnable action);
+}
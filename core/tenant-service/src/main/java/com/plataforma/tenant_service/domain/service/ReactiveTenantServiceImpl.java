@@ -0,0 +1,181 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.exception.TenantIllegalArgumentRequestException;
+import com.plataforma.tenant_service.domain.exception.TenantNotFoundException;
+import com.plataforma.tenant_service.domain.exception.TenantVersionMismatchException;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
+import com.plataforma.tenant_service.domain.port.in.ReactiveTenantUseCase;
+import com.plataforma.tenant_service.domain.port.out.AuditPort;
+import com.plataforma.tenant_service.domain.port.out.ReactiveTenantRepositoryPort;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeFeedPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementação reativa dos casos de uso de Tenant, com as mesmas regras de negócio do
+ * {@link TenantServiceImpl}. O registro no feed de alterações ainda é bloqueante e por isso
+ * roda no scheduler {@code boundedElastic}, fora das threads do event loop. Ao contrário do
+ * {@link TenantServiceImpl}, ele é feito depois da escrita e sem transação: os dois drivers usam
+ * clientes diferentes e não compartilham uma sessão.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveTenantServiceImpl implements ReactiveTenantUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTenantServiceImpl.class);
+
+    private final ReactiveTenantRepositoryPort tenantRepositoryPort;
+    private final TenantChangeFeedPort changeFeed;
+    private final AuditPort auditPort;
+
+    @Override
+    public Mono<Tenant> createTenant(Tenant tenant) {
+        log.debug("Executando lógica de negócio para criar tenant: {}", tenant.getName());
+
+        return tenantRepositoryPort.findByName(tenant.getName())
+                .flatMap(existingTenant -> {
+                    log.error("Tentativa de criar tenant com nome duplicado: {}", tenant.getName());
+                    return Mono.<Tenant>error(new TenantIllegalArgumentRequestException("Já existe um tenant com o nome: " + tenant.getName()));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    tenant.setStatus(Tenant.TenantStatus.ACTIVE);
+                    tenant.setCreatedAt(LocalDateTime.now());
+                    tenant.setUpdatedAt(LocalDateTime.now());
+                    if (tenant.getSubscribedModules() == null) {
+                        tenant.setSubscribedModules(new HashSet<>());
+                    }
+                    return tenantRepositoryPort.save(tenant);
+                }))
+                .flatMap(savedTenant -> record(TenantChangeEvent.ChangeType.CREATED, savedTenant.getId(), savedTenant)
+                        .thenReturn(savedTenant))
+                .doOnNext(savedTenant -> auditPort.record("TENANT_CREATED", "tenant", savedTenant.getId(),
+                        Map.of("name", savedTenant.getName())))
+                .doOnNext(savedTenant -> log.info("Tenant '{}' (ID: {}) persistido com sucesso no banco de dados.",
+                        savedTenant.getName(), savedTenant.getId()));
+    }
+
+    @Override
+    public Flux<Tenant> getAllTenants() {
+        log.debug("Chamando a porta de persistência para buscar todos os tenants.");
+        return tenantRepositoryPort.findAll();
+    }
+
+    @Override
+    public Mono<Tenant> getTenantById(String id) {
+        log.debug("Chamando a porta de persistência para buscar tenant pelo ID: {}", id);
+        return tenantRepositoryPort.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TenantNotFoundException("Tenant não encontrado com o id: " + id)));
+    }
+
+    @Override
+    public Mono<Long> getTenantVersion(String id) {
+        return tenantRepositoryPort.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> new TenantNotFoundException("Tenant não encontrado com o id: " + id)));
+    }
+
+    @Override
+    public Mono<TenantLookupResult> getTenantsByIds(List<String> ids) {
+        // Remove duplicados preservando a ordem em que os IDs foram solicitados
+        Set<String> requestedIds = new LinkedHashSet<>(ids);
+        log.debug("Chamando a porta de persistência para buscar {} tenants em lote.", requestedIds.size());
+
+        return tenantRepositoryPort.findAllByIds(requestedIds)
+                .collectMap(Tenant::getId)
+                .map(tenantsById -> {
+                    List<Tenant> tenants = new ArrayList<>(tenantsById.size());
+                    List<String> missingIds = new ArrayList<>();
+                    for (String id : requestedIds) {
+                        Tenant tenant = tenantsById.get(id);
+                        if (tenant != null) {
+                            tenants.add(tenant);
+                        } else {
+                            missingIds.add(id);
+                        }
+                    }
+                    return new TenantLookupResult(tenants, missingIds);
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteTenant(String id, Long expectedVersion) {
+        log.warn("Iniciando operação de deleção para o tenant com ID: {}. Esta é uma ação destrutiva.", id);
+
+        // Exclusão lógica em uma única atualização; os dados são removidos depois pelo TenantPurgeServiceImpl
+        return tenantRepositoryPort.markDeleted(id, expectedVersion, LocalDateTime.now())
+                .flatMap(marked -> marked ? Mono.<Void>empty() : tenantRepositoryPort.findVersionById(id)
+                        .switchIfEmpty(Mono.error(() -> {
+                            log.warn("Tentativa de deletar um tenant que não existe. ID: {}", id);
+                            return new TenantNotFoundException("Tenant não encontrado com o id: " + id);
+                        }))
+                        .flatMap(currentVersion -> {
+                            log.warn("Versão do tenant '{}' divergente. Esperada: {}, atual: {}", id, expectedVersion, currentVersion);
+                            return Mono.<Void>error(new TenantVersionMismatchException("O tenant " + id + " foi alterado por outra requisição. Versão atual: " + currentVersion));
+                        }))
+                .then(record(TenantChangeEvent.ChangeType.DELETED, id, null))
+                .doOnSuccess(ignored -> auditPort.record("TENANT_DELETED", "tenant", id, Map.of()))
+                .doOnSuccess(ignored -> log.info("Tenant com ID: {} marcado como excluído; os dados serão removidos em segundo plano.", id));
+    }
+
+    @Override
+    public Mono<Tenant> addModuleToTenant(String tenantId, String moduleName, Long expectedVersion) {
+        log.debug("Iniciando lógica para adicionar módulo '{}' ao tenant '{}'", moduleName, tenantId);
+
+        return tenantRepositoryPort.findById(tenantId)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Falha ao tentar adicionar módulo: Tenant com ID '{}' não foi encontrado.", tenantId);
+                    return new TenantNotFoundException("Tenant não encontrado com o id: " + tenantId);
+                }))
+                .flatMap(tenant -> checkVersion(tenant, expectedVersion))
+                .flatMap(tenant -> {
+                    Set<String> modules = tenant.getSubscribedModules();
+                    if (modules.contains(moduleName)) {
+                        log.warn("Módulo '{}' já está inscrito para o tenant '{}'. Nenhuma alteração será feita.", moduleName, tenant.getName());
+                        return Mono.just(tenant);
+                    }
+                    modules.add(moduleName);
+                    tenant.setUpdatedAt(LocalDateTime.now());
+                    return tenantRepositoryPort.save(tenant)
+                            // Numa requisição condicional, uma escrita concorrente é o mesmo caso do If-Match divergente
+                            .onErrorMap(OptimisticLockingFailureException.class, e -> expectedVersion == null ? e
+                                    : new TenantVersionMismatchException("O tenant " + tenantId + " foi alterado por outra requisição."))
+                            .flatMap(updatedTenant -> record(TenantChangeEvent.ChangeType.UPDATED, updatedTenant.getId(), updatedTenant)
+                                    .thenReturn(updatedTenant))
+                            .doOnNext(updatedTenant -> auditPort.record("TENANT_MODULE_ADDED", "tenant", updatedTenant.getId(),
+                                    Map.of("module", moduleName)))
+                            .doOnNext(updatedTenant -> log.info("Módulo '{}' adicionado com sucesso ao tenant '{}' (ID: {})",
+                                    moduleName, updatedTenant.getName(), updatedTenant.getId()));
+                });
+    }
+
+    private Mono<Tenant> checkVersion(Tenant tenant, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(tenant.getVersion())) {
+            log.warn("Versão do tenant '{}' divergente. Esperada: {}, atual: {}", tenant.getId(), expectedVersion, tenant.getVersion());
+            return Mono.error(new TenantVersionMismatchException("O tenant " + tenant.getId() + " foi alterado por outra requisição. Versão atual: " + tenant.getVersion()));
+        }
+        return Mono.just(tenant);
+    }
+
+    private Mono<Void> record(TenantChangeEvent.ChangeType type, String tenantId, Tenant tenant) {
+        return Mono.fromRunnable(() -> changeFeed.record(type, tenantId, tenant))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
@@ -0,0 +1,183 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.exception.TenantChangeCursorExpiredException;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+import com.plataforma.tenant_service.domain.port.in.TenantChangeFeedUseCase;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeFeedPort;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeLogPort;
+import com.plataforma.tenant_service.domain.port.out.TransactionPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feed de alterações de Tenants.
+ *
+ * Os eventos e as suas sequências são gravados na mesma transação da alteração do Tenant ({@link TransactionPort}).
+ * O contador das sequências fica bloqueado até o commit, então as transações confirmam os eventos na ordem
+ * das sequências, e uma transação desfeita não deixa lacuna.
+ *
+ * Sem transação (perfil {@code reactive}, ou {@code plataforma.tenant-changes.transactional: false}), a reserva
+ * e a gravação são separadas, e uma sequência pode aparecer depois das seguintes. Por isso a leitura para na
+ * primeira sequência ausente: entregar os eventos seguintes faria o cursor do consumidor "pular" esse evento.
+ * A lacuna só é ignorada quando persiste por mais de {@code gap-timeout}: a gravação falhou.
+ */
+@Service
+public class TenantChangeFeedServiceImpl implements TenantChangeFeedUseCase, TenantChangeFeedPort {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantChangeFeedServiceImpl.class);
+
+    private final TenantChangeLogPort changeLogPort;
+    private final TransactionPort transactionPort;
+    private final Duration gapTimeout;
+
+    // Executor próprio das esperas de long-poll e das releituras, fora do ForkJoinPool comum.
+    // Não é um bean: um ScheduledExecutorService no contexto substituiria o agendador do @Scheduled.
+    private final ScheduledThreadPoolExecutor executor;
+
+    // Requisições de long-poll aguardando novos eventos neste processo
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    public TenantChangeFeedServiceImpl(TenantChangeLogPort changeLogPort,
+                                       TransactionPort transactionPort,
+                                       @Value("${plataforma.tenant-changes.gap-timeout-ms:120000}") long gapTimeoutMs,
+                                       @Value("${plataforma.tenant-changes.threads:2}") int threads) {
+        this.changeLogPort = changeLogPort;
+        this.transactionPort = transactionPort;
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMs);
+        this.executor = new ScheduledThreadPoolExecutor(threads,
+                Thread.ofPlatform().name("tenant-changes-", 0).daemon().factory());
+        // Esperas canceladas (consumidor acordado antes do prazo) saem da fila na hora
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void record(TenantChangeEvent.ChangeType type, String tenantId, Tenant tenant) {
+        TenantChangeEvent event = changeLogPort.append(TenantChangeEvent.builder()
+                .tenantId(tenantId)
+                .type(type)
+                .tenant(tenant)
+                .occurredAt(Instant.now())
+                .build());
+        log.debug("Evento {} do tenant {} registrado no feed com a sequência {}.", type, tenantId, event.getSequence());
+        transactionPort.afterCommit(this::wakeUpWaiters);
+    }
+
+    @Override
+    public void recordAll(TenantChangeEvent.ChangeType type, List<Tenant> tenants) {
+        Instant now = Instant.now();
+        changeLogPort.appendAll(tenants.stream()
+                .map(tenant -> TenantChangeEvent.builder()
+                        .tenantId(tenant.getId())
+                        .type(type)
+                        .tenant(tenant)
+                        .occurredAt(now)
+                        .build())
+                .toList());
+        log.debug("{} eventos {} registrados no feed.", tenants.size(), type);
+        transactionPort.afterCommit(this::wakeUpWaiters);
+    }
+
+    @Override
+    public long currentCursor() {
+        // Fica antes dos eventos recentes, que ainda podem ter lacunas de gravações sem transação
+        return changeLogPort.findLatestSequence(Instant.now().minus(gapTimeout));
+    }
+
+    @Override
+    public TenantChangePage getChanges(long cursor, int limit) {
+        List<TenantChangeEvent> found = changeLogPort.findAfter(cursor, limit);
+        Instant abandonedBefore = Instant.now().minus(gapTimeout);
+
+        List<TenantChangeEvent> events = new ArrayList<>(found.size());
+        long expected = cursor + 1;
+        for (TenantChangeEvent event : found) {
+            if (event.getSequence() != expected) {
+                // Lacuna recente: a sequência esperada ainda pode ser confirmada. Entrega só o que vem antes dela.
+                if (event.getOccurredAt().isAfter(abandonedBefore)) {
+                    break;
+                }
+                if (cursor > 0 && events.isEmpty()) {
+                    checkCursorRetained(cursor);
+                }
+                if (cursor > 0 || !events.isEmpty()) {
+                    log.warn("Sequências {} a {} do feed não foram gravadas em {} s (transação desfeita). Ignorando.",
+                            expected, event.getSequence() - 1, gapTimeout.toSeconds());
+                }
+            }
+            events.add(event);
+            expected = event.getSequence() + 1;
+        }
+
+        long nextCursor = events.isEmpty() ? cursor : events.get(events.size() - 1).getSequence();
+        return new TenantChangePage(events, nextCursor);
+    }
+
+    @Override
+    public CompletableFuture<TenantChangePage> awaitChanges(long cursor, int limit, Duration maxWait) {
+        TenantChangePage page = getChanges(cursor, limit);
+        if (!page.events().isEmpty() || maxWait.isZero()) {
+            return CompletableFuture.completedFuture(page);
+        }
+        return awaitUntil(cursor, limit, System.nanoTime() + maxWait.toNanos());
+    }
+
+    private CompletableFuture<TenantChangePage> awaitUntil(long cursor, int limit, long deadline) {
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        waiters.add(signal);
+        ScheduledFuture<?> timeout = executor.schedule(() -> signal.complete(null),
+                deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        signal.whenComplete((ignored, error) -> {
+            waiters.remove(signal);
+            timeout.cancel(false);
+        });
+
+        // Ao ser acordado (escrita local) ou ao fim da espera, consulta o feed novamente.
+        // A consulta final também cobre alterações feitas por outras réplicas do serviço.
+        return signal.thenComposeAsync(ignored -> {
+            TenantChangePage page = getChanges(cursor, limit);
+            if (page.events().isEmpty() && deadline - System.nanoTime() > 0) {
+                // Acordado por um evento que ainda aguarda uma sequência anterior: volta a esperar
+                return awaitUntil(cursor, limit, deadline);
+            }
+            return CompletableFuture.completedFuture(page);
+        }, executor);
+    }
+
+    private void checkCursorRetained(long cursor) {
+        Optional<Long> oldest = changeLogPort.findOldestSequence();
+        if (oldest.isPresent() && oldest.get() > cursor + 1) {
+            log.warn("Cursor {} do feed de alterações expirou. Sequência mais antiga disponível: {}", cursor, oldest.get());
+            throw new TenantChangeCursorExpiredException(
+                    "O cursor " + cursor + " não está mais disponível. Refaça a carga completa dos tenants.");
+        }
+    }
+
+    private void wakeUpWaiters() {
+        CompletableFuture<Void> signal;
+        while ((signal = waiters.poll()) != null) {
+            signal.complete(null);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.exception.TenantChangeCursorExpiredException;
+import com.plataforma.tenant_service.domain.model.EntitlementSnapshot;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+import com.plataforma.tenant_service.domain.model.TenantEntitlement;
+import com.plataforma.tenant_service.domain.port.in.TenantEntitlementUseCase;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeFeedPort;
+import com.plataforma.tenant_service.domain.port.out.TenantRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * As cargas incrementais são derivadas do feed de alterações: o cursor é a sequência do último
+ * evento entregue, o que faz com que deleções também cheguem aos consumidores.
+ */
+@Service
+@RequiredArgsConstructor
+public class TenantEntitlementServiceImpl implements TenantEntitlementUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantEntitlementServiceImpl.class);
+
+    private static final int MAX_CHANGES_PER_DELTA = 1000;
+
+    private final TenantRepositoryPort tenantRepositoryPort;
+    private final TenantChangeFeedPort changeFeed;
+
+    @Override
+    public EntitlementSnapshot getEntitlements(String cursor) {
+        Long sequence = parseCursor(cursor);
+        if (sequence != null) {
+            try {
+                return delta(sequence);
+            } catch (TenantChangeCursorExpiredException e) {
+                log.warn("Cursor de permissões {} expirou. Retornando carga completa.", sequence);
+            }
+        }
+        return full();
+    }
+
+    private EntitlementSnapshot full() {
+        // A sequência é lida antes dos tenants: eventos concorrentes serão reaplicados no próximo delta,
+        // o que é seguro porque cada evento carrega o estado completo do tenant.
+        long latestSequence = changeFeed.currentCursor();
+        List<TenantEntitlement> entitlements = tenantRepositoryPort.findAllEntitlements().stream()
+                .map(this::toEntitlement)
+                .toList();
+
+        log.debug("Retornando carga completa de permissões de {} tenants.", entitlements.size());
+        return new EntitlementSnapshot(String.valueOf(latestSequence), true, entitlements);
+    }
+
+    private EntitlementSnapshot delta(long sequence) {
+        TenantChangePage page = changeFeed.getChanges(sequence, MAX_CHANGES_PER_DELTA);
+
+        // Apenas o último evento de cada tenant importa
+        Map<String, TenantEntitlement> latestByTenant = new LinkedHashMap<>();
+        for (TenantChangeEvent event : page.events()) {
+            TenantEntitlement entitlement = event.getType() == TenantChangeEvent.ChangeType.DELETED || event.getTenant() == null
+                    ? new TenantEntitlement(event.getTenantId(), false, Set.of())
+                    : toEntitlement(event.getTenant());
+            latestByTenant.put(event.getTenantId(), entitlement);
+        }
+
+        log.debug("Retornando permissões de {} tenants alterados após a sequência {}.", latestByTenant.size(), sequence);
+        return new EntitlementSnapshot(String.valueOf(page.nextCursor()), false, new ArrayList<>(latestByTenant.values()));
+    }
+
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            // Um cursor inválido não é fatal: o cliente recebe uma carga completa e um cursor novo
+            log.warn("Cursor de permissões inválido recebido: '{}'. Retornando carga completa.", cursor);
+            return null;
+        }
+    }
+
+    private TenantEntitlement toEntitlement(Tenant tenant) {
+        Set<String> modules = tenant.getSubscribedModules() != null ? tenant.getSubscribedModules() : Set.of();
+        return new TenantEntitlement(tenant.getId(), tenant.getStatus() == Tenant.TenantStatus.ACTIVE, modules);
+    }
+}
@@ -0,0 +1,261 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.model.TenantSearchHit;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória dos nomes dos Tenants, para busca por prefixo e busca aproximada.
+ *
+ * <ul>
+ *     <li><b>Prefixo:</b> um mapa ordenado com o nome normalizado a partir do início de cada palavra
+ *     ("oficina do ze", "do ze", "ze"), então "ze" encontra "Oficina do Zé". A busca é um {@code subMap}.</li>
+ *     <li><b>Aproximada:</b> listas invertidas de trigramas. A pontuação é o coeficiente de Dice entre os
+ *     trigramas da consulta e os do nome, o que tolera erros de digitação.</li>
+ * </ul>
+ * Empates (nomes iguais no prefixo, mesma pontuação na aproximada) saem na ordem do ID do Tenant.
+ * Nomes são comparados sem acentos e sem diferença de maiúsculas. As buscas compartilham o lock de
+ * leitura e só esperam durante uma escrita, que altera apenas as entradas de um Tenant.
+ */
+public class TenantNameIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final double MIN_FUZZY_SCORE = 0.3;
+
+    private final StampedLock lock = new StampedLock();
+
+    private final Map<String, Integer> docIdsByTenant = new HashMap<>();
+    private final List<Entry> docs = new ArrayList<>();
+    private final IntList freeDocIds = new IntList();
+    private final NavigableMap<String, Integer> prefixes = new TreeMap<>();
+    private final Map<Integer, IntList> trigrams = new HashMap<>();
+
+    /**
+     * Inclui ou atualiza o nome de um Tenant.
+     */
+    public void put(String tenantId, String name) {
+        if (name == null) {
+            remove(tenantId);
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            Integer existing = docIdsByTenant.get(tenantId);
+            if (existing != null) {
+                if (docs.get(existing).name().equals(name)) {
+                    return;
+                }
+                unindex(existing);
+            }
+            index(tenantId, name);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(String tenantId) {
+        long stamp = lock.writeLock();
+        try {
+            Integer docId = docIdsByTenant.get(tenantId);
+            if (docId != null) {
+                unindex(docId);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return docIdsByTenant.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Busca os Tenants cujo nome (ou alguma palavra dele) começa com a consulta e, se não bastarem,
+     * completa com os nomes mais parecidos.
+     *
+     * @param limit a quantidade máxima de resultados.
+     */
+    public List<TenantSearchHit> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long stamp = lock.readLock();
+        try {
+            Set<Integer> prefixMatches = prefixMatches(normalized, limit);
+            List<TenantSearchHit> hits = new ArrayList<>(Math.min(limit, 64));
+            for (int docId : prefixMatches) {
+                Entry entry = docs.get(docId);
+                hits.add(new TenantSearchHit(entry.tenantId(), entry.name(), 1.0));
+            }
+            if (hits.size() < limit) {
+                fuzzyMatches(normalized, limit - hits.size(), prefixMatches, hits);
+            }
+            return hits;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(withoutAccents.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    private Set<Integer> prefixMatches(String normalized, int limit) {
+        // Distintos e na ordem alfabética das chaves (nome e, no empate, ID do Tenant); um Tenant pode casar por mais de uma palavra
+        Set<Integer> matches = new LinkedHashSet<>();
+        for (Integer docId : prefixes.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            matches.add(docId);
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private void fuzzyMatches(String normalized, int limit, Set<Integer> exclude, List<TenantSearchHit> hits) {
+        int[] queryGrams = trigramsOf(normalized);
+        Map<Integer, Integer> common = new HashMap<>();
+        for (int gram : queryGrams) {
+            IntList postings = trigrams.get(gram);
+            if (postings == null) {
+                continue;
+            }
+            for (int i = 0; i < postings.size; i++) {
+                common.merge(postings.values[i], 1, Integer::sum);
+            }
+        }
+
+        List<TenantSearchHit> candidates = new ArrayList<>();
+        common.forEach((docId, count) -> {
+            if (exclude.contains(docId)) {
+                return;
+            }
+            Entry entry = docs.get(docId);
+            double score = 2.0 * count / (queryGrams.length + entry.trigramCount());
+            if (score >= MIN_FUZZY_SCORE) {
+                candidates.add(new TenantSearchHit(entry.tenantId(), entry.name(), score));
+            }
+        });
+        candidates.sort(Comparator.comparingDouble(TenantSearchHit::score).reversed()
+                .thenComparing(TenantSearchHit::id));
+        hits.addAll(candidates.subList(0, Math.min(limit, candidates.size())));
+    }
+
+    private void index(String tenantId, String name) {
+        String normalized = normalize(name);
+        int[] grams = trigramsOf(normalized);
+
+        int docId;
+        if (freeDocIds.size > 0) {
+            docId = freeDocIds.values[--freeDocIds.size];
+            docs.set(docId, new Entry(tenantId, name, normalized, grams.length));
+        } else {
+            docId = docs.size();
+            docs.add(new Entry(tenantId, name, normalized, grams.length));
+        }
+        docIdsByTenant.put(tenantId, docId);
+
+        for (String key : prefixKeys(normalized, tenantId)) {
+            prefixes.put(key, docId);
+        }
+        for (int gram : grams) {
+            trigrams.computeIfAbsent(gram, g -> new IntList()).add(docId);
+        }
+    }
+
+    private void unindex(int docId) {
+        Entry entry = docs.get(docId);
+        for (String key : prefixKeys(entry.normalized(), entry.tenantId())) {
+            prefixes.remove(key);
+        }
+        for (int gram : trigramsOf(entry.normalized())) {
+            IntList postings = trigrams.get(gram);
+            if (postings != null && postings.remove(docId) && postings.size == 0) {
+                trigrams.remove(gram);
+            }
+        }
+        docIdsByTenant.remove(entry.tenantId());
+        docs.set(docId, null);
+        freeDocIds.add(docId);
+    }
+
+    private static List<String> prefixKeys(String normalized, String tenantId) {
+        // O ID do Tenant no fim da chave permite nomes iguais em Tenants diferentes e os ordena pelo ID
+        String suffix = KEY_SEPARATOR + tenantId;
+        List<String> keys = new ArrayList<>(4);
+        keys.add(normalized + suffix);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            if (i + 1 < normalized.length()) {
+                keys.add(normalized.substring(i + 1) + suffix);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Trigramas distintos do texto, com dois espaços no início para valorizar o começo das palavras.
+     * Cada trigrama é empacotado em um int (os caracteres de nomes normalizados cabem em 10 bits).
+     */
+    private static int[] trigramsOf(String normalized) {
+        String padded = "  " + normalized + " ";
+        int[] grams = new int[Math.max(padded.length() - 2, 0)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (padded.charAt(i) & 0x3FF) << 20 | (padded.charAt(i + 1) & 0x3FF) << 10 | (padded.charAt(i + 2) & 0x3FF);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private record Entry(String tenantId, String name, String normalized, int trigramCount) {
+    }
+
+    /**
+     * Lista de ints sem boxing, usada nas listas invertidas.
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        boolean remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.port.out.AuditPort;
+import com.plataforma.tenant_service.domain.port.out.TenantPurgePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remove em segundo plano os dados dos Tenants excluídos e, por fim, o próprio documento do Tenant.
+ *
+ * Cada execução agendada remove no máximo um lote ({@code batch-size} documentos), então a vazão fica
+ * limitada a {@code batch-size} documentos por {@code interval-ms} em cada réplica e o agendador,
+ * compartilhado com outras tarefas, nunca fica ocupado por muito tempo. Sem Tenants a limpar, a fila
+ * só é consultada de novo depois de {@code idle-interval-ms}.
+ *
+ * Cada Tenant é reservado por uma réplica de cada vez; se ela cair, a reserva expira e outra réplica
+ * continua a limpeza a partir do que ainda resta no banco.
+ */
+@Service
+public class TenantPurgeServiceImpl {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantPurgeServiceImpl.class);
+
+    private final TenantPurgePort purgePort;
+    private final AuditPort auditPort;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long idleIntervalMs;
+    private final Duration claimTimeout;
+
+    // Tenant em limpeza nesta réplica; acessado apenas pela thread do agendador
+    private String current;
+    private long purgedDocuments;
+    private long idleUntil;
+
+    public TenantPurgeServiceImpl(TenantPurgePort purgePort,
+                                  AuditPort auditPort,
+                                  @Value("${plataforma.tenant-purge.enabled:true}") boolean enabled,
+                                  @Value("${plataforma.tenant-purge.batch-size:500}") int batchSize,
+                                  @Value("${plataforma.tenant-purge.idle-interval-ms:30000}") long idleIntervalMs,
+                                  @Value("${plataforma.tenant-purge.claim-timeout-ms:300000}") long claimTimeoutMs) {
+        this.purgePort = purgePort;
+        this.auditPort = auditPort;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.idleIntervalMs = idleIntervalMs;
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMs);
+    }
+
+    @Scheduled(fixedDelayString = "${plataforma.tenant-purge.interval-ms:200}")
+    public void purgeNextBatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (current == null && !claimNext()) {
+                return;
+            }
+            // Prorroga a reserva e confirma que o Tenant continua excluído antes de remover mais dados
+            if (!purgePort.renewClaim(current, claimTimeout)) {
+                log.info("Tenant {} não está mais marcado como excluído. Limpeza interrompida.", current);
+                current = null;
+                return;
+            }
+
+            int deleted = purgePort.deleteDataBatch(current, batchSize);
+            if (deleted > 0) {
+                purgedDocuments += deleted;
+                log.debug("Limpeza do tenant {}: {} documentos removidos neste lote.", current, deleted);
+                return;
+            }
+
+            if (purgePort.deleteTenant(current)) {
+                auditPort.record("TENANT_PURGED", "tenant", current, Map.of("documents", String.valueOf(purgedDocuments)));
+                log.info("Limpeza do tenant {} concluída: {} documentos removidos.", current, purgedDocuments);
+            }
+            current = null;
+        } catch (Exception e) {
+            // Mantém a reserva: a próxima execução tenta o mesmo lote de novo
+            log.warn("Falha na limpeza do tenant {}: {}", current, e.getMessage());
+        }
+    }
+
+    private boolean claimNext() {
+        if (System.currentTimeMillis() < idleUntil) {
+            return false;
+        }
+        Optional<String> claimed = purgePort.claimNextDeleted(claimTimeout);
+        if (claimed.isEmpty()) {
+            idleUntil = System.currentTimeMillis() + idleIntervalMs;
+            return false;
+        }
+        current = claimed.get();
+        purgedDocuments = 0;
+        log.info("Iniciando a limpeza dos dados do tenant excluído {}.", current);
+        return true;
+    }
+}
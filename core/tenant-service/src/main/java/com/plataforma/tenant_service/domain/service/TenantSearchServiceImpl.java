@@ -0,0 +1,98 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.exception.TenantChangeCursorExpiredException;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+import com.plataforma.tenant_service.domain.model.TenantSearchHit;
+import com.plataforma.tenant_service.domain.model.TenantSearchPage;
+import com.plataforma.tenant_service.domain.port.in.TenantSearchUseCase;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeFeedPort;
+import com.plataforma.tenant_service.domain.port.out.TenantRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Mantém o {@link TenantNameIndex} e responde às buscas por nome.
+ *
+ * O índice é montado na primeira execução percorrendo a coleção com um cursor e, depois, atualizado
+ * seguindo o feed de alterações. Assim ele também reflete as escritas feitas por outras réplicas.
+ * Uma reconstrução monta um índice novo e só então o troca pelo atual, sem bloquear as buscas.
+ */
+@Service
+@RequiredArgsConstructor
+public class TenantSearchServiceImpl implements TenantSearchUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantSearchServiceImpl.class);
+
+    private static final int CHANGES_PAGE_SIZE = 1000;
+
+    private final TenantRepositoryPort tenantRepositoryPort;
+    private final TenantChangeFeedPort changeFeed;
+
+    private volatile TenantNameIndex index;
+    private long cursor;
+
+    @Override
+    public TenantSearchPage search(String query, int page, int size) {
+        TenantNameIndex current = index;
+        if (current == null) {
+            log.warn("Busca de tenants recebida antes da carga do índice. Retornando resultado vazio.");
+            return new TenantSearchPage(List.of(), page, size, false);
+        }
+
+        // Busca um resultado a mais que a página para saber se existe a próxima
+        int offset = page * size;
+        List<TenantSearchHit> hits = current.search(query, offset + size + 1);
+        boolean hasMore = hits.size() > offset + size;
+        List<TenantSearchHit> pageHits = hits.subList(Math.min(offset, hits.size()), Math.min(offset + size, hits.size()));
+        return new TenantSearchPage(List.copyOf(pageHits), page, size, hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${plataforma.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            if (index == null) {
+                rebuild();
+            } else {
+                applyChanges();
+            }
+        } catch (TenantChangeCursorExpiredException e) {
+            log.warn("Cursor do índice de busca expirou. Reconstruindo o índice.");
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Falha ao atualizar o índice de busca de tenants: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        // A sequência é lida antes da carga: alterações durante a leitura são reaplicadas depois, sem perda
+        long latestSequence = changeFeed.currentCursor();
+        TenantNameIndex newIndex = new TenantNameIndex();
+        tenantRepositoryPort.forEachName(tenant -> newIndex.put(tenant.getId(), tenant.getName()));
+
+        cursor = latestSequence;
+        index = newIndex;
+        log.info("Índice de busca de tenants carregado: {} tenants em {} ms.", newIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    private void applyChanges() {
+        TenantChangePage page;
+        do {
+            page = changeFeed.getChanges(cursor, CHANGES_PAGE_SIZE);
+            for (TenantChangeEvent event : page.events()) {
+                if (event.getType() == TenantChangeEvent.ChangeType.DELETED || event.getTenant() == null) {
+                    index.remove(event.getTenantId());
+                } else {
+                    index.put(event.getTenantId(), event.getTenant().getName());
+                }
+            }
+            cursor = page.nextCursor();
+        } while (page.events().size() == CHANGES_PAGE_SIZE);
+    }
+}
@@ -2,19 +2,31 @@ package com.plataforma.tenant_service.domain.service;
 
 import com.plataforma.tenant_service.domain.exception.TenantIllegalArgumentRequestException;
 import com.plataforma.tenant_service.domain.exception.TenantNotFoundException;
+import com.plataforma.tenant_service.domain.exception.TenantVersionMismatchException;
 import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantLookupResult;
 import com.plataforma.tenant_service.domain.port.in.TenantUseCase;
+import com.plataforma.tenant_service.domain.port.out.AuditPort;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeFeedPort;
 import com.plataforma.tenant_service.domain.port.out.TenantRepositoryPort;
+import com.plataforma.tenant_service.domain.port.out.TransactionPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +35,9 @@ public class TenantServiceImpl implements TenantUseCase {
     private static final Logger log = LoggerFactory.getLogger(TenantServiceImpl.class);
 
     private final TenantRepositoryPort tenantRepositoryPort;
+    private final TenantChangeFeedPort changeFeed;
+    private final TransactionPort transactionPort;
+    private final AuditPort auditPort;
 
     @Override
     public Tenant createTenant(Tenant tenant) {
@@ -43,7 +58,14 @@ public class TenantServiceImpl implements TenantUseCase {
         }
 
         log.debug("Tenant pré-processado, pronto para salvar. Chamando a porta de persistência.");
-        Tenant savedTenant = tenantRepositoryPort.save(tenant);
+        // O Tenant e o evento do feed são gravados juntos (outbox)
+        Tenant savedTenant = transactionPort.inTransaction(() -> {
+            // Grava uma cópia: se a transação for repetida, o ID e a versão da tentativa desfeita não são reaproveitados
+            Tenant saved = tenantRepositoryPort.save(tenant.toBuilder().build());
+            changeFeed.record(TenantChangeEvent.ChangeType.CREATED, saved.getId(), saved);
+            return saved;
+        });
+        auditPort.record("TENANT_CREATED", "tenant", savedTenant.getId(), Map.of("name", savedTenant.getName()));
 
         log.info("Tenant '{}' (ID: {}) persistido com sucesso no banco de dados.", savedTenant.getName(), savedTenant.getId());
         return savedTenant;
@@ -68,21 +90,67 @@ public class TenantServiceImpl implements TenantUseCase {
     }
 
     @Override
-    public void deleteTenant(String id) {
+    public long getTenantVersion(String id) {
+        log.debug("Chamando a porta de persistência para buscar a versão do tenant pelo ID: {}", id);
+        return tenantRepositoryPort.findVersionById(id)
+                .orElseThrow(() -> new TenantNotFoundException("Tenant não encontrado com o id: " + id));
+    }
+
+    @Override
+    public TenantLookupResult getTenantsByIds(List<String> ids) {
+        // Remove duplicados preservando a ordem em que os IDs foram solicitados
+        Set<String> requestedIds = new LinkedHashSet<>(ids);
+        log.debug("Chamando a porta de persistência para buscar {} tenants em lote.", requestedIds.size());
+
+        Map<String, Tenant> tenantsById = tenantRepositoryPort.findAllByIds(requestedIds).stream()
+                .collect(Collectors.toMap(Tenant::getId, Function.identity()));
+
+        List<Tenant> tenants = new ArrayList<>(tenantsById.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : requestedIds) {
+            Tenant tenant = tenantsById.get(id);
+            if (tenant != null) {
+                tenants.add(tenant);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            log.debug("{} IDs solicitados não foram encontrados: {}", missingIds.size(), missingIds);
+        }
+        return new TenantLookupResult(tenants, missingIds);
+    }
+
+    @Override
+    public void deleteTenant(String id, Long expectedVersion) {
         log.warn("Iniciando operação de deleção para o tenant com ID: {}. Esta é uma ação destrutiva.", id);
 
-        // Verificação de existência antes de deletar para um log mais preciso
-        if (tenantRepositoryPort.findById(id).isEmpty()) {
-            log.warn("Tentativa de deletar um tenant que não existe. ID: {}", id);
-            throw new TenantNotFoundException("Tenant não encontrado com o id: " + id);
+        // Exclusão lógica em uma única atualização; os dados são removidos depois pelo TenantPurgeServiceImpl
+        boolean marked = transactionPort.inTransaction(() -> {
+            boolean deleted = tenantRepositoryPort.markDeleted(id, expectedVersion, LocalDateTime.now());
+            if (deleted) {
+                changeFeed.record(TenantChangeEvent.ChangeType.DELETED, id, null);
+            }
+            return deleted;
+        });
+        if (!marked) {
+            // Só consulta o motivo quando a marcação falha: Tenant inexistente ou versão divergente
+            Optional<Long> currentVersion = tenantRepositoryPort.findVersionById(id);
+            if (currentVersion.isEmpty()) {
+                log.warn("Tentativa de deletar um tenant que não existe. ID: {}", id);
+                throw new TenantNotFoundException("Tenant não encontrado com o id: " + id);
+            }
+            log.warn("Versão do tenant '{}' divergente. Esperada: {}, atual: {}", id, expectedVersion, currentVersion.get());
+            throw new TenantVersionMismatchException("O tenant " + id + " foi alterado por outra requisição. Versão atual: " + currentVersion.get());
         }
 
-        tenantRepositoryPort.deleteById(id);
-        log.info("Tenant com ID: {} deletado com sucesso da base de dados.", id);
+        auditPort.record("TENANT_DELETED", "tenant", id, Map.of());
+        log.info("Tenant com ID: {} marcado como excluído; os dados serão removidos em segundo plano.", id);
     }
 
     @Override
-    public Tenant addModuleToTenant(String tenantId, String moduleName) {
+    public Tenant addModuleToTenant(String tenantId, String moduleName, Long expectedVersion) {
         log.debug("Iniciando lógica para adicionar módulo '{}' ao tenant '{}'", moduleName, tenantId);
 
         Tenant tenant = tenantRepositoryPort.findById(tenantId)
@@ -91,6 +159,7 @@ public class TenantServiceImpl implements TenantUseCase {
                     log.error("Falha ao tentar adicionar módulo: Tenant com ID '{}' não foi encontrado.", tenantId);
                     return new TenantNotFoundException("Tenant não encontrado com o id: " + tenantId);
                 });
+        checkVersion(tenant, expectedVersion);
 
         Set<String> modules = tenant.getSubscribedModules();
         if (modules.contains(moduleName)) {
@@ -104,9 +173,33 @@ public class TenantServiceImpl implements TenantUseCase {
         tenant.setUpdatedAt(LocalDateTime.now());
 
         log.debug("Tenant '{}' atualizado em memória. Chamando a porta de persistência.", tenant.getName());
-        Tenant updatedTenant = tenantRepositoryPort.save(tenant);
+        Tenant updatedTenant;
+        try {
+            updatedTenant = transactionPort.inTransaction(() -> {
+                // Grava uma cópia: se a transação for repetida, a versão incrementada na tentativa desfeita não é reaproveitada
+                Tenant saved = tenantRepositoryPort.save(tenant.toBuilder().build());
+                changeFeed.record(TenantChangeEvent.ChangeType.UPDATED, saved.getId(), saved);
+                return saved;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            // Outra escrita entre a leitura e a gravação: numa requisição condicional a versão esperada
+            // deixou de ser a atual, o mesmo caso do If-Match divergente
+            if (expectedVersion == null) {
+                throw e;
+            }
+            log.warn("Tenant '{}' alterado por outra requisição durante a gravação. Versão esperada: {}", tenantId, expectedVersion);
+            throw new TenantVersionMismatchException("O tenant " + tenantId + " foi alterado por outra requisição.");
+        }
+        auditPort.record("TENANT_MODULE_ADDED", "tenant", updatedTenant.getId(), Map.of("module", moduleName));
 
         log.info("Módulo '{}' adicionado com sucesso ao tenant '{}' (ID: {})", moduleName, updatedTenant.getName(), updatedTenant.getId());
         return updatedTenant;
     }
+
+    private void checkVersion(Tenant tenant, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(tenant.getVersion())) {
+            log.warn("Versão do tenant '{}' divergente. Esperada: {}, atual: {}", tenant.getId(), expectedVersion, tenant.getVersion());
+            throw new TenantVersionMismatchException("O tenant " + tenant.getId() + " foi alterado por outra requisição. Versão atual: " + tenant.getVersion());
+        }
+    }
 }
\ No newline at end of file
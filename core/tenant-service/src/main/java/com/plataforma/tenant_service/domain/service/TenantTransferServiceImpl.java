@@ -0,0 +1,66 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.exception.TenantIllegalArgumentRequestException;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.port.in.TenantTransferUseCase;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeFeedPort;
+import com.plataforma.tenant_service.domain.port.out.TenantRepositoryPort;
+import com.plataforma.tenant_service.domain.port.out.TransactionPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class TenantTransferServiceImpl implements TenantTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantTransferServiceImpl.class);
+
+    private final TenantRepositoryPort tenantRepositoryPort;
+    private final TenantChangeFeedPort changeFeed;
+    private final TransactionPort transactionPort;
+
+    @Override
+    public long exportTenants(Consumer<Tenant> sink) {
+        log.info("Iniciando exportação de tenants.");
+        AtomicLong exported = new AtomicLong();
+        tenantRepositoryPort.forEachTenant(tenant -> {
+            sink.accept(tenant);
+            exported.incrementAndGet();
+        });
+        log.info("Exportação finalizada: {} tenants.", exported.get());
+        return exported.get();
+    }
+
+    @Override
+    public int importTenants(List<Tenant> tenants) {
+        for (Tenant tenant : tenants) {
+            if (tenant.getId() == null || tenant.getName() == null) {
+                throw new TenantIllegalArgumentRequestException("Tenant sem 'id' ou 'name' no arquivo de importação.");
+            }
+        }
+        // Um Tenant excluído na origem não é importado
+        List<Tenant> live = tenants.stream()
+                .filter(tenant -> tenant.getDeletedAt() == null && tenant.getStatus() != Tenant.TenantStatus.DELETED)
+                .toList();
+
+        // Consumidores do feed (Gateway, índice de busca) recebem os Tenants importados como atualizações,
+        // gravadas na mesma transação do bloco
+        List<Tenant> written = transactionPort.inTransaction(() -> {
+            List<Tenant> upserted = tenantRepositoryPort.upsertAll(live);
+            changeFeed.recordAll(TenantChangeEvent.ChangeType.UPDATED, upserted);
+            return upserted;
+        });
+        if (written.size() < tenants.size()) {
+            log.info("{} tenants excluídos ignorados no bloco importado.", tenants.size() - written.size());
+        }
+        log.debug("Bloco de {} tenants importado.", written.size());
+        return written.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.model.TenantUsage;
+import com.plataforma.tenant_service.domain.model.TenantUsageReport;
+import com.plataforma.tenant_service.domain.model.UsageDelta;
+import com.plataforma.tenant_service.domain.port.in.TenantUsageUseCase;
+import com.plataforma.tenant_service.domain.port.out.TenantUsagePort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class TenantUsageServiceImpl implements TenantUsageUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantUsageServiceImpl.class);
+
+    private final TenantUsagePort tenantUsagePort;
+
+    @Override
+    public boolean recordUsage(String batchId, List<UsageDelta> deltas) {
+        if (tenantUsagePort.isBatchApplied(batchId)) {
+            log.info("Lote de uso {} já aplicado anteriormente. Ignorando reenvio.", batchId);
+            return false;
+        }
+        // A soma é idempotente por registro: se falhar no meio, o erro chega ao Gateway, que reenvia o lote,
+        // e o reenvio soma só o que faltou. O lote só é marcado depois de somado por completo.
+        tenantUsagePort.increment(batchId, deltas);
+        tenantUsagePort.markBatchApplied(batchId);
+        log.debug("Lote de uso {} aplicado: {} contadores.", batchId, deltas.size());
+        return true;
+    }
+
+    @Override
+    public TenantUsageReport getUsage(String tenantId, Instant from, Instant to) {
+        log.debug("Buscando uso do tenant '{}' entre {} e {}.", tenantId, from, to);
+
+        long requests = 0;
+        long bytesIn = 0;
+        long bytesOut = 0;
+        Map<ModuleRoute, long[]> totalsByRoute = new LinkedHashMap<>();
+        for (TenantUsage usage : tenantUsagePort.findByTenant(tenantId, from, to)) {
+            requests += usage.getRequests();
+            bytesIn += usage.getBytesIn();
+            bytesOut += usage.getBytesOut();
+
+            long[] totals = totalsByRoute.computeIfAbsent(new ModuleRoute(usage.getModule(), usage.getRoute()), k -> new long[3]);
+            totals[0] += usage.getRequests();
+            totals[1] += usage.getBytesIn();
+            totals[2] += usage.getBytesOut();
+        }
+
+        List<TenantUsageReport.ModuleUsage> modules = new ArrayList<>(totalsByRoute.size());
+        totalsByRoute.forEach((key, totals) ->
+                modules.add(new TenantUsageReport.ModuleUsage(key.module(), key.route(), totals[0], totals[1], totals[2])));
+        return new TenantUsageReport(tenantId, from, to, requests, bytesIn, bytesOut, modules);
+    }
+
+    private record ModuleRoute(String module, String route) {
+    }
+}
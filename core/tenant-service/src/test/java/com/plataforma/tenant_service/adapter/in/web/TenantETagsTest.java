@@ -0,0 +1,75 @@
+package com.plataforma.tenant_service.adapter.in.web;
+
+import com.plataforma.tenant_service.domain.exception.TenantInvalidHeaderException;
+import com.plataforma.tenant_service.domain.model.Tenant;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantETagsTest {
+
+    @Test
+    void etagDoTenantEhAVersaoEntreAspas() {
+        assertThat(TenantETags.forTenant(7L)).isEqualTo("\"7\"");
+        // Documentos ainda sem versão valem como versão 0
+        assertThat(TenantETags.forTenant(null)).isEqualTo("\"0\"");
+    }
+
+    @Test
+    void etagDaListaTrataTenantsSemVersaoComoVersaoZero() {
+        String withoutVersion = TenantETags.forList(List.of(tenant("t1", 1L), tenant("t2", null)));
+
+        assertThat(withoutVersion).startsWith("\"l-").endsWith("\"");
+        assertThat(TenantETags.forList(List.of(tenant("t1", 1L), tenant("t2", 0L)))).isEqualTo(withoutVersion);
+    }
+
+    @Test
+    void etagDaListaMudaComAVersaoOuAOrdem() {
+        String base = TenantETags.forList(List.of(tenant("t1", 1L), tenant("t2", 1L)));
+
+        assertThat(TenantETags.forList(List.of(tenant("t1", 1L), tenant("t2", 2L)))).isNotEqualTo(base);
+        assertThat(TenantETags.forList(List.of(tenant("t2", 1L), tenant("t1", 1L)))).isNotEqualTo(base);
+    }
+
+    @Test
+    void ifNoneMatchUsaComparacaoFracaEListas() {
+        assertThat(TenantETags.matches(null, "\"3\"")).isFalse();
+        assertThat(TenantETags.matches("\"3\"", "\"3\"")).isTrue();
+        assertThat(TenantETags.matches("W/\"3\"", "\"3\"")).isTrue();
+        assertThat(TenantETags.matches("\"1\", \"3\"", "\"3\"")).isTrue();
+        assertThat(TenantETags.matches("*", "\"3\"")).isTrue();
+        assertThat(TenantETags.matches("\"2\"", "\"3\"")).isFalse();
+    }
+
+    @Test
+    void ifMatchAusenteOuCuringaNaoExigeVersao() {
+        assertThat(TenantETags.parseIfMatch(null)).isNull();
+        assertThat(TenantETags.parseIfMatch(" ")).isNull();
+        assertThat(TenantETags.parseIfMatch("*")).isNull();
+    }
+
+    @Test
+    void ifMatchExtraiAVersao() {
+        assertThat(TenantETags.parseIfMatch("\"5\"")).isEqualTo(5L);
+        assertThat(TenantETags.parseIfMatch("W/\"5\"")).isEqualTo(5L);
+        assertThat(TenantETags.parseIfMatch(" 5 ")).isEqualTo(5L);
+    }
+
+    @Test
+    void ifMatchMalformadoEhRequisicaoInvalida() {
+        assertThatThrownBy(() -> TenantETags.parseIfMatch("\"abc\""))
+                .isInstanceOf(TenantInvalidHeaderException.class);
+        assertThatThrownBy(() -> TenantETags.parseIfMatch("\"l-0123\""))
+                .isInstanceOf(TenantInvalidHeaderException.class);
+    }
+
+    private static Tenant tenant(String id, Long version) {
+        Tenant tenant = new Tenant();
+        tenant.setId(id);
+        tenant.setVersion(version);
+        return tenant;
+    }
+}
@@ -0,0 +1,174 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.exception.TenantChangeCursorExpiredException;
+import com.plataforma.tenant_service.domain.model.TenantChangeEvent;
+import com.plataforma.tenant_service.domain.model.TenantChangePage;
+import com.plataforma.tenant_service.domain.port.out.TenantChangeLogPort;
+import com.plataforma.tenant_service.domain.port.out.TransactionPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantChangeFeedServiceImplTest {
+
+    private static final long GAP_TIMEOUT_MS = 60_000;
+
+    private final InMemoryChangeLog changeLog = new InMemoryChangeLog();
+    private final TenantChangeFeedServiceImpl feed =
+            new TenantChangeFeedServiceImpl(changeLog, new NoTransaction(), GAP_TIMEOUT_MS, 1);
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void entregaEventosConsecutivos() {
+        changeLog.put(1, Instant.now());
+        changeLog.put(2, Instant.now());
+
+        TenantChangePage page = feed.getChanges(0, 10);
+
+        assertThat(page.events()).extracting(TenantChangeEvent::getSequence).containsExactly(1L, 2L);
+        assertThat(page.nextCursor()).isEqualTo(2);
+    }
+
+    @Test
+    void paraNaPrimeiraLacunaRecente() {
+        changeLog.put(1, Instant.now());
+        changeLog.put(3, Instant.now());
+
+        TenantChangePage page = feed.getChanges(0, 10);
+
+        assertThat(page.events()).extracting(TenantChangeEvent::getSequence).containsExactly(1L);
+        assertThat(page.nextCursor()).isEqualTo(1);
+
+        // A gravação da sequência 2 terminou
+        changeLog.put(2, Instant.now());
+        assertThat(feed.getChanges(1, 10).events()).extracting(TenantChangeEvent::getSequence).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void ignoraLacunaMaisAntigaQueOLimite() {
+        Instant old = Instant.now().minusMillis(GAP_TIMEOUT_MS + 1_000);
+        changeLog.put(1, old);
+        changeLog.put(3, old);
+        changeLog.put(5, Instant.now());
+
+        TenantChangePage page = feed.getChanges(0, 10);
+
+        assertThat(page.events()).extracting(TenantChangeEvent::getSequence).containsExactly(1L, 3L);
+        assertThat(page.nextCursor()).isEqualTo(3);
+    }
+
+    @Test
+    void cursorForaDaRetencaoExpira() {
+        changeLog.put(50, Instant.now().minusMillis(GAP_TIMEOUT_MS + 1_000));
+
+        assertThatThrownBy(() -> feed.getChanges(10, 10)).isInstanceOf(TenantChangeCursorExpiredException.class);
+    }
+
+    @Test
+    void cursorAtualDaCargaCompletaFicaAntesDosEventosRecentes() {
+        Instant old = Instant.now().minusMillis(GAP_TIMEOUT_MS + 1_000);
+        changeLog.put(1, old);
+        changeLog.put(2, old);
+        changeLog.put(3, Instant.now());
+
+        assertThat(feed.currentCursor()).isEqualTo(2);
+    }
+
+    @Test
+    void longPollRetornaQuandoUmEventoEGravado() throws Exception {
+        CompletableFuture<TenantChangePage> pending = feed.awaitChanges(0, 10, Duration.ofSeconds(10));
+        assertThat(pending).isNotDone();
+
+        feed.record(TenantChangeEvent.ChangeType.DELETED, "t1", null);
+
+        TenantChangePage page = pending.get(5, TimeUnit.SECONDS);
+        assertThat(page.events()).extracting(TenantChangeEvent::getTenantId).containsExactly("t1");
+    }
+
+    @Test
+    void longPollRetornaVazioAoFimDaEspera() throws Exception {
+        TenantChangePage page = feed.awaitChanges(0, 10, Duration.ofMillis(100)).get(5, TimeUnit.SECONDS);
+
+        assertThat(page.events()).isEmpty();
+        assertThat(page.nextCursor()).isZero();
+    }
+
+    private static final class NoTransaction implements TransactionPort {
+
+        @Override
+        public <T> T inTransaction(Supplier<T> operation) {
+            return operation.get();
+        }
+
+        @Override
+        public void inTransaction(Runnable operation) {
+            operation.run();
+        }
+
+        @Override
+        public void afterCommit(Runnable action) {
+            action.run();
+        }
+    }
+
+    private static final class InMemoryChangeLog implements TenantChangeLogPort {
+
+        private final TreeMap<Long, TenantChangeEvent> events = new TreeMap<>();
+
+        void put(long sequence, Instant occurredAt) {
+            events.put(sequence, TenantChangeEvent.builder()
+                    .sequence(sequence)
+                    .tenantId("t" + sequence)
+                    .type(TenantChangeEvent.ChangeType.UPDATED)
+                    .occurredAt(occurredAt)
+                    .build());
+        }
+
+        @Override
+        public synchronized TenantChangeEvent append(TenantChangeEvent event) {
+            long sequence = events.isEmpty() ? 1 : events.lastKey() + 1;
+            event.setSequence(sequence);
+            events.put(sequence, event);
+            return event;
+        }
+
+        @Override
+        public synchronized void appendAll(List<TenantChangeEvent> batch) {
+            batch.forEach(this::append);
+        }
+
+        @Override
+        public synchronized List<TenantChangeEvent> findAfter(long sequence, int limit) {
+            return events.tailMap(sequence, false).values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public synchronized Optional<Long> findOldestSequence() {
+            return events.isEmpty() ? Optional.empty() : Optional.of(events.firstKey());
+        }
+
+        @Override
+        public synchronized long findLatestSequence(Instant occurredBefore) {
+            return events.descendingMap().values().stream()
+                    .filter(event -> event.getOccurredAt().isBefore(occurredBefore))
+                    .mapToLong(TenantChangeEvent::getSequence)
+                    .findFirst()
+                    .orElse(0L);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.plataforma.tenant_service.domain.service;
+
+import com.plataforma.tenant_service.domain.model.TenantSearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantNameIndexTest {
+
+    private final TenantNameIndex index = new TenantNameIndex();
+
+    @Test
+    void encontraPeloInicioDeQualquerPalavra() {
+        index.put("t1", "Oficina do Zé");
+
+        assertThat(ids(index.search("ofi", 10))).containsExactly("t1");
+        assertThat(ids(index.search("do z", 10))).containsExactly("t1");
+        assertThat(index.search("ze", 10)).containsExactly(new TenantSearchHit("t1", "Oficina do Zé", 1.0));
+    }
+
+    @Test
+    void ignoraAcentosMaiusculasEEspacos() {
+        index.put("t1", "Clínica  São João");
+
+        assertThat(ids(index.search("CLINICA SAO", 10))).containsExactly("t1");
+        assertThat(ids(index.search("  joão ", 10))).containsExactly("t1");
+        assertThat(TenantNameIndex.normalize(" Árvore   Ñandu ")).isEqualTo("arvore nandu");
+    }
+
+    @Test
+    void renomearSubstituiONomeAntigo() {
+        index.put("t1", "Oficina do Zé");
+        index.put("t1", "Padaria Central");
+
+        assertThat(index.search("oficina", 10)).isEmpty();
+        assertThat(index.search("padaria", 10)).containsExactly(new TenantSearchHit("t1", "Padaria Central", 1.0));
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removerTiraOTenantDeTodasAsBuscas() {
+        index.put("t1", "Oficina do Zé");
+        index.put("t2", "Oficina Central");
+
+        index.remove("t1");
+        index.remove("desconhecido");
+
+        assertThat(ids(index.search("oficina", 10))).containsExactly("t2");
+        assertThat(index.search("ze", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void nomeNuloRemoveOTenant() {
+        index.put("t1", "Oficina do Zé");
+
+        index.put("t1", null);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.search("oficina", 10)).isEmpty();
+    }
+
+    @Test
+    void nomesIguaisEmTenantsDiferentesSaemNaOrdemDoId() {
+        index.put("t2", "Oficina Central");
+        index.put("t1", "Oficina Central");
+
+        assertThat(ids(index.search("oficina", 10))).containsExactly("t1", "t2");
+        assertThat(ids(index.search("central", 10))).containsExactly("t1", "t2");
+
+        index.remove("t1");
+        assertThat(ids(index.search("oficina", 10))).containsExactly("t2");
+    }
+
+    @Test
+    void buscaAproximadaToleraErrosDeDigitacao() {
+        index.put("t1", "Oficina do Zé");
+        index.put("t2", "Padaria Central");
+
+        List<TenantSearchHit> hits = index.search("oficna", 10);
+
+        assertThat(ids(hits)).containsExactly("t1");
+        assertThat(hits.get(0).score()).isBetween(0.3, 1.0).isLessThan(1.0);
+    }
+
+    @Test
+    void empatesNaBuscaAproximadaSaemNaOrdemDoId() {
+        index.put("t-c", "Mecânica Rápida");
+        index.put("t-a", "Mecanica Rapida");
+        index.put("t-b", "Mecânica Rápida");
+
+        List<TenantSearchHit> hits = index.search("mecanica rapda", 10);
+
+        assertThat(ids(hits)).containsExactly("t-a", "t-b", "t-c");
+        assertThat(hits).extracting(TenantSearchHit::score).containsOnly(hits.get(0).score());
+    }
+
+    @Test
+    void prefixoVemAntesDaBuscaAproximadaERespeitaOLimite() {
+        index.put("t1", "Oficina do Zé");
+        index.put("t2", "Oficinas Reunidas");
+        index.put("t3", "Ofcina Mecânica");
+
+        List<TenantSearchHit> hits = index.search("oficina", 10);
+
+        assertThat(ids(hits)).startsWith("t1", "t2").contains("t3");
+        assertThat(hits.get(0).score()).isEqualTo(1.0);
+        assertThat(hits.get(2).score()).isLessThan(1.0);
+        assertThat(index.search("oficina", 1)).hasSize(1);
+    }
+
+    @Test
+    void consultaVaziaOuLimiteZeroNaoRetornaNada() {
+        index.put("t1", "Oficina do Zé");
+
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("oficina", 0)).isEmpty();
+    }
+
+    private static List<String> ids(List<TenantSearchHit> hits) {
+        return hits.stream().map(TenantSearchHit::id).toList();
+    }
+}
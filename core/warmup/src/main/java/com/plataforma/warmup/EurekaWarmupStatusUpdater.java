@@ -0,0 +1,34 @@
+package com.plataforma.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Marca a instância como UP no Eureka ao fim do aquecimento. A mudança de status é replicada na hora,
+ * sem esperar o intervalo de replicação; até lá o Gateway não encaminha tráfego à instância, que está
+ * registrada como {@code STARTING}.
+ */
+class EurekaWarmupStatusUpdater implements ApplicationListener<WarmupFinishedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(EurekaWarmupStatusUpdater.class);
+
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    EurekaWarmupStatusUpdater(ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+        this.applicationInfoManager = applicationInfoManager;
+    }
+
+    @Override
+    public void onApplicationEvent(WarmupFinishedEvent event) {
+        applicationInfoManager.ifAvailable(manager -> {
+            if (manager.getInfo().getStatus() != InstanceInfo.InstanceStatus.UP) {
+                manager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+                log.info("Instância marcada como UP no Eureka após o aquecimento ({}).", event.getReport().status());
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.plataforma.warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Requisição sintética ({@code plataforma.warmup.requests}) enviada à própria instância pela porta local,
+ * passando por toda a pilha HTTP: servidor, filtros, segurança, controllers e serialização.
+ */
+class HttpWarmupTask implements WarmupTask {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WarmupProperties.Request request;
+    private final HttpClient client;
+    private final Supplier<String> baseUrl;
+
+    HttpWarmupTask(WarmupProperties.Request request, HttpClient client, Supplier<String> baseUrl) {
+        if (request.getName() == null || request.getPath() == null) {
+            throw new IllegalArgumentException("Requisição de aquecimento sem 'name' ou 'path'.");
+        }
+        this.request = request;
+        this.client = client;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public String name() {
+        return request.getName();
+    }
+
+    @Override
+    public void run(int iteration) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl.get() + request.getPath()))
+                .timeout(REQUEST_TIMEOUT)
+                .method(request.getMethod(), request.getBody() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(request.getBody()));
+        request.getHeaders().forEach(builder::header);
+
+        HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (!request.getExpectedStatus().contains(response.statusCode())) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " em " + request.getMethod() + " " + request.getPath());
+        }
+    }
+}
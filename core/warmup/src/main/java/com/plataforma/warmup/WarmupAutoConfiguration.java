@@ -0,0 +1,68 @@
+package com.plataforma.warmup;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração automática do aquecimento.
+ *
+ * <ul>
+ *     <li>{@link WarmupRunner} com as tarefas registradas como beans ({@link WarmupTask}) seguidas das
+ *     requisições de {@code plataforma.warmup.requests};</li>
+ *     <li>endpoint {@code /actuator/warmup} e componente {@code warmup} do health;</li>
+ *     <li>com o cliente do Eureka, a instância passa a UP ao fim do aquecimento.</li>
+ * </ul>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupAutoConfiguration {
+
+    @Bean
+    public WarmupRunner warmupRunner(WarmupProperties properties, ObjectProvider<WarmupTask> taskBeans,
+                                     Environment environment, ApplicationEventPublisher publisher) {
+        List<WarmupTask> tasks = new ArrayList<>(taskBeans.orderedStream().toList());
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        // A porta só é conhecida depois que o servidor web sobe, antes da execução dos runners
+        for (WarmupProperties.Request request : properties.getRequests()) {
+            tasks.add(new HttpWarmupTask(request, client,
+                    () -> "http://127.0.0.1:" + environment.getRequiredProperty("local.server.port")));
+        }
+        return new WarmupRunner(properties, tasks, publisher);
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public WarmupEndpoint warmupEndpoint(WarmupRunner runner) {
+        return new WarmupEndpoint(runner);
+    }
+
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("warmup")
+    public WarmupHealthIndicator warmupHealthIndicator(WarmupRunner runner) {
+        return new WarmupHealthIndicator(runner);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.netflix.appinfo.ApplicationInfoManager")
+    static class EurekaStatusConfiguration {
+
+        @Bean
+        EurekaWarmupStatusUpdater eurekaWarmupStatusUpdater(ObjectProvider<ApplicationInfoManager> applicationInfoManager) {
+            return new EurekaWarmupStatusUpdater(applicationInfoManager);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.plataforma.warmup;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@code /actuator/warmup}: situação, duração e resultado de cada tarefa do aquecimento.
+ */
+@Endpoint(id = "warmup")
+public class WarmupEndpoint {
+
+    private final WarmupRunner runner;
+
+    public WarmupEndpoint(WarmupRunner runner) {
+        this.runner = runner;
+    }
+
+    @ReadOperation
+    public WarmupReport report() {
+        return runner.getReport();
+    }
+}
@@ -0,0 +1,21 @@
+package com.plataforma.warmup;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Publicado ao fim do aquecimento (inclusive quando desligado ou com tempo esgotado), antes de a aplicação
+ * ficar pronta para receber tráfego.
+ */
+public class WarmupFinishedEvent extends ApplicationEvent {
+
+    private final WarmupReport report;
+
+    public WarmupFinishedEvent(Object source, WarmupReport report) {
+        super(source);
+        this.report = report;
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,27 @@
+package com.plataforma.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Componente {@code warmup} do {@code /actuator/health}: {@code OUT_OF_SERVICE} enquanto o aquecimento não
+ * termina e {@code UP} depois, com o resultado nos detalhes.
+ */
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner runner;
+
+    public WarmupHealthIndicator(WarmupRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    public Health health() {
+        WarmupReport report = runner.getReport();
+        Health.Builder builder = report.finished() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("status", report.status())
+                .withDetail("durationMs", report.durationMs())
+                .build();
+    }
+}
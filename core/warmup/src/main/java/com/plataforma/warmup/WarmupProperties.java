@@ -0,0 +1,80 @@
+package com.plataforma.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração do aquecimento dos serviços ({@code plataforma.warmup.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "plataforma.warmup")
+public class WarmupProperties {
+
+    /**
+     * Executa o aquecimento antes de a instância ficar pronta. Desligado, a instância fica UP assim que sobe.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Execuções de cada tarefa, quando nem a tarefa nem {@link #tasks} definem outro valor.
+     */
+    private int iterations = 500;
+
+    /**
+     * Threads que executam cada tarefa em paralelo.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Tempo máximo do aquecimento. Ao atingi-lo as tarefas restantes são interrompidas e a instância fica pronta
+     * mesmo assim, com o resultado {@code TIMED_OUT}.
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+
+    /**
+     * Requisições HTTP sintéticas enviadas à própria instância, depois das tarefas registradas como beans.
+     */
+    private List<Request> requests = new ArrayList<>();
+
+    /**
+     * Ajustes por tarefa, pelo nome da tarefa ou da requisição.
+     */
+    private Map<String, Task> tasks = new HashMap<>();
+
+    @Data
+    public static class Request {
+
+        private String name;
+
+        private String method = "GET";
+
+        /**
+         * Caminho e query string na própria instância (ex.: {@code /api/v1/tenants/search?q=warmup}).
+         */
+        private String path;
+
+        private Map<String, String> headers = new LinkedHashMap<>();
+
+        private String body;
+
+        /**
+         * Status aceitos; qualquer outro conta como falha da execução.
+         */
+        private List<Integer> expectedStatus = new ArrayList<>(List.of(200));
+    }
+
+    @Data
+    public static class Task {
+
+        private boolean enabled = true;
+
+        private Integer iterations;
+    }
+}
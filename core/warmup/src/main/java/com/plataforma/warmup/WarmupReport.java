@@ -0,0 +1,32 @@
+package com.plataforma.warmup;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resultado do aquecimento, exposto em {@code /actuator/warmup}.
+ *
+ * @param durationMs duração até agora (em andamento) ou total (concluído).
+ */
+public record WarmupReport(Status status, Instant startedAt, long durationMs, List<TaskResult> tasks) {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, TIMED_OUT, DISABLED
+    }
+
+    /**
+     * @param iterations execuções concluídas, com ou sem erro.
+     * @param planned    execuções planejadas; menos concluídas que planejadas indica tempo esgotado.
+     * @param lastError  último erro da tarefa, ou {@code null}.
+     */
+    public record TaskResult(String name, int iterations, int planned, int failures, long durationMs, String lastError) {
+    }
+
+    static WarmupReport pending() {
+        return new WarmupReport(Status.PENDING, null, 0, List.of());
+    }
+
+    public boolean finished() {
+        return status != Status.PENDING && status != Status.RUNNING;
+    }
+}
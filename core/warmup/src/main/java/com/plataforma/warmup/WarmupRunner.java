@@ -0,0 +1,167 @@
+package com.plataforma.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executa as tarefas de aquecimento depois que o servidor web sobe e antes de a aplicação ficar pronta.
+ *
+ * Como {@link ApplicationRunner}, roda antes de o Spring Boot publicar o {@code ApplicationReadyEvent} e o
+ * estado {@code ACCEPTING_TRAFFIC}; a instância se registra no Eureka como {@code STARTING}
+ * ({@code eureka.instance.initial-status}) e só passa a UP com o {@link WarmupFinishedEvent}. Falhas e tempo
+ * esgotado não impedem a instância de ficar pronta: ficam registrados no {@link WarmupReport}.
+ */
+public class WarmupRunner implements ApplicationRunner, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final WarmupProperties properties;
+    private final List<WarmupTask> tasks;
+    private final ApplicationEventPublisher publisher;
+
+    private volatile WarmupReport report = WarmupReport.pending();
+
+    public WarmupRunner(WarmupProperties properties, List<WarmupTask> tasks, ApplicationEventPublisher publisher) {
+        this.properties = properties;
+        this.tasks = List.copyOf(tasks);
+        this.publisher = publisher;
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    @Override
+    public int getOrder() {
+        // Depois dos demais runners (ex.: importação/exportação em linha de comando, que encerram a aplicação)
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!properties.isEnabled()) {
+            finish(new WarmupReport(WarmupReport.Status.DISABLED, Instant.now(), 0, List.of()));
+            return;
+        }
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeout().toNanos();
+        List<WarmupReport.TaskResult> results = new ArrayList<>();
+        report = new WarmupReport(WarmupReport.Status.RUNNING, startedAt, 0, List.of());
+        log.info("Aquecimento iniciado: {} tarefas, até {}.", tasks.size(), properties.getTimeout());
+
+        int concurrency = Math.max(1, properties.getConcurrency());
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "warmup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean timedOut = false;
+        try {
+            for (WarmupTask task : tasks) {
+                WarmupProperties.Task settings = properties.getTasks().get(task.name());
+                if (settings != null && !settings.isEnabled()) {
+                    continue;
+                }
+                WarmupReport.TaskResult result = runTask(executor, concurrency, task, iterations(task, settings), deadline);
+                results.add(result);
+                report = new WarmupReport(WarmupReport.Status.RUNNING, startedAt, elapsedMs(start), List.copyOf(results));
+                if (result.iterations() < result.planned()) {
+                    timedOut = true;
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        WarmupReport.Status status = timedOut ? WarmupReport.Status.TIMED_OUT
+                : results.stream().anyMatch(result -> result.failures() > 0) ? WarmupReport.Status.COMPLETED_WITH_ERRORS
+                : WarmupReport.Status.COMPLETED;
+        finish(new WarmupReport(status, startedAt, elapsedMs(start), List.copyOf(results)));
+    }
+
+    private WarmupReport.TaskResult runTask(ExecutorService executor, int concurrency, WarmupTask task, int iterations,
+                                            long deadline) throws InterruptedException {
+        long start = System.nanoTime();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicReference<String> lastError = new AtomicReference<>();
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int worker = 0; worker < Math.min(concurrency, iterations); worker++) {
+            workers.add(executor.submit(() -> {
+                int iteration;
+                while ((iteration = next.getAndIncrement()) < iterations
+                        && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    try {
+                        task.run(iteration);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        lastError.set(e.toString());
+                    }
+                    completed.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            try {
+                worker.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                worker.cancel(true);
+            } catch (ExecutionException e) {
+                lastError.set(e.getCause().toString());
+            }
+        }
+
+        WarmupReport.TaskResult result = new WarmupReport.TaskResult(task.name(), completed.get(), iterations,
+                failures.get(), elapsedMs(start), lastError.get());
+        if (result.failures() > 0) {
+            log.warn("Aquecimento '{}': {} de {} execuções falharam. Último erro: {}",
+                    task.name(), result.failures(), result.iterations(), result.lastError());
+        } else {
+            log.debug("Aquecimento '{}': {} execuções em {} ms.", task.name(), result.iterations(), result.durationMs());
+        }
+        return result;
+    }
+
+    private int iterations(WarmupTask task, WarmupProperties.Task settings) {
+        if (settings != null && settings.getIterations() != null) {
+            return settings.getIterations();
+        }
+        return task.defaultIterations() != null ? task.defaultIterations() : properties.getIterations();
+    }
+
+    private void finish(WarmupReport finished) {
+        report = finished;
+        log.info("Aquecimento {} em {} ms.", finished.status(), finished.durationMs());
+        publisher.publishEvent(new WarmupFinishedEvent(this, finished));
+    }
+
+    private static long elapsedMs(long start) {
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+}
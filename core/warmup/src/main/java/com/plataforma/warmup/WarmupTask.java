@@ -0,0 +1,26 @@
+package com.plataforma.warmup;
+
+/**
+ * Uma etapa do aquecimento, executada várias vezes antes de a instância ficar pronta.
+ *
+ * Os serviços registram as suas tarefas como beans (ex.: validação de JWT, serialização JSON, carga de
+ * caches); a ordem segue {@link org.springframework.core.annotation.Order}. A execução pode ocorrer em
+ * várias threads ao mesmo tempo.
+ */
+public interface WarmupTask {
+
+    String name();
+
+    /**
+     * Execuções padrão desta tarefa, ou {@code null} para usar {@code plataforma.warmup.iterations}.
+     * Tarefas que só carregam um cache normalmente devolvem {@code 1}.
+     */
+    default Integer defaultIterations() {
+        return null;
+    }
+
+    /**
+     * @param iteration número da execução, a partir de zero.
+     */
+    void run(int iteration) throws Exception;
+}
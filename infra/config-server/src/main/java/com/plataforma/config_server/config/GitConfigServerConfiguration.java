@@ -0,0 +1,15 @@
+package com.plataforma.config_server.config;
+
+import org.springframework.cloud.config.server.EnableConfigServer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Modo padrão: Spring Cloud Config Server lendo o repositório Git {@code plataforma-config}.
+ * Com o perfil {@code local}, as configurações vêm de um diretório local (ver o pacote {@code local}).
+ */
+@Configuration
+@Profile("!local")
+@EnableConfigServer
+public class GitConfigServerConfiguration {
+}
@@ -0,0 +1,115 @@
+package com.plataforma.config_server.local;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Observa o diretório de configuração e recarrega o {@link LocalConfigRepository} quando um arquivo muda,
+ * notificando os serviços afetados.
+ *
+ * As alterações são agrupadas por {@code debounce}; além dos eventos do sistema de arquivos, o diretório é
+ * verificado a cada {@code poll-interval}, pois volumes montados nem sempre propagam as notificações.
+ * Uma recarga com erro (ex.: YAML inválido no meio de uma edição) mantém a versão anterior em memória.
+ */
+public class ConfigDirectoryWatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigDirectoryWatcher.class);
+
+    private final LocalConfigRepository repository;
+    private final RefreshNotifier notifier;
+    private final Duration debounce;
+    private final Duration pollInterval;
+
+    private volatile WatchService watchService;
+    private volatile Thread thread;
+
+    public ConfigDirectoryWatcher(LocalConfigRepository repository, RefreshNotifier notifier,
+                                  Duration debounce, Duration pollInterval) {
+        this.repository = repository;
+        this.notifier = notifier;
+        this.debounce = debounce;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            repository.getDirectory().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível observar " + repository.getDirectory(), e);
+        }
+        thread = new Thread(this::watch, "config-directory-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Observando alterações em {}", repository.getDirectory());
+    }
+
+    @Override
+    public void stop() {
+        Thread current = thread;
+        thread = null;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Falha ao fechar o WatchService", e);
+        }
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void watch() {
+        while (thread != null) {
+            try {
+                WatchKey key = watchService.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    // Agrupa as escritas de um mesmo salvamento/git pull antes de reler o diretório
+                    Thread.sleep(debounce.toMillis());
+                    key.pollEvents();
+                    key.reset();
+                    WatchKey pending;
+                    while ((pending = watchService.poll()) != null) {
+                        pending.pollEvents();
+                        pending.reset();
+                    }
+                }
+                reload();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
+
+    private void reload() {
+        Set<String> changed;
+        try {
+            changed = repository.reload();
+        } catch (RuntimeException e) {
+            log.error("Falha ao recarregar as configurações de {}; mantendo a versão anterior", repository.getDirectory(), e);
+            return;
+        }
+        if (!changed.isEmpty() && notifier != null) {
+            notifier.notifyChanged(changed);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.plataforma.config_server.local;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Endpoints do protocolo do Config Server ({@code /{application}/{profiles}[/{label}]}) servidos da memória.
+ *
+ * Cada resposta leva um ETag; um cliente que envia {@code If-None-Match} com o ETag atual recebe
+ * {@code 304 Not Modified} sem corpo.
+ */
+@RestController
+@Profile("local")
+public class LocalConfigController {
+
+    private static final MediaType CONFIG_SERVER_V2 = MediaType.parseMediaType("application/vnd.spring-cloud.config-server.v2+json");
+
+    private final LocalConfigRepository repository;
+
+    public LocalConfigController(LocalConfigRepository repository) {
+        this.repository = repository;
+    }
+
+    @GetMapping({"/{application}/{profiles}", "/{application}/{profiles}/{label}"})
+    public ResponseEntity<byte[]> environment(@PathVariable String application,
+                                              @PathVariable String profiles,
+                                              @PathVariable(required = false) String label,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                              WebRequest request) {
+        LocalConfigRepository.RenderedEnvironment environment = repository.find(application, profiles, label);
+        if (request.checkNotModified(environment.etag())) {
+            return null;
+        }
+
+        // O Config Client pede o formato v2; o corpo é o mesmo, só o Content-Type acompanha o pedido
+        MediaType contentType = accept != null && accept.contains(CONFIG_SERVER_V2.toString())
+                ? CONFIG_SERVER_V2
+                : MediaType.APPLICATION_JSON;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .eTag(environment.etag())
+                .body(environment.body());
+    }
+}
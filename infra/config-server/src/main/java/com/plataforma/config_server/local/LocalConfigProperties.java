@@ -0,0 +1,108 @@
+package com.plataforma.config_server.local;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configurações do modo local ({@code plataforma.config.local.*}), ativo com o perfil {@code local}.
+ */
+@ConfigurationProperties(prefix = "plataforma.config.local")
+public class LocalConfigProperties {
+
+    /**
+     * Diretório com os arquivos de configuração (um clone/espelho do {@code plataforma-config} ou um volume montado).
+     * Apenas os arquivos {@code .yml}, {@code .yaml} e {@code .properties} do nível raiz são lidos.
+     */
+    private Path directory = Path.of("/config");
+
+    /**
+     * Observa o diretório e recarrega as configurações quando um arquivo muda.
+     */
+    private boolean watch = true;
+
+    /**
+     * Tempo de espera após a primeira alteração antes de recarregar, para agrupar as escritas de um mesmo
+     * salvamento ou {@code git pull}.
+     */
+    private Duration debounce = Duration.ofMillis(500);
+
+    /**
+     * Intervalo de verificação mesmo sem eventos do sistema de arquivos (volumes montados nem sempre
+     * propagam notificações do inotify).
+     */
+    private Duration pollInterval = Duration.ofSeconds(30);
+
+    /**
+     * Notifica as instâncias registradas no Eureka ({@code POST /actuator/refresh}) quando as suas configurações mudam.
+     */
+    private boolean notifyClients = true;
+
+    /**
+     * Tempo máximo de cada notificação de refresh.
+     */
+    private Duration notifyTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Quantidade máxima de combinações aplicação/perfis/label renderizadas mantidas em memória. Acima dela, a
+     * menos usada é descartada. Limita também o trabalho de cada recarga, que renderiza de novo as combinações guardadas.
+     */
+    private int maxCachedEnvironments = 1000;
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public boolean isWatch() {
+        return watch;
+    }
+
+    public void setWatch(boolean watch) {
+        this.watch = watch;
+    }
+
+    public Duration getDebounce() {
+        return debounce;
+    }
+
+    public void setDebounce(Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public boolean isNotifyClients() {
+        return notifyClients;
+    }
+
+    public void setNotifyClients(boolean notifyClients) {
+        this.notifyClients = notifyClients;
+    }
+
+    public Duration getNotifyTimeout() {
+        return notifyTimeout;
+    }
+
+    public void setNotifyTimeout(Duration notifyTimeout) {
+        this.notifyTimeout = notifyTimeout;
+    }
+
+    public int getMaxCachedEnvironments() {
+        return maxCachedEnvironments;
+    }
+
+    public void setMaxCachedEnvironments(int maxCachedEnvironments) {
+        this.maxCachedEnvironments = maxCachedEnvironments;
+    }
+}
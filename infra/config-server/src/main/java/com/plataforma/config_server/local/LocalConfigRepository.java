@@ -0,0 +1,351 @@
+package com.plataforma.config_server.local;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.origin.OriginTrackedValue;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Configurações lidas de um diretório local e mantidas inteiramente em memória.
+ *
+ * Os arquivos são lidos e interpretados uma única vez por versão do diretório; cada combinação
+ * aplicação/perfis/label é renderizada no mesmo JSON do Config Server ({@code Environment}) e guardada
+ * pronta para envio, com o seu ETag. Uma recarga troca o conjunto inteiro de uma vez e renderiza de novo
+ * as combinações já pedidas, de modo que nenhuma requisição lê disco ou interpreta YAML. As combinações
+ * guardadas são limitadas ({@code max-cached-environments}); acima do limite, a menos usada é descartada e
+ * volta a ser renderizada se for pedida de novo.
+ *
+ * A precedência segue a do Config Server: arquivos de perfil antes dos arquivos sem perfil e, em cada
+ * grupo, os da aplicação antes do {@code application.*} compartilhado.
+ */
+public class LocalConfigRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalConfigRepository.class);
+
+    private static final String SHARED_NAME = "application";
+    private static final List<String> ACTIVATION_KEYS = List.of("spring.config.activate.on-profile", "spring.profiles");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final int maxCachedEnvironments;
+    // Separado do monitor do reload(), para que uma remoção do cache não espere uma recarga inteira
+    private final Object evictionLock = new Object();
+    private final PropertySourceLoader yamlLoader = new YamlPropertySourceLoader();
+    private final PropertySourceLoader propertiesLoader = new PropertiesPropertySourceLoader();
+
+    private volatile Snapshot snapshot;
+
+    public LocalConfigRepository(Path directory, ObjectMapper objectMapper, int maxCachedEnvironments) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.objectMapper = objectMapper;
+        this.maxCachedEnvironments = maxCachedEnvironments;
+        if (!Files.isDirectory(this.directory)) {
+            throw new IllegalStateException("Diretório de configuração não encontrado: " + this.directory);
+        }
+        this.snapshot = load(Map.of());
+        prerenderApplications();
+        log.info("Configurações locais carregadas de {}: {} arquivo(s), versão {}",
+                this.directory, snapshot.files().size(), snapshot.version());
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Devolve o ambiente já renderizado, renderizando-o na primeira vez que a combinação é pedida.
+     */
+    public RenderedEnvironment find(String application, String profiles, String label) {
+        // O cache pertence à versão: uma renderização em andamento durante a recarga não contamina a nova versão
+        Snapshot current = snapshot;
+        EnvironmentKey key = new EnvironmentKey(application, profiles, label);
+        CachedEnvironment cached = current.rendered().get(key);
+        if (cached == null) {
+            cached = current.rendered().computeIfAbsent(key, k -> new CachedEnvironment(render(current, k)));
+            if (current.rendered().size() > maxCachedEnvironments) {
+                evictLeastRecentlyUsed(current.rendered());
+            }
+        }
+        cached.lastAccessNanos = System.nanoTime();
+        return cached.environment;
+    }
+
+    /**
+     * Relê o diretório. Se algum arquivo mudou, troca o conjunto em memória e devolve os nomes (sem extensão)
+     * dos arquivos alterados, criados ou removidos; caso contrário devolve um conjunto vazio.
+     */
+    public synchronized Set<String> reload() {
+        Snapshot previous = snapshot;
+        Snapshot current = load(previous.files());
+        Set<String> changed = changedBaseNames(previous, current);
+        if (changed.isEmpty()) {
+            return changed;
+        }
+
+        // O cache anterior já respeita o limite, então a recarga renderiza no máximo max-cached-environments combinações
+        previous.rendered().forEach((key, cached) ->
+                current.rendered().put(key, new CachedEnvironment(render(current, key), cached.lastAccessNanos)));
+        snapshot = current;
+        prerenderApplications();
+        log.info("Configurações locais recarregadas (versão {}): {}", current.version(), changed);
+        return changed;
+    }
+
+    /**
+     * Pré-renderiza o perfil {@code default} de cada aplicação com arquivo próprio no diretório.
+     */
+    private void prerenderApplications() {
+        Set<String> baseNames = new HashSet<>();
+        snapshot.files().values().forEach(file -> baseNames.add(file.baseName()));
+        for (String baseName : baseNames) {
+            boolean profileFile = baseNames.stream()
+                    .anyMatch(other -> !other.equals(baseName) && baseName.startsWith(other + "-"));
+            if (!SHARED_NAME.equals(baseName) && !profileFile) {
+                find(baseName, "default", null);
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed(Map<EnvironmentKey, CachedEnvironment> rendered) {
+        synchronized (evictionLock) {
+            while (rendered.size() > maxCachedEnvironments) {
+                Map.Entry<EnvironmentKey, CachedEnvironment> eldest = null;
+                for (Map.Entry<EnvironmentKey, CachedEnvironment> candidate : rendered.entrySet()) {
+                    if (eldest == null || candidate.getValue().lastAccessNanos < eldest.getValue().lastAccessNanos) {
+                        eldest = candidate;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                rendered.remove(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    private Snapshot load(Map<String, ConfigFile> previous) {
+        Map<String, ConfigFile> files = new TreeMap<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path path : entries.sorted().toList()) {
+                String fileName = path.getFileName().toString();
+                if (fileName.startsWith(".") || !Files.isRegularFile(path) || extension(fileName) == null) {
+                    continue;
+                }
+                byte[] content = Files.readAllBytes(path);
+                String hash = sha256(content);
+                ConfigFile known = previous.get(fileName);
+                files.put(fileName, known != null && known.hash().equals(hash) ? known : parse(path, fileName, content, hash));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o diretório de configuração " + directory, e);
+        }
+
+        StringBuilder digest = new StringBuilder();
+        files.values().forEach(file -> digest.append(file.fileName()).append('=').append(file.hash()).append('\n'));
+        String version = sha256(digest.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+        return new Snapshot(Map.copyOf(files), version, new ConcurrentHashMap<>());
+    }
+
+    private ConfigFile parse(Path path, String fileName, byte[] content, String hash) throws IOException {
+        String extension = extension(fileName);
+        PropertySourceLoader loader = "properties".equals(extension) ? propertiesLoader : yamlLoader;
+        List<PropertySource<?>> sources = loader.load(fileName, new ByteArrayResource(content, path.toString()));
+
+        List<ConfigDocument> documents = new ArrayList<>();
+        for (PropertySource<?> source : sources) {
+            if (!(source instanceof EnumerablePropertySource<?> enumerable)) {
+                continue;
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            List<String> activation = new ArrayList<>();
+            for (String name : enumerable.getPropertyNames()) {
+                Object value = enumerable.getProperty(name);
+                if (value instanceof OriginTrackedValue tracked) {
+                    value = tracked.getValue();
+                }
+                if (ACTIVATION_KEYS.contains(name)) {
+                    Arrays.stream(StringUtils.commaDelimitedListToStringArray(String.valueOf(value)))
+                            .map(String::trim)
+                            .filter(StringUtils::hasText)
+                            .forEach(activation::add);
+                } else {
+                    values.put(name, value);
+                }
+            }
+            // Expressões como em spring.config.activate.on-profile ("!reactive", "prod & eu"); a lista vale se qualquer uma casar
+            documents.add(new ConfigDocument(values, activation.isEmpty() ? null : Profiles.of(activation.toArray(String[]::new))));
+        }
+
+        String baseName = fileName.substring(0, fileName.length() - extension.length() - 1);
+        return new ConfigFile(fileName, baseName, "file:" + path, hash, List.copyOf(documents));
+    }
+
+    private RenderedEnvironment render(Snapshot source, EnvironmentKey key) {
+        List<String> names = splitReversed(key.application());
+        List<String> profiles = splitReversed(key.profiles());
+
+        // Ordem de precedência, da maior para a menor
+        List<String> baseNames = new ArrayList<>();
+        for (String profile : profiles) {
+            names.forEach(name -> baseNames.add(name + "-" + profile));
+            baseNames.add(SHARED_NAME + "-" + profile);
+        }
+        baseNames.addAll(names);
+        baseNames.add(SHARED_NAME);
+
+        Set<String> activeProfiles = new HashSet<>(profiles);
+        List<Map<String, Object>> propertySources = new ArrayList<>();
+        for (String baseName : baseNames.stream().distinct().toList()) {
+            source.files().values().stream()
+                    .filter(file -> file.baseName().equals(baseName))
+                    .forEach(file -> {
+                        Map<String, Object> merged = file.merge(activeProfiles);
+                        if (!merged.isEmpty()) {
+                            Map<String, Object> propertySource = new LinkedHashMap<>();
+                            propertySource.put("name", file.location());
+                            propertySource.put("source", merged);
+                            propertySources.add(propertySource);
+                        }
+                    });
+        }
+
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("name", key.application());
+        environment.put("profiles", StringUtils.commaDelimitedListToStringArray(key.profiles()));
+        environment.put("label", key.label());
+        environment.put("version", source.version());
+        environment.put("state", null);
+        environment.put("propertySources", propertySources);
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(environment);
+            return new RenderedEnvironment(body, "\"" + sha256(body).substring(0, 32) + "\"", source.version());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao renderizar as configurações de " + key.application(), e);
+        }
+    }
+
+    private static Set<String> changedBaseNames(Snapshot previous, Snapshot current) {
+        Set<String> changed = new HashSet<>();
+        current.files().forEach((name, file) -> {
+            ConfigFile old = previous.files().get(name);
+            if (old == null || !old.hash().equals(file.hash())) {
+                changed.add(file.baseName());
+            }
+        });
+        previous.files().forEach((name, file) -> {
+            if (!current.files().containsKey(name)) {
+                changed.add(file.baseName());
+            }
+        });
+        return changed;
+    }
+
+    private static List<String> splitReversed(String value) {
+        List<String> items = new ArrayList<>(Arrays.stream(StringUtils.commaDelimitedListToStringArray(value))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList());
+        Collections.reverse(items);
+        return items;
+    }
+
+    private static String extension(String fileName) {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if (extension == null) {
+            return null;
+        }
+        extension = extension.toLowerCase(Locale.ROOT);
+        return Set.of("yml", "yaml", "properties").contains(extension) ? extension : null;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Ambiente serializado pronto para envio.
+     */
+    public record RenderedEnvironment(byte[] body, String etag, String version) {
+    }
+
+    private record EnvironmentKey(String application, String profiles, String label) {
+    }
+
+    private record Snapshot(Map<String, ConfigFile> files, String version,
+                            Map<EnvironmentKey, CachedEnvironment> rendered) {
+    }
+
+    private static final class CachedEnvironment {
+
+        private final RenderedEnvironment environment;
+        private volatile long lastAccessNanos;
+
+        private CachedEnvironment(RenderedEnvironment environment) {
+            this(environment, System.nanoTime());
+        }
+
+        private CachedEnvironment(RenderedEnvironment environment, long lastAccessNanos) {
+            this.environment = environment;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    /**
+     * @param activation perfis em que o documento vale, ou {@code null} se ele vale sempre.
+     */
+    private record ConfigDocument(Map<String, Object> values, Profiles activation) {
+    }
+
+    private record ConfigFile(String fileName, String baseName, String location, String hash, List<ConfigDocument> documents) {
+
+        /**
+         * Junta os documentos ativos do arquivo; documentos posteriores sobrescrevem os anteriores.
+         */
+        Map<String, Object> merge(Set<String> activeProfiles) {
+            Map<String, Object> merged = new LinkedHashMap<>();
+            for (ConfigDocument document : documents) {
+                boolean active = document.activation() == null
+                        || document.activation().matches(activeProfiles::contains);
+                if (active) {
+                    merged.putAll(document.values());
+                }
+            }
+            return merged;
+        }
+    }
+}
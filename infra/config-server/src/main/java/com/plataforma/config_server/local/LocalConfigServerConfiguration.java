@@ -0,0 +1,40 @@
+package com.plataforma.config_server.local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Modo local do Config Server (perfil {@code local}): as configurações vêm de um diretório no disco
+ * (espelho Git ou volume montado), ficam pré-renderizadas em memória e são recarregadas quando mudam,
+ * sem depender de rede para clonar o repositório.
+ */
+@Configuration
+@Profile("local")
+@EnableConfigurationProperties(LocalConfigProperties.class)
+public class LocalConfigServerConfiguration {
+
+    @Bean
+    public LocalConfigRepository localConfigRepository(LocalConfigProperties properties, ObjectMapper objectMapper) {
+        return new LocalConfigRepository(properties.getDirectory(), objectMapper, properties.getMaxCachedEnvironments());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "plataforma.config.local", name = "watch", havingValue = "true", matchIfMissing = true)
+    public ConfigDirectoryWatcher configDirectoryWatcher(LocalConfigRepository repository,
+                                                         LocalConfigProperties properties,
+                                                         ObjectProvider<DiscoveryClient> discoveryClient,
+                                                         @Value("${spring.application.name}") String applicationName) {
+        DiscoveryClient client = discoveryClient.getIfAvailable();
+        RefreshNotifier notifier = properties.isNotifyClients() && client != null
+                ? new RefreshNotifier(client, applicationName, properties.getNotifyTimeout())
+                : null;
+        return new ConfigDirectoryWatcher(repository, notifier, properties.getDebounce(), properties.getPollInterval());
+    }
+}
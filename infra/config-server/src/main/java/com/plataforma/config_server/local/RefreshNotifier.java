@@ -0,0 +1,81 @@
+package com.plataforma.config_server.local;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Avisa os serviços afetados por uma alteração de configuração chamando {@code POST /actuator/refresh}
+ * em cada instância registrada no Eureka.
+ *
+ * Um arquivo {@code application*} afeta todos os serviços; {@code tenant-service.yml} ou
+ * {@code tenant-service-prod.yml} afetam apenas o {@code tenant-service}. Instâncias sem o endpoint de
+ * refresh exposto são apenas registradas em log e recebem as novas configurações na próxima inicialização.
+ */
+public class RefreshNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshNotifier.class);
+
+    private static final String SHARED_NAME = "application";
+
+    private final DiscoveryClient discoveryClient;
+    private final String selfName;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public RefreshNotifier(DiscoveryClient discoveryClient, String selfName, Duration timeout) {
+        this.discoveryClient = discoveryClient;
+        this.selfName = selfName;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    public void notifyChanged(Collection<String> changedBaseNames) {
+        List<String> services = discoveryClient.getServices().stream()
+                .filter(service -> !service.equalsIgnoreCase(selfName))
+                .filter(service -> affects(changedBaseNames, service))
+                .toList();
+        for (String service : services) {
+            for (ServiceInstance instance : discoveryClient.getInstances(service)) {
+                refresh(service, instance);
+            }
+        }
+    }
+
+    private static boolean affects(Collection<String> changedBaseNames, String service) {
+        String name = service.toLowerCase(Locale.ROOT);
+        return changedBaseNames.stream()
+                .map(baseName -> baseName.toLowerCase(Locale.ROOT))
+                .anyMatch(baseName -> baseName.equals(SHARED_NAME) || baseName.startsWith(SHARED_NAME + "-")
+                        || baseName.equals(name) || baseName.startsWith(name + "-"));
+    }
+
+    private void refresh(String service, ServiceInstance instance) {
+        URI uri = instance.getUri().resolve("/actuator/refresh");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.warn("Falha ao notificar {} em {}: {}", service, uri, error.getMessage());
+                    } else if (response.statusCode() / 100 == 2) {
+                        log.info("Refresh de {} em {}: propriedades alteradas {}", service, uri, response.body());
+                    } else {
+                        log.info("Instância {} em {} não aceitou o refresh (HTTP {})", service, uri, response.statusCode());
+                    }
+                });
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.plataforma.discovery_server.snapshot;
+
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.resources.ServerCodecs;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Snapshot do registro no disco, para que um reinício do Discovery Server não esvazie o registro.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "plataforma.discovery.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RegistrySnapshotProperties.class)
+public class RegistrySnapshotConfiguration {
+
+    @Bean
+    public RegistrySnapshotManager registrySnapshotManager(PeerAwareInstanceRegistry registry, ServerCodecs serverCodecs,
+                                                           RegistrySnapshotProperties properties) {
+        RegistrySnapshotStore store = new RegistrySnapshotStore(properties.getFile(), serverCodecs.getFullJsonCodec());
+        return new RegistrySnapshotManager(registry, store, properties);
+    }
+}
@@ -0,0 +1,188 @@
+package br.com.plataforma.discovery_server.snapshot;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava o registro do Eureka periodicamente e o restaura quando o servidor reinicia.
+ *
+ * Sem o snapshot, o registro começa vazio: os clientes só voltam a aparecer no próximo heartbeat
+ * (que recebe 404 e provoca um novo registro), e até lá o Gateway não resolve as rotas {@code lb://}.
+ * Com ele, as instâncias do snapshot são registradas de novo assim que o registro abre para tráfego.
+ *
+ * As instâncias restauradas são provisórias: se não renovarem o lease (nem se registrarem de novo) em
+ * {@code provisional-timeout}, são removidas, mesmo com a autopreservação do Eureka ativa, que de outra
+ * forma manteria no registro as instâncias que morreram enquanto o servidor estava fora.
+ */
+public class RegistrySnapshotManager implements SmartLifecycle, ApplicationListener<EurekaRegistryAvailableEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrySnapshotManager.class);
+
+    private static final long PROVISIONAL_CHECK_MS = 5_000;
+
+    private final PeerAwareInstanceRegistry registry;
+    private final RegistrySnapshotStore store;
+    private final RegistrySnapshotProperties properties;
+    private final Map<String, Provisional> provisional = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public RegistrySnapshotManager(PeerAwareInstanceRegistry registry, RegistrySnapshotStore store,
+                                   RegistrySnapshotProperties properties) {
+        this.registry = registry;
+        this.store = store;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        // A restauração espera o registro abrir para tráfego (EurekaRegistryAvailableEvent), o que o
+        // Spring Cloud faz em uma thread própria depois do refresh
+        running = true;
+    }
+
+    @Override
+    public void onApplicationEvent(EurekaRegistryAvailableEvent event) {
+        if (scheduler != null) {
+            return;
+        }
+        restore();
+
+        // Só grava depois de restaurar, para não sobrescrever o snapshot com um registro ainda vazio
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "registry-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::saveQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::checkProvisional, PROVISIONAL_CHECK_MS, PROVISIONAL_CHECK_MS, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        // Fase padrão: para antes do servidor Eureka, com o registro ainda completo
+        saveQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void restore() {
+        Optional<RegistrySnapshotStore.Snapshot> snapshot;
+        try {
+            snapshot = store.read();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot do registro em {} ilegível, o registro começa vazio: {}", store.getFile(), e.getMessage());
+            return;
+        }
+        if (snapshot.isEmpty()) {
+            log.info("Nenhum snapshot do registro em {}; o registro começa vazio.", store.getFile());
+            return;
+        }
+
+        Duration age = Duration.between(snapshot.get().savedAt(), Instant.now());
+        if (age.compareTo(properties.getMaxAge()) > 0) {
+            log.info("Snapshot do registro gravado há {} s ignorado (max-age {}).", age.toSeconds(), properties.getMaxAge());
+            return;
+        }
+
+        int restored = 0;
+        for (Application application : snapshot.get().applications().getRegisteredApplications()) {
+            for (InstanceInfo instance : application.getInstances()) {
+                String appName = instance.getAppName();
+                String id = instance.getId();
+                if (registry.getInstanceByAppAndId(appName, id, false) != null) {
+                    continue; // Já se registrou de novo antes da restauração
+                }
+                LeaseInfo leaseInfo = instance.getLeaseInfo();
+                int leaseDuration = leaseInfo != null ? leaseInfo.getDurationInSecs() : LeaseInfo.DEFAULT_LEASE_DURATION;
+                long restoredAt = System.currentTimeMillis();
+                // Como réplica: a restauração não é propagada aos pares, que têm o seu próprio registro
+                registry.register(instance, leaseDuration, true);
+
+                InstanceInfo registered = registry.getInstanceByAppAndId(appName, id, false);
+                long registrationTimestamp = registered != null && registered.getLeaseInfo() != null
+                        ? registered.getLeaseInfo().getRegistrationTimestamp()
+                        : restoredAt;
+                provisional.put(appName + "/" + id, new Provisional(appName, id, registrationTimestamp, restoredAt));
+                restored++;
+            }
+        }
+        log.info("{} instâncias restauradas do snapshot gravado há {} s; ficam provisórias até renovarem o lease.",
+                restored, age.toSeconds());
+    }
+
+    private void checkProvisional() {
+        if (provisional.isEmpty()) {
+            return;
+        }
+        long timeoutMs = properties.getProvisionalTimeout().toMillis();
+        long now = System.currentTimeMillis();
+        provisional.values().removeIf(entry -> {
+            try {
+                InstanceInfo info = registry.getInstanceByAppAndId(entry.appName(), entry.id(), false);
+                LeaseInfo lease = info != null ? info.getLeaseInfo() : null;
+                // Renovou o lease restaurado ou se registrou de novo (novo lease)
+                if (lease != null && (lease.getRegistrationTimestamp() != entry.registrationTimestamp()
+                        || lease.getRenewalTimestamp() > lease.getRegistrationTimestamp())) {
+                    log.debug("Instância restaurada {}/{} confirmada.", entry.appName(), entry.id());
+                    return true;
+                }
+                if (info == null || now - entry.restoredAt() >= timeoutMs) {
+                    if (registry.cancel(entry.appName(), entry.id(), true)) {
+                        log.info("Instância restaurada {}/{} não renovou o lease em {}: removida do registro.",
+                                entry.appName(), entry.id(), properties.getProvisionalTimeout());
+                    }
+                    return true;
+                }
+                return false;
+            } catch (RuntimeException e) {
+                log.warn("Falha ao verificar a instância restaurada {}/{}: {}", entry.appName(), entry.id(), e.getMessage());
+                return false;
+            }
+        });
+    }
+
+    private synchronized void saveQuietly() {
+        try {
+            Applications applications = new Applications();
+            registry.getSortedApplications().forEach(applications::addApplication);
+            store.write(store.encode(applications));
+        } catch (IOException | RuntimeException e) {
+            // Mantém o snapshot anterior; a próxima execução tenta de novo
+            log.warn("Falha ao gravar o snapshot do registro em {}: {}", store.getFile(), e.getMessage());
+        }
+    }
+
+    private record Provisional(String appName, String id, long registrationTimestamp, long restoredAt) {
+    }
+}
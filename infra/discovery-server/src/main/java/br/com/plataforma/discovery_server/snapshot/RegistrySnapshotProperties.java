@@ -0,0 +1,79 @@
+package br.com.plataforma.discovery_server.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configurações do snapshot do registro ({@code plataforma.discovery.snapshot.*}).
+ */
+@ConfigurationProperties(prefix = "plataforma.discovery.snapshot")
+public class RegistrySnapshotProperties {
+
+    /**
+     * Grava o registro periodicamente e o restaura ao iniciar.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Arquivo do snapshot. Em contêiner, deve ficar em um volume para sobreviver à recriação.
+     */
+    private Path file = Path.of(System.getProperty("java.io.tmpdir"), "eureka-registry.json");
+
+    /**
+     * Intervalo entre as gravações. O snapshot só é regravado quando o registro mudou.
+     */
+    private Duration interval = Duration.ofSeconds(30);
+
+    /**
+     * Snapshots mais antigos que isso são ignorados na inicialização: as instâncias provavelmente já mudaram.
+     */
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    /**
+     * Tempo para uma instância restaurada renovar o lease (ou se registrar de novo). Sem isso, ela é removida
+     * do registro, mesmo com a autopreservação do Eureka ativa.
+     */
+    private Duration provisionalTimeout = Duration.ofSeconds(90);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public Duration getProvisionalTimeout() {
+        return provisionalTimeout;
+    }
+
+    public void setProvisionalTimeout(Duration provisionalTimeout) {
+        this.provisionalTimeout = provisionalTimeout;
+    }
+}
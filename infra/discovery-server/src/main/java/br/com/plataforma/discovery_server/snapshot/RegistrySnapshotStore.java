@@ -0,0 +1,79 @@
+package br.com.plataforma.discovery_server.snapshot;
+
+import com.netflix.discovery.converters.wrappers.CodecWrapper;
+import com.netflix.discovery.shared.Applications;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Lê e grava o snapshot do registro no disco, no mesmo JSON que o Eureka usa em {@code /eureka/apps}.
+ *
+ * A gravação é atômica: o conteúdo vai para um arquivo temporário no mesmo diretório, é sincronizado com
+ * o disco e só então substitui o snapshot anterior com um {@code rename}. Uma queda no meio da gravação
+ * deixa o snapshot anterior intacto.
+ */
+public class RegistrySnapshotStore {
+
+    private final Path file;
+    private final CodecWrapper codec;
+
+    public RegistrySnapshotStore(Path file, CodecWrapper codec) {
+        this.file = file;
+        this.codec = codec;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String encode(Applications applications) throws IOException {
+        return codec.encode(applications);
+    }
+
+    public void write(String json) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @return o snapshot gravado e o instante da gravação, ou vazio se ainda não existe.
+     */
+    public Optional<Snapshot> read() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        Instant savedAt = Files.getLastModifiedTime(file).toInstant();
+        Applications applications = codec.decode(Files.readString(file, StandardCharsets.UTF_8), Applications.class);
+        return Optional.of(new Snapshot(savedAt, applications));
+    }
+
+    public record Snapshot(Instant savedAt, Applications applications) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.plataforma.loadtest;
+
+import com.plataforma.loadtest.platform.LoadTestSettings;
+import com.plataforma.loadtest.platform.LocalPlatform;
+import com.plataforma.loadtest.scenario.LoadClient;
+import com.plataforma.loadtest.scenario.LoginStormScenario;
+import com.plataforma.loadtest.scenario.OnboardingBurstScenario;
+import com.plataforma.loadtest.scenario.RegistrationBatchScenario;
+import com.plataforma.loadtest.scenario.RegistrationScenario;
+import com.plataforma.loadtest.scenario.Scenario;
+import com.plataforma.loadtest.scenario.ScenarioRunner;
+import com.plataforma.loadtest.scenario.TenantReadMixScenario;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Teste de carga ponta a ponta: sobe a plataforma localmente ({@link LocalPlatform}) e executa
+ * os cenários pelo Gateway, reportando vazão e latências (p50/p95/p99/máx) por operação.
+ *
+ * Uso:
+ * <pre>
+ * java -jar loadtest/target/loadtest.jar [cenarios=todos] [concorrencia=32] [segundos=60]
+ * </pre>
+ * Cenários: {@code login-storm}, {@code tenant-read-mix}, {@code onboarding-burst}, {@code registration},
+ * {@code registration-batch}, separados por vírgula.
+ */
+public final class LoadTest {
+
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = new LinkedHashMap<>();
+
+    static {
+        SCENARIOS.put("login-storm", LoginStormScenario::new);
+        SCENARIOS.put("tenant-read-mix", TenantReadMixScenario::new);
+        SCENARIOS.put("onboarding-burst", OnboardingBurstScenario::new);
+        SCENARIOS.put("registration", RegistrationScenario::new);
+        SCENARIOS.put("registration-batch", RegistrationBatchScenario::new);
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Scenario> scenarios = new ArrayList<>();
+        String names = args.length > 0 ? args[0] : String.join(",", SCENARIOS.keySet());
+        for (String name : names.split(",")) {
+            Supplier<Scenario> scenario = SCENARIOS.get(name.trim());
+            if (scenario == null) {
+                System.err.println("Cenário desconhecido: " + name + ". Disponíveis: " + SCENARIOS.keySet());
+                System.exit(1);
+            }
+            scenarios.add(scenario.get());
+        }
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (LocalPlatform platform = LocalPlatform.start(settings)) {
+            ScenarioRunner runner = new ScenarioRunner(new LoadClient(platform));
+            for (Scenario scenario : scenarios) {
+                runner.run(scenario, concurrency, settings.warmup(), duration);
+            }
+        }
+    }
+}
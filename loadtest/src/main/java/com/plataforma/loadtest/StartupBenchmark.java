@@ -0,0 +1,97 @@
+package com.plataforma.loadtest;
+
+import com.plataforma.loadtest.platform.LoadTestSettings;
+import com.plataforma.loadtest.platform.StartupProbe;
+import com.plataforma.loadtest.platform.StartupProbe.StartupSample;
+import com.plataforma.loadtest.platform.StartupVariant;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Benchmark de inicialização: para cada serviço e variante ({@code jar}, {@code cds}, {@code aot},
+ * {@code aot+cds}), sobe o serviço várias vezes em JVMs novas e reporta a mediana do tempo de inicialização
+ * e da latência da primeira requisição.
+ *
+ * Uso (na raiz do projeto, depois de {@code mvn install -DskipTests -Pfast-startup}):
+ * <pre>
+ * java -cp loadtest/target/loadtest.jar com.plataforma.loadtest.StartupBenchmark [servicos=todos] [variantes=todas] [execucoes=5]
+ * </pre>
+ * A primeira execução de cada variante aquece o cache de disco do sistema operacional e é descartada.
+ */
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> services = args.length > 0 ? split(args[0]) : StartupProbe.SERVICES;
+        List<StartupVariant> variants = args.length > 1
+                ? split(args[1]).stream().map(StartupVariant::fromId).toList()
+                : List.of(StartupVariant.values());
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (StartupProbe probe = StartupProbe.start(settings)) {
+            for (String service : services) {
+                System.out.printf("%n[startup] %s: %d execuções por variante (logs em %s)%n", service, runs,
+                        settings.workDir().resolve("startup"));
+                System.out.printf("%-10s %12s %12s %14s %12s %12s %12s%n",
+                        "variante", "spring(ms)", "porta(ms)", "1ª req(ms)", "pronto(ms)", "mín(ms)", "máx(ms)");
+                Double baseline = null;
+                for (StartupVariant variant : variants) {
+                    if (!probe.available(service, variant)) {
+                        System.out.printf("%-10s sem artefato (rode 'mvn install -DskipTests -Pfast-startup')%n", variant.id());
+                        continue;
+                    }
+                    probe.train(service, variant);
+                    // Aquecimento: descartado
+                    probe.measure(service, variant);
+
+                    List<StartupSample> samples = new ArrayList<>();
+                    for (int run = 0; run < runs; run++) {
+                        samples.add(probe.measure(service, variant));
+                    }
+                    double ready = median(samples, StartupSample::ready);
+                    List<Double> readyRuns = samples.stream().map(sample -> millis(sample.ready())).sorted().toList();
+                    System.out.printf("%-10s %12.0f %12.0f %14.1f %12.0f %12.0f %12.0f%s%n", variant.id(),
+                            median(samples, StartupSample::spring),
+                            median(samples, StartupSample::port),
+                            median(samples, StartupSample::firstRequest),
+                            ready, readyRuns.get(0), readyRuns.get(readyRuns.size() - 1),
+                            baseline == null ? "" : String.format("  (%+.0f%% vs jar)", (ready / baseline - 1) * 100));
+                    if (variant == StartupVariant.JAR) {
+                        baseline = ready;
+                    }
+                }
+            }
+        }
+    }
+
+    private static double median(List<StartupSample> samples, Function<StartupSample, Duration> metric) {
+        List<Double> values = samples.stream()
+                .map(metric)
+                .filter(Objects::nonNull)
+                .map(StartupBenchmark::millis)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+        if (values.isEmpty()) {
+            return Double.NaN;
+        }
+        int middle = values.size() / 2;
+        return values.size() % 2 == 1 ? values.get(middle) : (values.get(middle - 1) + values.get(middle)) / 2;
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.plataforma.loadtest.platform;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuração do teste de carga, lida das propriedades de sistema ({@code -Dloadtest.*}).
+ *
+ * @param projectRoot raiz do projeto, onde estão os {@code target/app.jar} dos serviços.
+ * @param workDir     diretório dos logs dos processos e arquivos temporários.
+ * @param mongod      binário do MongoDB iniciado como substituto local.
+ * @param mongoUri    MongoDB já em execução; quando definido, nenhum {@code mongod} é iniciado.
+ * @param jvmArgs     opções de JVM de cada serviço.
+ * @param warmup      aquecimento de cada cenário, descartado do resultado.
+ */
+public record LoadTestSettings(Path projectRoot, Path workDir, String mongod, String mongoUri,
+                               List<String> jvmArgs, Duration warmup) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        Path root = Path.of(System.getProperty("loadtest.root", ".")).toAbsolutePath().normalize();
+        return new LoadTestSettings(
+                root,
+                Path.of(System.getProperty("loadtest.work-dir", root.resolve("loadtest/target/run").toString())),
+                System.getProperty("loadtest.mongod", "mongod"),
+                System.getProperty("loadtest.mongo.uri"),
+                List.of(System.getProperty("loadtest.jvm-args", "-Xms256m -Xmx512m -XX:+UseG1GC").trim().split("\\s+")),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.plataforma.loadtest.platform;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A plataforma completa em uma única máquina: MongoDB local, {@link StaticConfigServer} no lugar do
+ * config-server e do repositório Git, e auth-service, tenant-service e gateway como processos locais.
+ *
+ * A descoberta de serviços do Gateway é estática ({@code spring.cloud.discovery.client.simple}), então o
+ * Eureka não é iniciado. As rotas são as mesmas do {@code gateway.yml}: {@code /auth/**} e {@code /api/v1/tenants/**}.
+ */
+public final class LocalPlatform implements AutoCloseable {
+
+    /**
+     * Usuário criado pelo {@code DataInitializer} do auth-service.
+     */
+    public static final String ADMIN_EMAIL = "augustorenanss@gmail.com";
+    public static final String ADMIN_PASSWORD = "12345678";
+
+    private static final String JWT_SECRET = "loadtest-secret-com-pelo-menos-256-bits-para-hs256";
+
+    private final Deque<AutoCloseable> resources = new ArrayDeque<>();
+    private String gatewayUrl;
+
+    private LocalPlatform() {
+    }
+
+    public static LocalPlatform start(LoadTestSettings settings) throws Exception {
+        LocalPlatform platform = new LocalPlatform();
+        try {
+            platform.startAll(settings);
+            return platform;
+        } catch (Exception e) {
+            platform.close();
+            throw e;
+        }
+    }
+
+    private void startAll(LoadTestSettings settings) throws Exception {
+        Files.createDirectories(settings.workDir());
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+        log("Iniciando MongoDB...");
+        MongoStandIn mongo = register(MongoStandIn.start(settings));
+        StaticConfigServer configServer = register(StaticConfigServer.start());
+
+        int authPort = Ports.free();
+        int tenantPort = Ports.free();
+        int gatewayPort = Ports.free();
+
+        configServer.put("auth-service", authServiceConfig(mongo));
+        configServer.put("tenant-service", tenantServiceConfig(mongo));
+        configServer.put("gateway", gatewayConfig(settings, authPort, tenantPort));
+
+        log("Iniciando auth-service e tenant-service...");
+        ServiceProcess authService = register(ServiceProcess.start(settings, "auth-service",
+                settings.projectRoot().resolve("core/auth-service/target/app.jar"), authPort, configServer.uri()));
+        ServiceProcess tenantService = register(ServiceProcess.start(settings, "tenant-service",
+                settings.projectRoot().resolve("core/tenant-service/target/app.jar"), tenantPort, configServer.uri()));
+        authService.awaitReady(client, authService.request("/auth/users").GET().build(),
+                response -> response.statusCode() == 200);
+        tenantService.awaitReady(client, tenantService.request("/api/v1/tenants/entitlements").GET().build(),
+                response -> response.statusCode() == 200);
+
+        log("Iniciando gateway...");
+        ServiceProcess gatewayService = register(ServiceProcess.start(settings, "gateway",
+                settings.projectRoot().resolve("core/gateway/target/app.jar"), gatewayPort, configServer.uri()));
+        // Pronto quando um login atravessa o Gateway: valida rotas, descoberta estática e a chave do JWT
+        gatewayService.awaitReady(client, gatewayService.request("/auth/login")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"" + ADMIN_EMAIL + "\",\"password\":\"" + ADMIN_PASSWORD + "\"}"))
+                        .build(),
+                response -> response.statusCode() == 200);
+        gatewayUrl = gatewayService.baseUrl();
+        log("Plataforma pronta em " + gatewayUrl + " (logs em " + settings.workDir() + ")");
+    }
+
+    static Map<String, Object> authServiceConfig(MongoStandIn mongo) {
+        Map<String, Object> auth = new LinkedHashMap<>();
+        auth.put("spring.data.mongodb.uri", mongo.uri() + "/plataforma_auth_db");
+        auth.put("jwt.secret", JWT_SECRET);
+        return auth;
+    }
+
+    static Map<String, Object> tenantServiceConfig(MongoStandIn mongo) {
+        Map<String, Object> tenant = new LinkedHashMap<>();
+        tenant.put("spring.data.mongodb.uri", mongo.uri() + "/plataforma_db");
+        // O mongod local é isolado (sem replica set) e não aceita transações
+        tenant.put("plataforma.tenant-changes.transactional", "false");
+        return tenant;
+    }
+
+    static Map<String, Object> gatewayConfig(LoadTestSettings settings, int authPort, int tenantPort) {
+        Map<String, Object> gateway = new LinkedHashMap<>();
+        gateway.put("jwt.secret", JWT_SECRET);
+        gateway.put("spring.cloud.discovery.client.simple.instances.auth-service[0].uri", "http://127.0.0.1:" + authPort);
+        gateway.put("spring.cloud.discovery.client.simple.instances.tenant-service[0].uri", "http://127.0.0.1:" + tenantPort);
+        gateway.put("spring.cloud.gateway.routes[0].id", "auth-service");
+        gateway.put("spring.cloud.gateway.routes[0].uri", "lb://auth-service");
+        gateway.put("spring.cloud.gateway.routes[0].predicates[0]", "Path=/auth/**");
+        gateway.put("spring.cloud.gateway.routes[1].id", "tenant-service");
+        gateway.put("spring.cloud.gateway.routes[1].uri", "lb://tenant-service");
+        gateway.put("spring.cloud.gateway.routes[1].predicates[0]", "Path=/api/v1/tenants/**");
+        gateway.put("plataforma.metering.pending-file", settings.workDir().resolve("gateway-usage-pending.json").toString());
+        return gateway;
+    }
+
+    public URI gatewayUri(String path) {
+        return URI.create(gatewayUrl + path);
+    }
+
+    private <T extends AutoCloseable> T register(T resource) {
+        resources.push(resource);
+        return resource;
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+
+    @Override
+    public void close() {
+        // Encerra na ordem inversa: Gateway, serviços, config e por último o MongoDB
+        while (!resources.isEmpty()) {
+            try {
+                resources.pop().close();
+            } catch (Exception e) {
+                log("Falha ao encerrar recurso: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.plataforma.loadtest.platform;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * MongoDB local para o teste de carga: um {@code mongod} iniciado como processo filho, com dados
+ * em um diretório temporário descartado ao final. Não baixa nada; usa o binário já instalado.
+ *
+ * Com {@code -Dloadtest.mongo.uri} um MongoDB já em execução é usado no lugar, e nada é iniciado.
+ */
+public final class MongoStandIn implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String uri;
+    private final Process process;
+    private final Path dataDir;
+
+    private MongoStandIn(String uri, Process process, Path dataDir) {
+        this.uri = uri;
+        this.process = process;
+        this.dataDir = dataDir;
+    }
+
+    static MongoStandIn start(LoadTestSettings settings) throws IOException, InterruptedException {
+        if (settings.mongoUri() != null) {
+            return new MongoStandIn(settings.mongoUri(), null, null);
+        }
+        int port = Ports.free();
+        Path dataDir = Files.createTempDirectory("loadtest-mongo");
+        Path log = settings.workDir().resolve("mongod.log");
+        Process process = new ProcessBuilder(List.of(settings.mongod(),
+                "--dbpath", dataDir.toString(),
+                "--port", String.valueOf(port),
+                "--bind_ip", "127.0.0.1",
+                // Sem coleta de diagnóstico (FTDC) e com cache pequeno: o MongoDB divide a máquina com os serviços
+                "--setParameter", "diagnosticDataCollectionEnabled=false",
+                "--wiredTigerCacheSizeGB", "0.5"))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!Ports.accepting(port)) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                process.destroyForcibly();
+                throw new IllegalStateException("mongod não iniciou; veja " + log);
+            }
+            Thread.sleep(200);
+        }
+        return new MongoStandIn("mongodb://127.0.0.1:" + port, process, dataDir);
+    }
+
+    /**
+     * URI do servidor, sem o nome do banco.
+     */
+    public String uri() {
+        return uri;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (process == null) {
+            return;
+        }
+        process.destroy();
+        try {
+            process.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
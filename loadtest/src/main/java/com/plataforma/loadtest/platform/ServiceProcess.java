@@ -0,0 +1,145 @@
+package com.plataforma.loadtest.platform;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Um serviço da plataforma rodando como processo local, a partir do seu {@code app.jar}.
+ *
+ * Cada serviço tem a própria JVM (heap, GC e JIT separados, como em produção). A saída vai para
+ * {@code <workDir>/<serviço>.log}.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final String name;
+    private final int port;
+    private final Process process;
+    private final Path log;
+    private final long startedAtNanos;
+
+    private ServiceProcess(String name, int port, Process process, Path log, long startedAtNanos) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+        this.log = log;
+        this.startedAtNanos = startedAtNanos;
+    }
+
+    /**
+     * Inicia o serviço. As propriedades passadas aqui valem antes da importação da configuração, por isso
+     * apontam o cliente do Config Server para o {@link StaticConfigServer} e desligam o Eureka.
+     */
+    static ServiceProcess start(LoadTestSettings settings, String name, Path jar, int port, String configServerUri)
+            throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " não encontrado. Rode 'mvn package -DskipTests' na raiz do projeto antes.");
+        }
+        return start(settings, name, List.of("-jar", jar.toString()), port, configServerUri);
+    }
+
+    /**
+     * Inicia o serviço com opções de JVM e forma de execução próprias ({@code launch}, ex.: um arquivo CDS
+     * seguido de {@code -jar}), depois das opções comuns de {@link LoadTestSettings#jvmArgs()}.
+     */
+    static ServiceProcess start(LoadTestSettings settings, String name, List<String> launch, int port,
+                                String configServerUri) throws IOException {
+        Path log = settings.workDir().resolve(name + ".log");
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(settings.jvmArgs());
+        command.addAll(launch);
+        command.add("--spring.cloud.config.discovery.enabled=false");
+        command.add("--spring.cloud.config.uri=" + configServerUri);
+        command.add("--eureka.client.enabled=false");
+        command.add("--server.port=" + port);
+
+        long startedAtNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(name, port, process, log, startedAtNanos);
+    }
+
+    int port() {
+        return port;
+    }
+
+    Path log() {
+        return log;
+    }
+
+    /**
+     * Instante ({@link System#nanoTime()}) em que o processo foi criado.
+     */
+    long startedAtNanos() {
+        return startedAtNanos;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * Aguarda o fim do processo (ex.: uma execução de treino do CDS) e devolve o código de saída.
+     */
+    int awaitExit(Duration timeout) throws InterruptedException {
+        if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException(name + " não terminou em " + timeout + "; veja " + log);
+        }
+        return process.exitValue();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    /**
+     * Aguarda até que a requisição de verificação seja aceita, ou falha se o processo terminar antes.
+     */
+    void awaitReady(HttpClient client, HttpRequest probe, Predicate<HttpResponse<String>> ready)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " terminou durante a inicialização; veja " + log);
+            }
+            try {
+                if (ready.test(client.send(probe, HttpResponse.BodyHandlers.ofString()))) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Ainda não está ouvindo na porta
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(name + " não ficou pronto em " + STARTUP_TIMEOUT + "; veja " + log);
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl() + path)).timeout(Duration.ofSeconds(5));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
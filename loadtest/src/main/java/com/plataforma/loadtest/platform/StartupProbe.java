@@ -0,0 +1,188 @@
+package com.plataforma.loadtest.platform;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mede a inicialização de um serviço isolado: MongoDB local e {@link StaticConfigServer} ficam no ar entre
+ * as execuções, e cada execução é uma JVM nova do serviço.
+ *
+ * Para cada execução são medidos, a partir da criação do processo: o tempo até a porta HTTP aceitar conexões,
+ * a latência da primeira requisição e o tempo até a primeira resposta esperada ("pronto"). O tempo
+ * reportado pelo próprio Spring ({@code process running for}) também é lido do log.
+ */
+public final class StartupProbe implements AutoCloseable {
+
+    /**
+     * Serviços medidos e a requisição que define "pronto" para cada um.
+     */
+    public static final List<String> SERVICES = List.of("gateway", "tenant-service", "auth-service");
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+
+    private final LoadTestSettings settings;
+    private final MongoStandIn mongo;
+    private final StaticConfigServer configServer;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    private StartupProbe(LoadTestSettings settings, MongoStandIn mongo, StaticConfigServer configServer) {
+        this.settings = settings;
+        this.mongo = mongo;
+        this.configServer = configServer;
+    }
+
+    public static StartupProbe start(LoadTestSettings settings) throws IOException, InterruptedException {
+        Files.createDirectories(settings.workDir().resolve("startup"));
+        MongoStandIn mongo = MongoStandIn.start(settings);
+        try {
+            StaticConfigServer configServer = StaticConfigServer.start();
+            configServer.put("auth-service", LocalPlatform.authServiceConfig(mongo));
+            configServer.put("tenant-service", LocalPlatform.tenantServiceConfig(mongo));
+            // Os serviços de destino não sobem: a requisição de verificação do Gateway termina no filtro de JWT
+            configServer.put("gateway", LocalPlatform.gatewayConfig(settings, Ports.free(), Ports.free()));
+            return new StartupProbe(settings, mongo, configServer);
+        } catch (IOException | RuntimeException e) {
+            mongo.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Indica se os artefatos da variante existem (as variantes além de {@code jar} exigem {@code -Pfast-startup}).
+     */
+    public boolean available(String service, StartupVariant variant) {
+        return variant.available(moduleTarget(service));
+    }
+
+    /**
+     * Gera o arquivo CDS da variante com uma execução de treino. Variantes sem CDS não fazem nada.
+     */
+    public void train(String service, StartupVariant variant) throws IOException, InterruptedException {
+        if (!variant.usesCds()) {
+            return;
+        }
+        Path archive = archive(service, variant);
+        Files.deleteIfExists(archive);
+        try (ServiceProcess training = ServiceProcess.start(settings, "startup/" + fileName(service, variant) + "-treino",
+                variant.trainingLaunch(moduleTarget(service), archive), Ports.free(), configServer.uri())) {
+            int exit = training.awaitExit(STARTUP_TIMEOUT);
+            if (exit != 0 || !Files.isRegularFile(archive)) {
+                throw new IllegalStateException("Treino do CDS de " + service + " falhou (saída " + exit + "); veja " + training.log());
+            }
+        }
+    }
+
+    public StartupSample measure(String service, StartupVariant variant) throws IOException, InterruptedException {
+        int port = Ports.free();
+        try (ServiceProcess process = ServiceProcess.start(settings, "startup/" + fileName(service, variant),
+                variant.launch(moduleTarget(service), archive(service, variant)), port, configServer.uri())) {
+            long deadline = process.startedAtNanos() + STARTUP_TIMEOUT.toNanos();
+            while (!Ports.accepting(port)) {
+                checkAlive(process, deadline);
+                Thread.sleep(5);
+            }
+            long portAt = System.nanoTime();
+
+            Probe probe = probe(service);
+            long firstSent = System.nanoTime();
+            int status = send(process, probe);
+            long firstRequestNanos = System.nanoTime() - firstSent;
+            while (status != probe.expectedStatus()) {
+                checkAlive(process, deadline);
+                Thread.sleep(5);
+                status = send(process, probe);
+            }
+            long readyAt = System.nanoTime();
+
+            return new StartupSample(
+                    springStartup(process),
+                    Duration.ofNanos(portAt - process.startedAtNanos()),
+                    Duration.ofNanos(firstRequestNanos),
+                    Duration.ofNanos(readyAt - process.startedAtNanos()));
+        }
+    }
+
+    private int send(ServiceProcess process, Probe probe) throws InterruptedException {
+        try {
+            return client.send(process.request(probe.path()).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void checkAlive(ServiceProcess process, long deadline) {
+        if (!process.isAlive()) {
+            throw new IllegalStateException("O processo terminou durante a inicialização; veja " + process.log());
+        }
+        if (System.nanoTime() > deadline) {
+            throw new IllegalStateException("O serviço não ficou pronto em " + STARTUP_TIMEOUT + "; veja " + process.log());
+        }
+    }
+
+    /**
+     * Tempo de inicialização reportado pelo Spring Boot, ou {@code null} se a linha não aparecer no log.
+     */
+    private static Duration springStartup(ServiceProcess process) throws IOException, InterruptedException {
+        for (int attempt = 0; attempt < 40; attempt++) {
+            Matcher matcher = STARTED.matcher(Files.readString(process.log()));
+            if (matcher.find()) {
+                return Duration.ofMillis(Math.round(Double.parseDouble(matcher.group(1)) * 1000));
+            }
+            Thread.sleep(50);
+        }
+        return null;
+    }
+
+    private static Probe probe(String service) {
+        return switch (service) {
+            // Rota protegida sem token: exercita a cadeia de filtros de segurança sem depender dos serviços de destino
+            case "gateway" -> new Probe("/api/v1/tenants", 401);
+            case "tenant-service" -> new Probe("/api/v1/tenants/entitlements", 200);
+            case "auth-service" -> new Probe("/auth/users", 200);
+            default -> throw new IllegalArgumentException("Serviço desconhecido: " + service + ". Disponíveis: " + SERVICES);
+        };
+    }
+
+    private Path moduleTarget(String service) {
+        probe(service);
+        return settings.projectRoot().resolve("core").resolve(service).resolve("target");
+    }
+
+    private Path archive(String service, StartupVariant variant) {
+        return settings.workDir().resolve("startup").resolve(fileName(service, variant) + ".jsa");
+    }
+
+    private static String fileName(String service, StartupVariant variant) {
+        return service + "-" + variant.id().replace('+', '-');
+    }
+
+    @Override
+    public void close() throws IOException {
+        configServer.close();
+        mongo.close();
+    }
+
+    private record Probe(String path, int expectedStatus) {
+    }
+
+    /**
+     * Uma execução medida.
+     *
+     * @param spring       tempo reportado pelo Spring Boot ({@code process running for}); {@code null} se ausente.
+     * @param port         da criação do processo até a porta HTTP aceitar conexões.
+     * @param firstRequest latência da primeira requisição enviada.
+     * @param ready        da criação do processo até a primeira resposta com o status esperado.
+     */
+    public record StartupSample(Duration spring, Duration port, Duration firstRequest, Duration ready) {
+    }
+}
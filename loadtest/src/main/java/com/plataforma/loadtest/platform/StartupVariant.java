@@ -0,0 +1,88 @@
+package com.plataforma.loadtest.platform;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formas de iniciar um serviço comparadas pelo benchmark de inicialização.
+ *
+ * {@code jar} é o JAR executável do build padrão, que o perfil Maven {@code fast-startup} gera como
+ * {@code app-exec.jar}. As demais usam o {@code target/app.jar} com as dependências em {@code target/lib/},
+ * gerados pelo mesmo perfil, da mesma forma que o {@code Dockerfile.fast-startup} de cada serviço.
+ */
+public enum StartupVariant {
+
+    JAR("jar", false, false),
+    CDS("cds", false, true),
+    AOT("aot", true, false),
+    AOT_CDS("aot+cds", true, true);
+
+    private final String id;
+    private final boolean aot;
+    private final boolean cds;
+
+    StartupVariant(String id, boolean aot, boolean cds) {
+        this.id = id;
+        this.aot = aot;
+        this.cds = cds;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public boolean usesCds() {
+        return cds;
+    }
+
+    public static StartupVariant fromId(String id) {
+        for (StartupVariant variant : values()) {
+            if (variant.id.equals(id)) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("Variante desconhecida: " + id + ". Disponíveis: jar, cds, aot, aot+cds");
+    }
+
+    boolean available(Path moduleTarget) {
+        return this == JAR
+                ? Files.isRegularFile(moduleTarget.resolve("app-exec.jar"))
+                : Files.isRegularFile(moduleTarget.resolve("app.jar")) && Files.isDirectory(moduleTarget.resolve("lib"));
+    }
+
+    /**
+     * Opções de JVM e {@code -jar} de uma execução medida.
+     */
+    List<String> launch(Path moduleTarget, Path archive) {
+        List<String> launch = new ArrayList<>();
+        if (cds) {
+            launch.add("-XX:SharedArchiveFile=" + archive);
+        }
+        addCommon(launch, moduleTarget);
+        return launch;
+    }
+
+    /**
+     * Opções da execução de treino, que sobe o contexto até o fim do refresh e grava o arquivo CDS ao sair.
+     */
+    List<String> trainingLaunch(Path moduleTarget, Path archive) {
+        List<String> launch = new ArrayList<>();
+        launch.add("-XX:ArchiveClassesAtExit=" + archive);
+        launch.add("-Dspring.context.exit=onRefresh");
+        addCommon(launch, moduleTarget);
+        return launch;
+    }
+
+    private void addCommon(List<String> launch, Path moduleTarget) {
+        if (aot) {
+            launch.add("-Dspring.aot.enabled=true");
+            // Com AOT as condições são avaliadas no build (Eureka habilitado); aqui o cliente só fica inativo
+            launch.add("-Deureka.client.register-with-eureka=false");
+            launch.add("-Deureka.client.fetch-registry=false");
+        }
+        launch.add("-jar");
+        launch.add(moduleTarget.resolve(this == JAR ? "app-exec.jar" : "app.jar").toString());
+    }
+}
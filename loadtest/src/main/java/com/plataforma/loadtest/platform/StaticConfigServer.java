@@ -0,0 +1,84 @@
+package com.plataforma.loadtest.platform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Substituto do config-server para o teste de carga.
+ *
+ * Responde {@code GET /{aplicação}/{profiles}[/{label}]} no mesmo formato do Spring Cloud Config Server,
+ * com as propriedades registradas em memória para cada serviço. Os serviços sobem pelo mesmo caminho
+ * de produção ({@code spring.config.import: configserver:}), só que sem Git, Eureka nem rede.
+ */
+public final class StaticConfigServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, Object>> properties = new ConcurrentHashMap<>();
+
+    private StaticConfigServer(HttpServer server) {
+        this.server = server;
+    }
+
+    static StaticConfigServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), Ports.free()), 0);
+        StaticConfigServer configServer = new StaticConfigServer(server);
+        server.createContext("/", configServer::handle);
+        server.start();
+        return configServer;
+    }
+
+    public String uri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Define as propriedades servidas para uma aplicação ({@code spring.application.name}).
+     */
+    void put(String application, Map<String, Object> applicationProperties) {
+        properties.put(application, new LinkedHashMap<>(applicationProperties));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        if (!"GET".equals(exchange.getRequestMethod()) || segments.length < 3) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        String application = segments[1];
+        Map<String, Object> source = properties.get(application);
+
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("name", application);
+        environment.put("profiles", List.of(segments[2].split(",")));
+        environment.put("label", null);
+        environment.put("version", null);
+        environment.put("state", null);
+        environment.put("propertySources", source == null
+                ? List.of()
+                : List.of(Map.of("name", "loadtest:" + application, "source", source)));
+
+        byte[] body = objectMapper.writeValueAsBytes(environment);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
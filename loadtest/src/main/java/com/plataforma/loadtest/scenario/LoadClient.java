@@ -0,0 +1,127 @@
+package com.plataforma.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plataforma.loadtest.platform.LocalPlatform;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP do teste de carga. Todas as chamadas passam pelo Gateway, como as de um cliente real.
+ *
+ * Os métodos de preparação ({@link #login}, {@link #createTenant}) não entram nas medições; durante
+ * a medição as requisições são montadas aqui e enviadas por {@link Session#call}.
+ */
+public final class LoadClient {
+
+    public static final String PASSWORD = "loadtest-senha";
+
+    private final LocalPlatform platform;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public LoadClient(LocalPlatform platform) {
+        this.platform = platform;
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    HttpRequest.Builder get(String path, String token) {
+        return request(path, token).GET();
+    }
+
+    HttpRequest.Builder post(String path, String token, Object body) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)));
+    }
+
+    HttpRequest register(String email) {
+        return post("/auth/register", null, Map.of("email", email, "password", PASSWORD)).build();
+    }
+
+    HttpRequest register(String email, String idempotencyKey) {
+        return post("/auth/register", null, Map.of("email", email, "password", PASSWORD))
+                .header("Idempotency-Key", idempotencyKey)
+                .build();
+    }
+
+    HttpRequest registerBatch(String token, List<String> emails) {
+        List<Map<String, String>> users = emails.stream()
+                .map(email -> Map.of("email", email, "password", PASSWORD))
+                .toList();
+        return post("/auth/register/batch", token, Map.of("users", users)).build();
+    }
+
+    HttpRequest login(String email, String password) {
+        return post("/auth/login", null, Map.of("email", email, "password", password)).build();
+    }
+
+    HttpRequest createTenant(String token, String name) {
+        return post("/api/v1/tenants", token, Map.of("name", name, "subscribedModules", Set.of("mod-oficina"))).build();
+    }
+
+    /**
+     * Login fora da medição; o corpo da resposta é o próprio token.
+     */
+    String loginForSetUp(String email, String password) throws IOException, InterruptedException {
+        return expect(200, send(login(email, password)));
+    }
+
+    /**
+     * Cria um Tenant fora da medição e devolve o seu ID.
+     */
+    String createTenantForSetUp(String token, String name) throws IOException, InterruptedException {
+        return readTree(expect(201, send(createTenant(token, name)))).get("id").asText();
+    }
+
+    JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(platform.gatewayUri(path)).timeout(Duration.ofSeconds(10));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String expect(int status, HttpResponse<String> response) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException(response.request().method() + " " + response.uri() + " retornou "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
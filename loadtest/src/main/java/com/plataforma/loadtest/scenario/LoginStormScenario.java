@@ -0,0 +1,36 @@
+package com.plataforma.loadtest.scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tempestade de logins: muitos usuários autenticando ao mesmo tempo (ex.: início do expediente).
+ * Exercita o BCrypt do auth-service, a emissão do JWT e o roteamento do Gateway.
+ */
+public final class LoginStormScenario implements Scenario {
+
+    private static final int USERS = 200;
+
+    private final List<String> emails = new ArrayList<>(USERS);
+
+    @Override
+    public String name() {
+        return "login-storm";
+    }
+
+    @Override
+    public void setUp(LoadClient client) throws Exception {
+        for (int i = 0; i < USERS; i++) {
+            String email = "login-" + i + "@loadtest.plataforma";
+            // 409 se o usuário já existir (MongoDB reaproveitado com -Dloadtest.mongo.uri)
+            client.send(client.register(email));
+            emails.add(email);
+        }
+    }
+
+    @Override
+    public void iteration(Session session) throws Exception {
+        String email = emails.get(session.random().nextInt(emails.size()));
+        session.call("login", session.client().login(email, LoadClient.PASSWORD), 200);
+    }
+}
@@ -0,0 +1,35 @@
+package com.plataforma.loadtest.scenario;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rajada de novos clientes: cada iteração cadastra um usuário, faz login e cria o seu Tenant.
+ * Concentra as escritas (índices únicos, auditoria, feed de alterações) e o BCrypt do cadastro.
+ */
+public final class OnboardingBurstScenario implements Scenario {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+
+    @Override
+    public String name() {
+        return "onboarding-burst";
+    }
+
+    @Override
+    public void iteration(Session session) throws Exception {
+        long n = sequence.incrementAndGet();
+        String email = "cliente-" + n + "-" + run + "@loadtest.plataforma";
+        LoadClient client = session.client();
+
+        if (session.call("register", client.register(email), 201) == null) {
+            return;
+        }
+        HttpResponse<String> login = session.call("login", client.login(email, LoadClient.PASSWORD), 200);
+        if (login == null) {
+            return;
+        }
+        session.call("create-tenant", client.createTenant(login.body(), "Cliente " + n + " " + run), 201);
+    }
+}
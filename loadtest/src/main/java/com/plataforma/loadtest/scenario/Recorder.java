@@ -0,0 +1,66 @@
+package com.plataforma.loadtest.scenario;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências e erros por operação de um cliente virtual.
+ */
+final class Recorder {
+
+    private final Map<String, Operation> operations = new TreeMap<>();
+
+    void record(String operation, long nanos) {
+        operations.computeIfAbsent(operation, name -> new Operation()).add(nanos);
+    }
+
+    void error(String operation) {
+        operations.computeIfAbsent(operation, name -> new Operation()).errors++;
+    }
+
+    void mergeInto(Recorder total) {
+        operations.forEach((name, operation) -> {
+            Operation target = total.operations.computeIfAbsent(name, key -> new Operation());
+            for (int i = 0; i < operation.size; i++) {
+                target.add(operation.latencies[i]);
+            }
+            target.errors += operation.errors;
+        });
+    }
+
+    Map<String, Operation> operations() {
+        return operations;
+    }
+
+    /**
+     * Lista de latências sem boxing, para que o próprio gerador de carga não gere lixo durante a medição.
+     */
+    static final class Operation {
+
+        private long[] latencies = new long[4096];
+        private int size;
+        private long errors;
+
+        private void add(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        int count() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        long[] sorted() {
+            long[] values = Arrays.copyOf(latencies, size);
+            Arrays.sort(values);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.plataforma.loadtest.scenario;
+
+import com.plataforma.loadtest.platform.LocalPlatform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cadastros em lote ({@code POST /auth/register/batch}) de 50 novos usuários por requisição, como numa
+ * importação. Os cadastros por segundo são as requisições por segundo de {@code register-batch} vezes 50.
+ */
+public final class RegistrationBatchScenario implements Scenario {
+
+    static final int BATCH_SIZE = 50;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private String token;
+
+    @Override
+    public String name() {
+        return "registration-batch";
+    }
+
+    @Override
+    public void setUp(LoadClient client) throws Exception {
+        token = client.loginForSetUp(LocalPlatform.ADMIN_EMAIL, LocalPlatform.ADMIN_PASSWORD);
+    }
+
+    @Override
+    public void iteration(Session session) throws Exception {
+        List<String> emails = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            emails.add("lote-" + sequence.incrementAndGet() + "-" + run + "@loadtest.plataforma");
+        }
+        session.call("register-batch", session.client().registerBatch(token, emails), 200);
+    }
+}
@@ -0,0 +1,38 @@
+package com.plataforma.loadtest.scenario;
+
+import java.net.http.HttpRequest;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cadastros individuais de novos usuários, com {@code Idempotency-Key}. Em 20% das iterações o cliente
+ * reenvia o mesmo cadastro, como após um timeout. A vazão de cadastros é a de {@code register}.
+ *
+ * O reenvio aceita {@code 201} (resposta guardada pela chave) e {@code 409} (e-mail já cadastrado), para
+ * que o cenário também rode em versões do auth-service sem suporte a {@code Idempotency-Key}.
+ */
+public final class RegistrationScenario implements Scenario {
+
+    private static final int RETRY_PERCENT = 20;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+
+    @Override
+    public String name() {
+        return "registration";
+    }
+
+    @Override
+    public void iteration(Session session) throws Exception {
+        String email = "cadastro-" + sequence.incrementAndGet() + "-" + run + "@loadtest.plataforma";
+        HttpRequest register = session.client().register(email, UUID.randomUUID().toString());
+
+        if (session.call("register", register, 201) == null) {
+            return;
+        }
+        if (session.random().nextInt(100) < RETRY_PERCENT) {
+            session.call("register-retry", register, 201, 409);
+        }
+    }
+}
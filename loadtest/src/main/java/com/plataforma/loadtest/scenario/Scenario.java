@@ -0,0 +1,15 @@
+package com.plataforma.loadtest.scenario;
+
+/**
+ * Um cenário de carga: uma preparação fora da medição e uma iteração repetida por cada cliente
+ * virtual enquanto durar a medição. Uma iteração pode fazer várias requisições (ex.: cadastro e login).
+ */
+public interface Scenario {
+
+    String name();
+
+    default void setUp(LoadClient client) throws Exception {
+    }
+
+    void iteration(Session session) throws Exception;
+}
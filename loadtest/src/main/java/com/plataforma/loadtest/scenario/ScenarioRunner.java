@@ -0,0 +1,93 @@
+package com.plataforma.loadtest.scenario;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executa um cenário com N clientes virtuais (virtual threads): aquecimento descartado e depois a medição.
+ */
+public final class ScenarioRunner {
+
+    private final LoadClient client;
+
+    public ScenarioRunner(LoadClient client) {
+        this.client = client;
+    }
+
+    public void run(Scenario scenario, int concurrency, Duration warmup, Duration duration) throws Exception {
+        System.out.printf("%n[loadtest] Cenário %s: preparando...%n", scenario.name());
+        scenario.setUp(client);
+        System.out.printf("[loadtest] Cenário %s: aquecimento de %ds e medição de %ds com %d clientes%n",
+                scenario.name(), warmup.toSeconds(), duration.toSeconds(), concurrency);
+        measure(scenario, concurrency, warmup);
+        Result result = measure(scenario, concurrency, duration);
+        print(scenario, result, duration);
+    }
+
+    private Result measure(Scenario scenario, int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong iterations = new AtomicLong();
+        AtomicLong failedIterations = new AtomicLong();
+
+        List<Future<Recorder>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    Session session = new Session(client, recorder);
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            scenario.iteration(session);
+                            iterations.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        } catch (Exception e) {
+                            failedIterations.incrementAndGet();
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> worker : workers) {
+            worker.get().mergeInto(total);
+        }
+        return new Result(total, iterations.get(), failedIterations.get());
+    }
+
+    private static void print(Scenario scenario, Result result, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf("[loadtest] %s: %.1f iterações/s (%d falhas de iteração)%n", scenario.name(),
+                result.iterations / seconds, result.failedIterations);
+        System.out.printf("%-20s %10s %10s %10s %10s %10s %10s %8s%n",
+                "Operação", "Total", "req/s", "p50 ms", "p95 ms", "p99 ms", "máx ms", "Erros");
+        for (Map.Entry<String, Recorder.Operation> entry : result.recorder.operations().entrySet()) {
+            Recorder.Operation operation = entry.getValue();
+            long[] sorted = operation.sorted();
+            System.out.printf("%-20s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n", entry.getKey(),
+                    operation.count(), operation.count() / seconds, percentile(sorted, 50), percentile(sorted, 95),
+                    percentile(sorted, 99), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0,
+                    operation.errors());
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(Recorder recorder, long iterations, long failedIterations) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.plataforma.loadtest.scenario;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estado de um cliente virtual. Cada um tem as suas próprias estatísticas, somadas ao final,
+ * para que a medição não dispute estruturas compartilhadas.
+ */
+public final class Session {
+
+    private final LoadClient client;
+    private final Recorder recorder;
+
+    Session(LoadClient client, Recorder recorder) {
+        this.client = client;
+        this.recorder = recorder;
+    }
+
+    public LoadClient client() {
+        return client;
+    }
+
+    public ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Envia a requisição e registra a latência na operação. Respostas com status fora de
+     * {@code expectedStatuses} e falhas de conexão contam como erro da operação.
+     *
+     * @return a resposta, ou {@code null} em caso de erro.
+     */
+    public HttpResponse<String> call(String operation, HttpRequest request, int... expectedStatuses)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request);
+        } catch (IOException e) {
+            recorder.error(operation);
+            return null;
+        }
+        long elapsed = System.nanoTime() - start;
+        for (int status : expectedStatuses) {
+            if (response.statusCode() == status) {
+                recorder.record(operation, elapsed);
+                return response;
+            }
+        }
+        recorder.error(operation);
+        return null;
+    }
+}
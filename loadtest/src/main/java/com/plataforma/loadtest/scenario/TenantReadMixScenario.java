@@ -0,0 +1,80 @@
+package com.plataforma.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carga de leitura de Tenants, a mais comum em produção. Cada iteração sorteia uma operação:
+ * <ul>
+ *     <li>50% busca por ID ({@code GET /{id}});</li>
+ *     <li>20% busca por nome ({@code GET /search});</li>
+ *     <li>15% busca em lote de 20 IDs ({@code POST /batch});</li>
+ *     <li>10% listagem condicional com {@code If-None-Match} (normalmente 304);</li>
+ *     <li>5% listagem completa.</li>
+ * </ul>
+ */
+public final class TenantReadMixScenario implements Scenario {
+
+    private static final int TENANTS = 1000;
+    private static final int BATCH_SIZE = 20;
+
+    private final List<String> tenantIds = new ArrayList<>(TENANTS);
+    private String token;
+    private volatile String listETag = "\"inicial\"";
+
+    @Override
+    public String name() {
+        return "tenant-read-mix";
+    }
+
+    @Override
+    public void setUp(LoadClient client) throws Exception {
+        client.send(client.register("leitura@loadtest.plataforma"));
+        token = client.loginForSetUp("leitura@loadtest.plataforma", LoadClient.PASSWORD);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < TENANTS; i++) {
+            tenantIds.add(client.createTenantForSetUp(token, String.format("Empresa %04d %s", i, run)));
+        }
+    }
+
+    @Override
+    public void iteration(Session session) throws Exception {
+        LoadClient client = session.client();
+        int dice = session.random().nextInt(100);
+        if (dice < 50) {
+            session.call("get-by-id", client.get("/api/v1/tenants/" + randomId(session), token).build(), 200);
+        } else if (dice < 70) {
+            // Prefixo de "Empresa 0042 ...", como o autocompletar digitando
+            String query = String.format("empresa+%03d", session.random().nextInt(100));
+            session.call("search", client.get("/api/v1/tenants/search?q=" + query, token).build(), 200);
+        } else if (dice < 85) {
+            List<String> ids = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                ids.add(randomId(session));
+            }
+            session.call("batch", client.post("/api/v1/tenants/batch", token, Map.of("ids", ids)).build(), 200);
+        } else if (dice < 95) {
+            HttpResponse<String> response = session.call("list-if-none-match",
+                    client.get("/api/v1/tenants", token).header("If-None-Match", listETag).build(), 200, 304);
+            if (response != null) {
+                response.headers().firstValue("ETag").ifPresent(etag -> listETag = etag);
+            }
+        } else {
+            HttpResponse<String> response = session.call("list", client.get("/api/v1/tenants", token).build(), 200);
+            if (response != null) {
+                JsonNode tenants = client.readTree(response.body());
+                if (tenants.size() < TENANTS) {
+                    throw new IllegalStateException("Listagem incompleta: " + tenants.size() + " tenants");
+                }
+            }
+        }
+    }
+
+    private String randomId(Session session) {
+        return tenantIds.get(session.random().nextInt(tenantIds.size()));
+    }
+}